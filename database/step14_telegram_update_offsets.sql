@@ -0,0 +1,18 @@
+-- Paso 14: Último update_id procesado por el bot de Telegram
+-- Permite descartar actualizaciones reenviadas por Telegram tras un reinicio
+
+CREATE TABLE IF NOT EXISTS telegram_update_offsets (
+    bot_username VARCHAR(255) PRIMARY KEY,
+    last_update_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- Comentarios para documentación
+COMMENT ON TABLE telegram_update_offsets IS 'Último update_id de Telegram procesado por cada bot';
+COMMENT ON COLUMN telegram_update_offsets.bot_username IS 'Username del bot';
+COMMENT ON COLUMN telegram_update_offsets.last_update_id IS 'Mayor update_id cuyo procesamiento terminó';
+COMMENT ON COLUMN telegram_update_offsets.updated_at IS 'Fecha de la última actualización';
+
+-- Log the migration
+INSERT INTO migration_log (script_name, execution_date)
+VALUES ('step14_telegram_update_offsets.sql', NOW());
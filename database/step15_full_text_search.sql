@@ -0,0 +1,45 @@
+-- Paso 15: Búsqueda de texto completo en productos y negocios
+-- Reemplaza LOWER(x) LIKE '%término%' (recorrido completo de la tabla) por columnas tsvector
+-- generadas con índices GIN, sin tildes y con raíces en español, ordenadas por ts_rank_cd
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- Configuración de texto "spanish" que además quita las tildes (cámara = camara)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'es_unaccent') THEN
+        CREATE TEXT SEARCH CONFIGURATION public.es_unaccent (COPY = pg_catalog.spanish);
+        ALTER TEXT SEARCH CONFIGURATION public.es_unaccent
+            ALTER MAPPING FOR hword, hword_part, word
+            WITH unaccent, spanish_stem;
+    END IF;
+END
+$$;
+
+-- Columnas generadas: to_tsvector con la configuración explícita es IMMUTABLE.
+-- El nombre pesa más (A) que la categoría (B) y que la descripción o dirección (C/D)
+ALTER TABLE products ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('public.es_unaccent'::regconfig, coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('public.es_unaccent'::regconfig, coalesce(description, '')), 'C')
+    ) STORED;
+
+ALTER TABLE businesses ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('public.es_unaccent'::regconfig, coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('public.es_unaccent'::regconfig, coalesce(category, '')), 'B') ||
+        setweight(to_tsvector('public.es_unaccent'::regconfig, coalesce(address, '')), 'D')
+    ) STORED;
+
+-- Índices GIN (en producción conviene crearlos con CREATE INDEX CONCURRENTLY fuera de una transacción)
+CREATE INDEX IF NOT EXISTS idx_products_search_vector ON products USING GIN(search_vector);
+CREATE INDEX IF NOT EXISTS idx_businesses_search_vector ON businesses USING GIN(search_vector);
+
+-- Comentarios para documentación
+COMMENT ON TEXT SEARCH CONFIGURATION public.es_unaccent IS 'Español sin tildes para búsquedas de texto completo';
+COMMENT ON COLUMN products.search_vector IS 'Nombre (A) y descripción (C) para búsqueda de texto completo';
+COMMENT ON COLUMN businesses.search_vector IS 'Nombre (A), categoría (B) y dirección (D) para búsqueda de texto completo';
+
+-- Log the migration
+INSERT INTO migration_log (script_name, execution_date)
+VALUES ('step15_full_text_search.sql', NOW());
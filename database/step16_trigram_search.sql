@@ -0,0 +1,36 @@
+-- Paso 16: Búsqueda tolerante a errores de tipeo con pg_trgm
+-- "ferreteria", "panaderias" o "tornilos" encuentran "Ferretería", "Panadería" y "Tornillos"
+-- con una sola consulta indexada por similitud de trigramas
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- Clave de búsqueda: minúsculas y sin tildes. unaccent() no es IMMUTABLE (depende del diccionario
+-- por defecto); con el diccionario explícito se puede declarar IMMUTABLE y usar en índices
+CREATE OR REPLACE FUNCTION public.f_search_key(value TEXT)
+RETURNS TEXT
+LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, value))
+$$;
+
+-- Índices GIN de trigramas (soportan %, <% y ORDER BY por similitud con LIMIT)
+CREATE INDEX IF NOT EXISTS idx_businesses_name_trgm
+    ON businesses USING GIN (public.f_search_key(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_businesses_category_trgm
+    ON businesses USING GIN (public.f_search_key(category) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_products_name_trgm
+    ON products USING GIN (public.f_search_key(name) gin_trgm_ops);
+
+-- Los operadores % y <% filtran con pg_trgm.similarity_threshold (0.3) y
+-- pg_trgm.word_similarity_threshold (0.6); alexia.search.fuzzy.threshold solo puede ser más estricto.
+-- Para umbrales más bajos:
+-- ALTER DATABASE <base> SET pg_trgm.similarity_threshold = 0.2;
+-- ALTER DATABASE <base> SET pg_trgm.word_similarity_threshold = 0.4;
+
+-- Comentarios para documentación
+COMMENT ON FUNCTION public.f_search_key(TEXT) IS 'Texto en minúsculas y sin tildes para índices de búsqueda';
+
+-- Log the migration
+INSERT INTO migration_log (script_name, execution_date)
+VALUES ('step16_trigram_search.sql', NOW());
@@ -0,0 +1,27 @@
+-- Paso 17: Claves de búsqueda normalizadas en negocios y productos
+-- name_key y category_key guardan el texto en minúsculas, sin tildes y sin plurales
+-- (TextNormalizer.searchKey: "Panaderías" → "panaderia"), para buscar por igualdad o prefijo
+-- con índice en lugar de aplicar LOWER() a cada fila.
+-- Las mantiene SearchKeyListener al guardar; las filas existentes las completa SearchKeyBackfill
+-- al arrancar la aplicación (la normalización está en Java, no en SQL).
+
+ALTER TABLE businesses ADD COLUMN IF NOT EXISTS name_key VARCHAR(255);
+ALTER TABLE businesses ADD COLUMN IF NOT EXISTS category_key VARCHAR(100);
+ALTER TABLE products ADD COLUMN IF NOT EXISTS name_key VARCHAR(255);
+ALTER TABLE products ADD COLUMN IF NOT EXISTS category_key VARCHAR(100);
+
+-- text_pattern_ops sirve para = y para LIKE 'prefijo%' con cualquier collation
+CREATE INDEX IF NOT EXISTS idx_businesses_name_key ON businesses(name_key text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_businesses_category_key ON businesses(category_key text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_products_name_key ON products(name_key text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_products_category_key ON products(category_key text_pattern_ops);
+
+-- Comentarios para documentación
+COMMENT ON COLUMN businesses.name_key IS 'Nombre normalizado para búsqueda (minúsculas, sin tildes ni plurales)';
+COMMENT ON COLUMN businesses.category_key IS 'Categoría normalizada para búsqueda (minúsculas, sin tildes ni plurales)';
+COMMENT ON COLUMN products.name_key IS 'Nombre normalizado para búsqueda (minúsculas, sin tildes ni plurales)';
+COMMENT ON COLUMN products.category_key IS 'Categoría normalizada para búsqueda (minúsculas, sin tildes ni plurales)';
+
+-- Log the migration
+INSERT INTO migration_log (script_name, execution_date)
+VALUES ('step17_search_keys.sql', NOW());
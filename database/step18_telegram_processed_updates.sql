@@ -0,0 +1,23 @@
+-- Paso 18: update_id de Telegram reclamados en modo webhook
+-- Con varias instancias, solo la que inserta el update_id lo procesa (INSERT ... ON CONFLICT DO NOTHING)
+
+CREATE TABLE IF NOT EXISTS telegram_processed_updates (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    bot_username VARCHAR(255) NOT NULL,
+    update_id BIGINT NOT NULL,
+    received_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT uk_telegram_processed_updates UNIQUE (bot_username, update_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_telegram_processed_updates_received_at
+    ON telegram_processed_updates (received_at);
+
+-- Comentarios para documentación
+COMMENT ON TABLE telegram_processed_updates IS 'update_id de Telegram reclamados por alguna instancia (modo webhook)';
+COMMENT ON COLUMN telegram_processed_updates.bot_username IS 'Username del bot';
+COMMENT ON COLUMN telegram_processed_updates.update_id IS 'update_id reclamado';
+COMMENT ON COLUMN telegram_processed_updates.received_at IS 'Fecha del reclamo, para borrar los vencidos';
+
+-- Log the migration
+INSERT INTO migration_log (script_name, execution_date)
+VALUES ('step18_telegram_processed_updates.sql', NOW());
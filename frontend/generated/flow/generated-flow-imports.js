@@ -0,0 +1,90 @@
+import 'Frontend/generated/jar-resources/flow-component-renderer.js';
+import '@vaadin/polymer-legacy-adapter/style-modules.js';
+import 'Frontend/generated/jar-resources/vaadin-grid-flow-selection-column.js';
+import '@vaadin/app-layout/src/vaadin-app-layout.js';
+import '@vaadin/tooltip/src/vaadin-tooltip.js';
+import '@vaadin/tabs/src/vaadin-tab.js';
+import '@vaadin/button/src/vaadin-button.js';
+import 'Frontend/generated/jar-resources/buttonFunctions.js';
+import '@vaadin/form-layout/src/vaadin-form-layout.js';
+import '@vaadin/dialog/src/vaadin-dialog.js';
+import '@vaadin/vertical-layout/src/vaadin-vertical-layout.js';
+import '@vaadin/horizontal-layout/src/vaadin-horizontal-layout.js';
+import '@vaadin/grid/src/vaadin-grid-column-group.js';
+import '@vaadin/icon/src/vaadin-icon.js';
+import '@vaadin/context-menu/src/vaadin-context-menu.js';
+import 'Frontend/generated/jar-resources/contextMenuConnector.js';
+import 'Frontend/generated/jar-resources/contextMenuTargetConnector.js';
+import '@vaadin/form-layout/src/vaadin-form-item.js';
+import '@vaadin/grid/src/vaadin-grid.js';
+import '@vaadin/grid/src/vaadin-grid-column.js';
+import '@vaadin/grid/src/vaadin-grid-sorter.js';
+import '@vaadin/checkbox/src/vaadin-checkbox.js';
+import 'Frontend/generated/jar-resources/gridConnector.js';
+import '@vaadin/text-field/src/vaadin-text-field.js';
+import '@vaadin/icons/vaadin-iconset.js';
+import '@vaadin/app-layout/src/vaadin-drawer-toggle.js';
+import '@vaadin/tabs/src/vaadin-tabs.js';
+import 'Frontend/generated/jar-resources/lit-renderer.ts';
+import '@vaadin/notification/src/vaadin-notification.js';
+import '@vaadin/common-frontend/ConnectionIndicator.js';
+import '@vaadin/vaadin-lumo-styles/color-global.js';
+import '@vaadin/vaadin-lumo-styles/typography-global.js';
+import '@vaadin/vaadin-lumo-styles/sizing.js';
+import '@vaadin/vaadin-lumo-styles/spacing.js';
+import '@vaadin/vaadin-lumo-styles/style.js';
+import '@vaadin/vaadin-lumo-styles/vaadin-iconset.js';
+
+const loadOnDemand = (key) => {
+  const pending = [];
+  if (key === '8c1abb9620d0ea20aaf90c2b4456e32f8884df7728a4c5eed65f08870f964cbc') {
+    pending.push(import('./chunks/chunk-1ff97b9f25414f21c873ff6f9067669f901fe26f6ecea1aaeec1cc8dc1864ce4.js'));
+  }
+  if (key === 'fd5d3c248a8f0b8a37a2a5882949a8d8788ec323fd7c6524bbafcf217431c163') {
+    pending.push(import('./chunks/chunk-ba1d6b71d0e8e43cbd332f7c633ff348cd023178bbb87c948d779cceec065ea3.js'));
+  }
+  if (key === 'f88ee877671ad0db35848a725147eff79c7d7b76d2d7127e6e849c01d3c5b280') {
+    pending.push(import('./chunks/chunk-79dbf24b46e48f3378760117dd04df88e9256601d3a8078b2548e6277fb0765e.js'));
+  }
+  if (key === 'ae7f8590023c2f99b0e005074641480cdea6b76ec37b645fcb03bc137882620d') {
+    pending.push(import('./chunks/chunk-8aff05408c2b898e77e71bf01013ed1b603388d6185a1b6be4f6e1a66ed49799.js'));
+  }
+  if (key === '7c0545621dc4cbe272cd86bb9c9f6e802b1f30d3ea26cd6668587003f0576aee') {
+    pending.push(import('./chunks/chunk-ba1d6b71d0e8e43cbd332f7c633ff348cd023178bbb87c948d779cceec065ea3.js'));
+  }
+  if (key === '9175964e0a80122f23b63c43c1d4c8735fd03ccc7f73df2441957bcc11d26c15') {
+    pending.push(import('./chunks/chunk-79dbf24b46e48f3378760117dd04df88e9256601d3a8078b2548e6277fb0765e.js'));
+  }
+  if (key === 'ae83792229a5797604b348d8225015e7d161fa12528c1017b2b5c6630aa3c5cf') {
+    pending.push(import('./chunks/chunk-1ff97b9f25414f21c873ff6f9067669f901fe26f6ecea1aaeec1cc8dc1864ce4.js'));
+  }
+  if (key === '9fb6fbc047f7ef2a3d2cd94a8f332952f5b8ffb29c041b78762acc1e134b6eee') {
+    pending.push(import('./chunks/chunk-ba1d6b71d0e8e43cbd332f7c633ff348cd023178bbb87c948d779cceec065ea3.js'));
+  }
+  if (key === 'a7cdf9b635012aec7e78c65e6ef642d025c0aa2ab7f0a98bf37ba2875196d64b') {
+    pending.push(import('./chunks/chunk-20c90e5beb5ed0f730b3fcbdb46d71d0b92c76a2f79629d136a0941d48479dde.js'));
+  }
+  if (key === 'e6954813cb3ca73d9f2008013f1059bba7e80d7a5266e24dd5bef8e7cdeb852d') {
+    pending.push(import('./chunks/chunk-ba1d6b71d0e8e43cbd332f7c633ff348cd023178bbb87c948d779cceec065ea3.js'));
+  }
+  if (key === '38ccedd55e9a18802e5e40ec9a156bc915b964c6100ffff92f7957e7830ff3f8') {
+    pending.push(import('./chunks/chunk-8aff05408c2b898e77e71bf01013ed1b603388d6185a1b6be4f6e1a66ed49799.js'));
+  }
+  if (key === '4551f10da32d710c941bbb73bb2e81c0938b1349121e0d5875aeb44f72c9f15d') {
+    pending.push(import('./chunks/chunk-1ff97b9f25414f21c873ff6f9067669f901fe26f6ecea1aaeec1cc8dc1864ce4.js'));
+  }
+  if (key === 'c6d7ce3375aa12cf843cb4ecc20862011066b00e8167a85715deee9b634fcb42') {
+    pending.push(import('./chunks/chunk-1ff97b9f25414f21c873ff6f9067669f901fe26f6ecea1aaeec1cc8dc1864ce4.js'));
+  }
+  if (key === '6c9b1e13a556004637a817d89c24fea4e36324b637f333e89fa4b16b9b827e10') {
+    pending.push(import('./chunks/chunk-8aff05408c2b898e77e71bf01013ed1b603388d6185a1b6be4f6e1a66ed49799.js'));
+  }
+  if (key === 'c593b935b148ecb9d6f2b031fca446cf4a8ac7cc3dc42a1c396ed3e96c9d8455') {
+    pending.push(import('./chunks/chunk-1ff97b9f25414f21c873ff6f9067669f901fe26f6ecea1aaeec1cc8dc1864ce4.js'));
+  }
+  return Promise.all(pending);
+}
+
+window.Vaadin = window.Vaadin || {};
+window.Vaadin.Flow = window.Vaadin.Flow || {};
+window.Vaadin.Flow.loadOnDemand = loadOnDemand;
\ No newline at end of file
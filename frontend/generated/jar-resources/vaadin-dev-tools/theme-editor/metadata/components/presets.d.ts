@@ -0,0 +1,8 @@
+export declare const presets: {
+    lumoSize: string[];
+    lumoSpace: string[];
+    lumoBorderRadius: string[];
+    lumoFontSize: string[];
+    lumoTextColor: string[];
+    basicBorderSize: string[];
+};
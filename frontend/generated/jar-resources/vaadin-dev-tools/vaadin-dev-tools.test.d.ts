@@ -0,0 +1 @@
+import './vaadin-dev-tools';
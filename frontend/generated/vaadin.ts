@@ -0,0 +1,3 @@
+import './vaadin-featureflags.js';
+
+import './index';
@@ -0,0 +1,60 @@
+#!/bin/bash
+
+# Simula a Telegram enviando actualizaciones al webhook local (telegram.bot.mode=webhook).
+# Útil para probar el modo webhook sin exponer la aplicación a Internet.
+#
+# Uso: ./scripts/fake_telegram_webhook.sh [cantidad] [chats] [url]
+#   cantidad: número de actualizaciones a enviar (por defecto 10)
+#   chats:    número de chats distintos entre los que se reparten (por defecto 3)
+#   url:      endpoint del webhook (por defecto http://localhost:8080/telegram/webhook)
+#
+# El secret token se toma de TELEGRAM_WEBHOOK_SECRET (o del archivo .env).
+
+COUNT=${1:-10}
+CHATS=${2:-3}
+URL=${3:-http://localhost:8080/telegram/webhook}
+
+# Cargar variables de entorno desde .env si existe
+if [ -f .env ]; then
+    export $(cat .env | grep -v '^#' | xargs)
+fi
+
+if [ -z "$TELEGRAM_WEBHOOK_SECRET" ]; then
+    echo "❌ TELEGRAM_WEBHOOK_SECRET no está configurado"
+    exit 1
+fi
+
+MESSAGES=("hola" "busco tornillos" "panaderías cerca" "quiero registrarme como cliente" "¿quién vende vasos más barato?")
+BASE_UPDATE_ID=$(date +%s)
+
+echo "📨 Enviando $COUNT actualizaciones a $URL ($CHATS chats)"
+
+for i in $(seq 1 $COUNT); do
+    UPDATE_ID=$((BASE_UPDATE_ID + i))
+    CHAT_ID=$((900000 + (i % CHATS)))
+    TEXT=${MESSAGES[$((i % ${#MESSAGES[@]}))]}
+    NOW=$(date +%s)
+
+    BODY=$(cat <<JSON
+{
+  "update_id": $UPDATE_ID,
+  "message": {
+    "message_id": $i,
+    "date": $NOW,
+    "chat": {"id": $CHAT_ID, "type": "private", "first_name": "Fake"},
+    "from": {"id": $CHAT_ID, "is_bot": false, "first_name": "Fake", "username": "fake_$CHAT_ID"},
+    "text": "$TEXT"
+  }
+}
+JSON
+)
+
+    RESULT=$(curl -s -o /dev/null -w "%{http_code} %{time_total}" \
+        -H "Content-Type: application/json" \
+        -H "X-Telegram-Bot-Api-Secret-Token: $TELEGRAM_WEBHOOK_SECRET" \
+        -d "$BODY" "$URL")
+
+    echo "  update_id=$UPDATE_ID chatId=$CHAT_ID status/tiempo=$RESULT text=\"$TEXT\""
+done
+
+echo "✅ Envío completado"
@@ -0,0 +1,102 @@
+package com.alexia.benchmark;
+
+import com.alexia.dto.GrokMessage;
+import com.alexia.dto.GrokRequest;
+import com.alexia.dto.GrokResponse;
+import com.alexia.service.GrokWireCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara GrokWireCodec con la codificación anterior (ObjectMapper a String y árbol GrokResponse completo).
+ *
+ * Con -prof gc, gc.alloc.rate.norm da los bytes asignados por petición o respuesta.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrokWireCodecBenchmark {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    /** Prompt de sistema del tamaño del de intención (unos 600 tokens). */
+    private static final String SYSTEM_PROMPT = "Eres un experto en clasificar la intención de los usuarios. ".repeat(40);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GrokWireCodec codec = new GrokWireCodec(List.of(SYSTEM_PROMPT));
+
+    private GrokRequest request;
+    private byte[] responseBody;
+
+    @Setup
+    public void setUp() {
+        List<GrokMessage> messages = new ArrayList<>();
+        messages.add(GrokMessage.builder().role("system").content(SYSTEM_PROMPT).build());
+        for (int i = 0; i < 6; i++) {
+            messages.add(GrokMessage.builder().role(i % 2 == 0 ? "user" : "assistant")
+                    .content("Mensaje " + i + ": ¿dónde encuentro una ferretería cerca del centro?").build());
+        }
+        request = GrokRequest.builder()
+                .model("llama-3.1-8b-instant")
+                .messages(messages)
+                .responseFormat(Map.of("type", "json_object"))
+                .build();
+
+        String content = "Puedes encontrar ferreterías en el centro. ".repeat(20);
+        responseBody = ("{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion\",\"created\":1700000000,"
+                + "\"model\":\"llama-3.1-8b-instant\",\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\","
+                + "\"content\":\"" + content + "\"},\"logprobs\":null,\"finish_reason\":\"stop\"}],"
+                + "\"usage\":{\"queue_time\":0.02,\"prompt_tokens\":700,\"prompt_time\":0.03,\"completion_tokens\":180,"
+                + "\"completion_time\":0.2,\"total_tokens\":880,\"total_time\":0.23},"
+                + "\"system_fingerprint\":\"fp_1\",\"x_groq\":{\"id\":\"req_1\"}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Buffer requestObjectMapper() throws IOException {
+        Buffer sink = new Buffer();
+        RequestBody.create(objectMapper.writeValueAsString(request), JSON).writeTo(sink);
+        return sink;
+    }
+
+    @Benchmark
+    public Buffer requestCodec() throws IOException {
+        Buffer sink = new Buffer();
+        codec.requestBody(request).writeTo(sink);
+        return sink;
+    }
+
+    @Benchmark
+    public String responseObjectMapper() throws IOException {
+        String body = new String(responseBody, StandardCharsets.UTF_8);
+        GrokResponse response = objectMapper.readValue(body, GrokResponse.class);
+        return response.getChoices().get(0).getMessage().getContent();
+    }
+
+    @Benchmark
+    public String responseCodec() throws IOException {
+        return codec.readCompletion(new ByteArrayInputStream(responseBody)).content();
+    }
+}
@@ -0,0 +1,98 @@
+package com.alexia.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Crea los executors para trabajo bloqueante (llamadas a Grok, JPA, Bot API).
+ *
+ * Modos (propiedad alexia.execution.mode):
+ * - platform: pool fijo de hilos de plataforma (por defecto, Java 17)
+ * - virtual: un hilo virtual por tarea (requiere Java 21, perfil Maven java21)
+ *
+ * Los hilos virtuales se crean por reflexión para que el código siga compilando con Java 17;
+ * si el runtime no los soporta se vuelve al pool de plataforma.
+ */
+@Component
+@Slf4j
+public class ExecutorProvider {
+
+    @Getter
+    private final boolean virtualThreads;
+
+    public ExecutorProvider(@Value("${alexia.execution.mode:platform}") String mode) {
+        boolean wantsVirtual = "virtual".equalsIgnoreCase(mode.trim());
+        this.virtualThreads = wantsVirtual && virtualThreadsSupported();
+
+        if (wantsVirtual && !virtualThreads) {
+            log.warn("⚠️ alexia.execution.mode=virtual requiere Java 21+ (runtime actual: {}), usando hilos de plataforma",
+                    Runtime.version());
+        }
+        log.info("ExecutorProvider inicializado - mode={}", virtualThreads ? "virtual" : "platform");
+    }
+
+    /**
+     * Crea un executor para tareas bloqueantes.
+     *
+     * @param namePrefix Prefijo del nombre de los hilos
+     * @param platformThreads Tamaño del pool cuando se usan hilos de plataforma
+     * @return Executor con un hilo virtual por tarea o un pool fijo de plataforma
+     */
+    public ExecutorService newBlockingExecutor(String namePrefix, int platformThreads) {
+        if (virtualThreads) {
+            try {
+                return newVirtualThreadPerTaskExecutor(namePrefix);
+            } catch (ReflectiveOperationException e) {
+                log.error("No se pudo crear executor virtual '{}', usando hilos de plataforma - error={}",
+                        namePrefix, e.getMessage());
+            }
+        }
+        return new ThreadPoolExecutor(platformThreads, platformThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), platformThreadFactory(namePrefix));
+    }
+
+    /**
+     * Crea una fábrica de hilos daemon de plataforma con nombre.
+     */
+    public static ThreadFactory platformThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static boolean virtualThreadsSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Equivalente a Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 1).factory()).
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) throws ReflectiveOperationException {
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+        builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+        ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+
+        Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        return (ExecutorService) perTask.invoke(null, factory);
+    }
+}
@@ -1,16 +1,21 @@
 package com.alexia.config;
 
-import com.alexia.repository.BotCommandRepository;
-import com.alexia.repository.TelegramMessageRepository;
+import com.alexia.service.ActivityCounterService;
 import com.alexia.service.BusinessService;
 import com.alexia.service.GrokService;
+import com.alexia.service.IntentDetectionService;
 import com.alexia.service.LeadService;
 import com.alexia.service.ProductService;
 import com.alexia.service.SupplierService;
-import com.alexia.service.TelegramService;
+import com.alexia.service.TelegramJournalService;
 import com.alexia.service.GeolocationService;
 import com.alexia.service.RagSearchService;
+import com.alexia.service.SpeculativeRetrievalService;
 import com.alexia.telegram.AlexiaTelegramBot;
+import com.alexia.telegram.ChatUpdateDispatcher;
+import com.alexia.telegram.TelegramOutboundSender;
+import com.alexia.telegram.StreamingReplyFactory;
+import com.alexia.telegram.UpdateDeduplicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,6 +23,7 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
@@ -31,42 +37,77 @@ import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 @Slf4j
 public class TelegramBotConfig implements ApplicationListener<ContextRefreshedEvent> {
     
-    private final TelegramService telegramService;
-    private final BotCommandRepository botCommandRepository;
-    private final TelegramMessageRepository telegramMessageRepository;
+    private final TelegramJournalService telegramJournalService;
+    private final ActivityCounterService activityCounterService;
     private final GrokService grokService;
+    private final IntentDetectionService intentDetectionService;
     private final BusinessService businessService;
     private final ProductService productService;
     private final LeadService leadService;
     private final GeolocationService geolocationService;
     private final SupplierService supplierService;
     private final RagSearchService ragSearchService;
+    private final ChatUpdateDispatcher chatUpdateDispatcher;
+    private final TelegramOutboundSender telegramOutboundSender;
+    private final UpdateDeduplicator updateDeduplicator;
+    private final SpeculativeRetrievalService speculativeRetrievalService;
+    private final StreamingReplyFactory streamingReplyFactory;
     
     @Value("${telegram.bot.token}")
     private String botToken;
     
     @Value("${telegram.bot.username}")
     private String botUsername;
+
+    /**
+     * Modo de recepción de actualizaciones: polling (una sola instancia) o webhook (varias instancias).
+     */
+    @Value("${telegram.bot.mode:polling}")
+    private String botMode;
+
+    @Value("${telegram.webhook.url:}")
+    private String webhookUrl;
+
+    @Value("${telegram.webhook.secret:}")
+    private String webhookSecret;
+
+    /**
+     * Hilos del bot para llamadas asíncronas a la Bot API (executeAsync).
+     */
+    @Value("${telegram.outbound.threads:4}")
+    private int outboundThreads;
     
     @Bean
     public AlexiaTelegramBot alexiaTelegramBot() {
+        DefaultBotOptions botOptions = new DefaultBotOptions();
+        botOptions.setMaxThreads(outboundThreads);
+
         AlexiaTelegramBot bot = new AlexiaTelegramBot(
+                botOptions,
                 botToken, 
                 botUsername,
-                telegramService,
-                botCommandRepository,
-                telegramMessageRepository,
+                telegramJournalService,
+                activityCounterService,
                 grokService,
+                intentDetectionService,
                 businessService,
                 productService,
                 leadService,
                 geolocationService,
                 supplierService,
-                ragSearchService
+                ragSearchService,
+                chatUpdateDispatcher,
+                telegramOutboundSender,
+                updateDeduplicator,
+                speculativeRetrievalService,
+                streamingReplyFactory
         );
+        telegramOutboundSender.bind(bot);
         
         // Eliminar webhook si existe (para usar long polling)
-        bot.deleteWebhook();
+        if (!isWebhookMode()) {
+            bot.deleteWebhook();
+        }
         
         return bot;
     }
@@ -75,10 +116,19 @@ public class TelegramBotConfig implements ApplicationListener<ContextRefreshedEv
     public void onApplicationEvent(ContextRefreshedEvent event) {
         try {
             AlexiaTelegramBot bot = event.getApplicationContext().getBean(AlexiaTelegramBot.class);
-            TelegramBotsApi botsApi = new TelegramBotsApi(DefaultBotSession.class);
-            botsApi.registerBot(bot);
+            if (isWebhookMode()) {
+                // Telegram entrega las actualizaciones en TelegramWebhookController
+                if (!bot.registerWebhook(webhookUrl, webhookSecret)) {
+                    log.error("❌ No se pudo registrar el webhook, el bot no recibirá actualizaciones");
+                    return;
+                }
+            } else {
+                TelegramBotsApi botsApi = new TelegramBotsApi(DefaultBotSession.class);
+                botsApi.registerBot(bot);
+            }
             bot.setActive(true);
-            log.info("✅ Bot de Telegram registrado y activado - username=@{}", bot.getBotUsername());
+            log.info("✅ Bot de Telegram registrado y activado - username=@{}, mode={}",
+                    bot.getBotUsername(), botMode);
 
             // Add shutdown hook to properly disconnect bot
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
@@ -96,4 +146,8 @@ public class TelegramBotConfig implements ApplicationListener<ContextRefreshedEv
             log.error("Error al registrar el bot de Telegram", e);
         }
     }
+
+    private boolean isWebhookMode() {
+        return "webhook".equalsIgnoreCase(botMode);
+    }
 }
@@ -30,4 +30,7 @@ public final class Messages {
     
     // Mensajes del bot de Telegram
     public static final String TELEGRAM_ECHO_PREFIX = "Recibí tu mensaje: ";
+    public static final String TELEGRAM_AI_DEGRADED = "🤖 El asistente de IA está saturado en este momento. " +
+            "Mientras tanto puedo buscar productos o negocios: prueba con \"busco tornillos\" o \"panaderías cerca\", " +
+            "o escribe /help para ver los comandos.";
 }
@@ -0,0 +1,85 @@
+package com.alexia.controller;
+
+import com.alexia.telegram.AlexiaTelegramBot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Endpoint de webhook de Telegram (telegram.bot.mode=webhook).
+ *
+ * Valida el secret token, entrega la actualización al despachador del bot y responde 200
+ * de inmediato; el procesamiento (Grok, búsquedas, BD) ocurre de forma asíncrona.
+ * Permite ejecutar varias instancias detrás del balanceador de Render.
+ */
+@RestController
+@ConditionalOnProperty(name = "telegram.bot.mode", havingValue = "webhook")
+@Slf4j
+public class TelegramWebhookController {
+
+    static final String SECRET_TOKEN_HEADER = "X-Telegram-Bot-Api-Secret-Token";
+
+    private final AlexiaTelegramBot alexiaTelegramBot;
+    private final byte[] expectedSecret;
+
+    /**
+     * @throws IllegalStateException Si falta la URL o el secret token: sin secret, cualquiera podría
+     *         enviar actualizaciones falsas con el header vacío
+     */
+    public TelegramWebhookController(AlexiaTelegramBot alexiaTelegramBot,
+                                     @Value("${telegram.webhook.secret:}") String secretToken,
+                                     @Value("${telegram.webhook.url:}") String webhookUrl,
+                                     @Value("${telegram.webhook.path:/telegram/webhook}") String webhookPath) {
+        if (secretToken == null || secretToken.isBlank()) {
+            throw new IllegalStateException("telegram.webhook.secret es obligatorio con telegram.bot.mode=webhook");
+        }
+        if (webhookUrl == null || webhookUrl.isBlank()) {
+            throw new IllegalStateException("telegram.webhook.url es obligatorio con telegram.bot.mode=webhook");
+        }
+        this.alexiaTelegramBot = alexiaTelegramBot;
+        this.expectedSecret = secretToken.getBytes(StandardCharsets.UTF_8);
+        log.info("Webhook de Telegram habilitado - path={}", webhookPath);
+    }
+
+    /**
+     * Recibe una actualización de Telegram.
+     *
+     * @param secretToken Valor del header X-Telegram-Bot-Api-Secret-Token
+     * @param update Actualización enviada por Telegram
+     * @return 200 si se aceptó, 401 si el secret token no coincide
+     */
+    @PostMapping("${telegram.webhook.path:/telegram/webhook}")
+    public ResponseEntity<Void> onUpdate(
+            @RequestHeader(value = SECRET_TOKEN_HEADER, required = false) String secretToken,
+            @RequestBody Update update) {
+
+        if (!isValidSecret(secretToken)) {
+            log.warn("Webhook rechazado: secret token inválido - updateId={}", update.getUpdateId());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        // Solo encola: Telegram reintenta si no recibe respuesta rápida
+        alexiaTelegramBot.onUpdateReceived(update);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * Compara el secret token en tiempo constante.
+     */
+    private boolean isValidSecret(String secretToken) {
+        if (secretToken == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(expectedSecret, secretToken.getBytes(StandardCharsets.UTF_8));
+    }
+}
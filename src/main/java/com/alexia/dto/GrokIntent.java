@@ -44,4 +44,8 @@ public class GrokIntent {
 
     @JsonProperty("city")
     private String city;
+
+    // Reply text in single-pass mode (GENERAL_QUERY only)
+    @JsonProperty("reply")
+    private String reply;
 }
@@ -0,0 +1,35 @@
+package com.alexia.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro pendiente de persistir en el journal de escritura diferida.
+ * Representa una fila de telegram_messages o de bot_commands y se serializa
+ * como una línea JSON en el archivo de respaldo cuando la base de datos no está disponible.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalEntry {
+
+    public enum Type {
+        MESSAGE,
+        COMMAND
+    }
+
+    private Type type;
+    private Long chatId;
+    private String userName;
+    private String firstName;
+    private String lastName;
+    private String messageText;
+    private String botResponse;
+    private String command;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,65 @@
+package com.alexia.dto;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Página de resultados de búsqueda con cursor por ID (keyset): la página siguiente se pide con
+ * "ID mayor a nextAfterId" en lugar de OFFSET, así que cuesta lo mismo sea cual sea la página.
+ *
+ * @param items Resultados de esta página
+ * @param nextAfterId ID a partir del cual sigue la página siguiente, o null si no hay más
+ */
+public record ResultPage<T>(List<T> items, Long nextAfterId) {
+
+    public static <T> ResultPage<T> empty() {
+        return new ResultPage<>(List.of(), null);
+    }
+
+    public boolean hasMore() {
+        return nextAfterId != null;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * Arma la página a partir de filas leídas con límite pageSize + 1: la fila de más solo indica
+     * que hay página siguiente.
+     *
+     * @param rows Filas en el orden de la paginación (hasta pageSize + 1)
+     * @param pageSize Tamaño de página
+     * @param idOf ID de cada fila, usado como cursor
+     */
+    public static <T> ResultPage<T> of(List<T> rows, int pageSize, ToLongFunction<T> idOf) {
+        if (rows.size() <= pageSize) {
+            return new ResultPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new ResultPage<>(items, idOf.applyAsLong(items.get(pageSize - 1)));
+    }
+
+    /**
+     * Página de una lista ya acotada y ordenada por relevancia (top-K de texto completo o de similitud):
+     * sigue después de la fila con ID afterId. Si esa fila ya no está en la lista, no hay más.
+     *
+     * @param ranked Resultados completos en orden de relevancia
+     * @param afterId ID de la última fila mostrada, o 0 para la primera página
+     * @param pageSize Tamaño de página
+     * @param idOf ID de cada fila, usado como cursor
+     */
+    public static <T> ResultPage<T> after(List<T> ranked, long afterId, int pageSize, ToLongFunction<T> idOf) {
+        int start = 0;
+        if (afterId > 0) {
+            while (start < ranked.size() && idOf.applyAsLong(ranked.get(start)) != afterId) {
+                start++;
+            }
+            start++;
+        }
+        if (start >= ranked.size()) {
+            return empty();
+        }
+        return of(ranked.subList(start, Math.min(ranked.size(), start + pageSize + 1)), pageSize, idOf);
+    }
+}
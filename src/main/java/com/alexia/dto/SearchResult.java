@@ -18,6 +18,7 @@ public class SearchResult {
     private int internalCount;
     private int externalCount;
     private String query;
+    private Long internalNextAfterId; // cursor for the next page of internal results, null if none
     
     public boolean hasInternalResults() {
         return internalResults != null && !internalResults.isEmpty();
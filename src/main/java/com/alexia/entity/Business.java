@@ -3,9 +3,12 @@ package com.alexia.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -23,6 +26,7 @@ import java.util.Map;
     @Index(name = "idx_businesses_is_active", columnList = "is_active"),
     @Index(name = "idx_businesses_name", columnList = "name")
 })
+@EntityListeners(SearchKeyListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -90,12 +94,25 @@ public class Business {
     @Column(name = "is_verified")
     private Boolean isVerified = false;
 
+    // Claves de búsqueda normalizadas (minúsculas, sin tildes, sin plurales), mantenidas por SearchKeyListener
+    @Column(name = "name_key", length = 255)
+    private String nameKey;
+
+    @Column(name = "category_key", length = 100)
+    private String categoryKey;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Valor de isActive según la BD la última vez que se leyó o guardó (null si nunca se persistió)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Boolean persistedActive;
+
     /**
      * Método ejecutado antes de persistir la entidad.
      */
@@ -116,6 +133,23 @@ public class Business {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Recuerda el estado activo que tiene la entidad en la BD.
+     */
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    protected void rememberPersistedState() {
+        persistedActive = isActive;
+    }
+
+    /**
+     * Indica si el negocio estaba activo en la BD cuando se leyó esta instancia (false si es nuevo).
+     */
+    public boolean wasPersistedActive() {
+        return Boolean.TRUE.equals(persistedActive);
+    }
+
     /**
      * Retorna una representación en texto del negocio.
      * Formato: "Nombre - Dirección - Teléfono"
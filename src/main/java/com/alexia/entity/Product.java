@@ -30,6 +30,7 @@ import java.util.Map;
     @Index(name = "idx_products_is_active", columnList = "is_active"),
     @Index(name = "idx_products_name", columnList = "name")
 })
+@EntityListeners(SearchKeyListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -89,6 +90,13 @@ public class Product {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    // Claves de búsqueda normalizadas (minúsculas, sin tildes, sin plurales), mantenidas por SearchKeyListener
+    @Column(name = "name_key", length = 255)
+    private String nameKey;
+
+    @Column(name = "category_key", length = 100)
+    private String categoryKey;
+
     /**
      * Metadata extensible para features futuras.
      * Permite agregar campos sin cambiar el schema.
@@ -0,0 +1,32 @@
+package com.alexia.entity;
+
+import com.alexia.util.TextNormalizer;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Mantiene las claves de búsqueda normalizadas (TextNormalizer.searchKey) de Business y Product
+ * al insertar o actualizar, para que los repositorios busquen por igualdad o prefijo sobre
+ * columnas indexadas en lugar de aplicar LOWER() a cada fila.
+ */
+public class SearchKeyListener {
+
+    @PrePersist
+    @PreUpdate
+    public void updateSearchKeys(Object entity) {
+        if (entity instanceof Business business) {
+            business.setNameKey(searchKey(business.getName()));
+            business.setCategoryKey(searchKey(business.getCategory()));
+        } else if (entity instanceof Product product) {
+            product.setNameKey(searchKey(product.getName()));
+            product.setCategoryKey(searchKey(product.getCategory()));
+        }
+    }
+
+    /**
+     * Clave de búsqueda de un valor, o null si el valor es null.
+     */
+    public static String searchKey(String value) {
+        return value != null ? TextNormalizer.searchKey(value) : null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.alexia.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que registra un update_id de Telegram reclamado por alguna instancia (modo webhook).
+ * La restricción única sobre (bot_username, update_id) es la que descarta los reenvíos.
+ */
+@Entity
+@Table(name = "telegram_processed_updates",
+        uniqueConstraints = @UniqueConstraint(name = "uk_telegram_processed_updates",
+                columnNames = {"bot_username", "update_id"}),
+        indexes = @Index(name = "idx_telegram_processed_updates_received_at", columnList = "received_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelegramProcessedUpdate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bot_username", length = 255, nullable = false)
+    private String botUsername;
+
+    @Column(name = "update_id", nullable = false)
+    private Long updateId;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+}
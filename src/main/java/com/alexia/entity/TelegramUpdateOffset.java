@@ -0,0 +1,37 @@
+package com.alexia.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que guarda el último update_id de Telegram procesado por un bot.
+ */
+@Entity
+@Table(name = "telegram_update_offsets")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelegramUpdateOffset {
+
+    @Id
+    @Column(name = "bot_username", length = 255)
+    private String botUsername;
+
+    @Column(name = "last_update_id", nullable = false)
+    private Long lastUpdateId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -1,11 +1,14 @@
 package com.alexia.repository;
 
 import com.alexia.entity.Business;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,18 +18,96 @@ import java.util.List;
 public interface BusinessRepository extends JpaRepository<Business, Long> {
 
     /**
-     * Encuentra negocios por categoría (case-insensitive).
-     * Solo retorna negocios activos.
+     * Encuentra negocios activos por clave de categoría (TextNormalizer.searchKey), con índice.
+     * Las filas aún sin clave (antes de SearchKeyBackfill o insertadas por SQL) se comparan por
+     * la categoría original sin distinguir mayúsculas.
      */
-    @Query("SELECT b FROM Business b WHERE LOWER(b.category) = LOWER(:category) AND b.isActive = true ORDER BY b.name")
-    List<Business> findByCategoryIgnoreCase(@Param("category") String category);
+    @Query("SELECT b FROM Business b WHERE b.isActive = true AND (b.categoryKey = :categoryKey " +
+            "OR (b.categoryKey IS NULL AND LOWER(b.category) = LOWER(:category))) ORDER BY b.name")
+    List<Business> findByCategoryKey(@Param("categoryKey") String categoryKey, @Param("category") String category);
 
     /**
-     * Encuentra negocios cuya categoría contenga el texto especificado (case-insensitive).
-     * Solo retorna negocios activos.
+     * Encuentra negocios activos cuya clave de categoría empieza con el prefijo dado, con índice.
      */
-    @Query("SELECT b FROM Business b WHERE LOWER(b.category) LIKE LOWER(CONCAT('%', :category, '%')) AND b.isActive = true ORDER BY b.name")
-    List<Business> findByCategoryContainingIgnoreCase(@Param("category") String category);
+    @Query("SELECT b FROM Business b WHERE b.categoryKey LIKE CONCAT(:prefix, '%') AND b.isActive = true ORDER BY b.name")
+    List<Business> findByCategoryKeyPrefix(@Param("prefix") String prefix);
+
+    /**
+     * Página de {@link #findByCategoryKeyPrefix(String)} en orden de ID: negocios con ID mayor a afterId.
+     */
+    @Query("SELECT b FROM Business b WHERE b.categoryKey LIKE CONCAT(:prefix, '%') AND b.isActive = true AND b.id > :afterId ORDER BY b.id")
+    List<Business> findByCategoryKeyPrefixAfter(@Param("prefix") String prefix, @Param("afterId") long afterId, Pageable page);
+
+    /**
+     * Encuentra negocios activos cuya clave de nombre empieza con el prefijo dado, con índice.
+     */
+    @Query("SELECT b FROM Business b WHERE b.nameKey LIKE CONCAT(:prefix, '%') AND b.isActive = true ORDER BY b.name")
+    List<Business> findByNameKeyPrefix(@Param("prefix") String prefix);
+
+    /**
+     * Encuentra negocios activos cuya clave de categoría contiene la clave buscada ("pasteleria" en
+     * "Panadería y Pastelería"); las filas sin clave se comparan por la categoría original.
+     * Recorre la tabla: es el último recurso.
+     */
+    @Query("SELECT b FROM Business b WHERE b.isActive = true AND (b.categoryKey LIKE CONCAT('%', :categoryKey, '%') " +
+            "OR (b.categoryKey IS NULL AND LOWER(b.category) LIKE LOWER(CONCAT('%', :category, '%')))) ORDER BY b.name")
+    List<Business> findByCategoryContaining(@Param("categoryKey") String categoryKey, @Param("category") String category);
+
+    /**
+     * Encuentra negocios cuya categoría contenga el texto especificado (case-insensitive), por páginas
+     * en orden de ID: negocios con ID mayor a afterId. Solo retorna negocios activos.
+     */
+    @Query("SELECT b FROM Business b WHERE LOWER(b.category) LIKE LOWER(CONCAT('%', :category, '%')) AND b.isActive = true AND b.id > :afterId ORDER BY b.id")
+    List<Business> findByCategoryContainingAfter(@Param("category") String category, @Param("afterId") long afterId,
+                                                 Pageable page);
+
+    /**
+     * Búsqueda de texto completo en nombre, categoría y dirección (columna search_vector, índice GIN),
+     * ordenada por relevancia. Requiere database/step15_full_text_search.sql.
+     *
+     * @param query Consulta en formato de buscador web (palabras, "frase", -excluir)
+     * @param limit Máximo de resultados
+     */
+    @Query(value = "SELECT b.* FROM businesses b, websearch_to_tsquery('public.es_unaccent', :query) q " +
+            "WHERE b.is_active = true AND b.search_vector @@ q " +
+            "ORDER BY ts_rank_cd(b.search_vector, q) DESC, b.name " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Business> searchFullText(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Búsqueda tolerante a errores de tipeo (pg_trgm): categoría parecida a la consulta o nombre que
+     * contiene una palabra parecida, sin tildes ni mayúsculas. Los K mejores por similitud.
+     * Requiere database/step16_trigram_search.sql.
+     *
+     * @param query Texto buscado
+     * @param threshold Similitud mínima (0 a 1)
+     * @param limit Máximo de resultados
+     */
+    @Query(value = "SELECT b.* FROM businesses b, (SELECT public.f_search_key(:query) AS q) s " +
+            "WHERE b.is_active = true " +
+            "AND (public.f_search_key(b.category) % s.q OR s.q <% public.f_search_key(b.name)) " +
+            "AND GREATEST(similarity(public.f_search_key(b.category), s.q), " +
+            "             word_similarity(s.q, public.f_search_key(b.name))) >= :threshold " +
+            "ORDER BY GREATEST(similarity(public.f_search_key(b.category), s.q), " +
+            "                  word_similarity(s.q, public.f_search_key(b.name))) DESC, b.name " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Business> searchFuzzy(@Param("query") String query, @Param("threshold") double threshold,
+                               @Param("limit") int limit);
+
+    /**
+     * Encuentra negocios activos por ID, ordenados por nombre (resultados del índice de búsqueda en memoria).
+     */
+    @Query("SELECT b FROM Business b WHERE b.id IN :ids AND b.isActive = true ORDER BY b.name")
+    List<Business> findActiveByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Campos buscables (id, nombre, categoría) de los negocios activos con ID mayor a afterId,
+     * en orden de ID. Para cargar el índice de búsqueda por páginas.
+     */
+    @Query("SELECT b.id, b.name, b.category FROM Business b WHERE b.isActive = true AND b.id > :afterId ORDER BY b.id")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") long afterId, Pageable page);
 
     /**
      * Encuentra todos los negocios activos ordenados por nombre.
@@ -40,10 +121,30 @@ public interface BusinessRepository extends JpaRepository<Business, Long> {
     List<Business> findByNameContainingIgnoreCase(@Param("name") String name);
 
     /**
-     * Cuenta negocios activos por categoría.
+     * Cuenta negocios activos por clave de categoría (las filas sin clave, por la categoría original).
+     */
+    @Query("SELECT COUNT(b) FROM Business b WHERE b.isActive = true AND (b.categoryKey = :categoryKey " +
+            "OR (b.categoryKey IS NULL AND LOWER(b.category) = LOWER(:category)))")
+    long countByCategoryKey(@Param("categoryKey") String categoryKey, @Param("category") String category);
+
+    /**
+     * Negocios (id, nombre, categoría) sin claves de búsqueda con ID mayor a afterId, en orden de ID.
+     * Para completar las claves de filas anteriores a SearchKeyListener.
+     */
+    @Query("SELECT b.id, b.name, b.category FROM Business b WHERE b.nameKey IS NULL AND b.id > :afterId ORDER BY b.id")
+    List<Object[]> findWithoutSearchKeys(@Param("afterId") long afterId, Pageable page);
+
+    /**
+     * Guarda las claves de búsqueda de un negocio sin pasar por los callbacks de la entidad.
+     * Solo si sigue sin clave: si se editó mientras tanto, SearchKeyListener ya guardó las de su
+     * nombre nuevo y no se pisan con las calculadas a partir del nombre leído antes.
+     *
+     * @return 1 si se actualizó, 0 si ya tenía clave
      */
-    @Query("SELECT COUNT(b) FROM Business b WHERE LOWER(b.category) = LOWER(:category) AND b.isActive = true")
-    long countByCategoryIgnoreCase(@Param("category") String category);
+    @Modifying
+    @Query("UPDATE Business b SET b.nameKey = :nameKey, b.categoryKey = :categoryKey " +
+            "WHERE b.id = :id AND b.nameKey IS NULL")
+    int updateSearchKeys(@Param("id") Long id, @Param("nameKey") String nameKey, @Param("categoryKey") String categoryKey);
 
     /**
      * Cuenta todos los negocios activos.
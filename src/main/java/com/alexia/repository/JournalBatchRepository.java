@@ -0,0 +1,69 @@
+package com.alexia.repository;
+
+import com.alexia.dto.JournalEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Inserciones por lotes JDBC para telegram_messages y bot_commands.
+ *
+ * Las entidades usan GenerationType.IDENTITY, lo que impide a Hibernate agrupar inserts
+ * (hibernate.jdbc.batch_size no tiene efecto). Este repositorio usa JdbcTemplate.batchUpdate
+ * para enviar cada lote en un único round-trip y en una sola transacción.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JournalBatchRepository {
+
+    private static final String INSERT_MESSAGE =
+            "INSERT INTO telegram_messages (chat_id, user_name, first_name, last_name, message_text, bot_response, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_COMMAND =
+            "INSERT INTO bot_commands (chat_id, command, user_name, first_name, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserta un lote de registros del journal de forma atómica.
+     *
+     * @param entries Registros a insertar (mensajes y comandos mezclados)
+     */
+    @Transactional
+    public void insertBatch(List<JournalEntry> entries) {
+        List<JournalEntry> messages = entries.stream()
+                .filter(e -> e.getType() == JournalEntry.Type.MESSAGE)
+                .toList();
+        List<JournalEntry> commands = entries.stream()
+                .filter(e -> e.getType() == JournalEntry.Type.COMMAND)
+                .toList();
+
+        if (!messages.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE, messages, messages.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getChatId());
+                ps.setString(2, entry.getUserName());
+                ps.setString(3, entry.getFirstName());
+                ps.setString(4, entry.getLastName());
+                ps.setString(5, entry.getMessageText());
+                ps.setString(6, entry.getBotResponse());
+                ps.setTimestamp(7, Timestamp.valueOf(entry.getCreatedAt()));
+            });
+        }
+
+        if (!commands.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_COMMAND, commands, commands.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getChatId());
+                ps.setString(2, entry.getCommand());
+                ps.setString(3, entry.getUserName());
+                ps.setString(4, entry.getFirstName());
+                ps.setTimestamp(5, Timestamp.valueOf(entry.getCreatedAt()));
+            });
+        }
+    }
+}
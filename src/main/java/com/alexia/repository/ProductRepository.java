@@ -1,12 +1,15 @@
 package com.alexia.repository;
 
 import com.alexia.entity.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,9 +36,23 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByCategory(String category);
 
     /**
-     * Busca productos activos por categoría.
+     * Busca productos activos por clave de categoría (TextNormalizer.searchKey), con índice.
      */
-    List<Product> findByCategoryAndIsActiveTrue(String category);
+    List<Product> findByCategoryKeyAndIsActiveTrue(String categoryKey);
+
+    /**
+     * Busca productos activos cuya clave de nombre empieza con el prefijo dado, con índice.
+     */
+    @EntityGraph(attributePaths = {"business"})
+    @Query("SELECT p FROM Product p WHERE p.nameKey LIKE CONCAT(:prefix, '%') AND p.isActive = true")
+    List<Product> searchByNameKeyPrefix(@Param("prefix") String prefix);
+
+    /**
+     * Página de {@link #searchByNameKeyPrefix(String)} en orden de ID: productos con ID mayor a afterId.
+     */
+    @EntityGraph(attributePaths = {"business"})
+    @Query("SELECT p FROM Product p WHERE p.nameKey LIKE CONCAT(:prefix, '%') AND p.isActive = true AND p.id > :afterId ORDER BY p.id")
+    List<Product> searchByNameKeyPrefixAfter(@Param("prefix") String prefix, @Param("afterId") long afterId, Pageable page);
 
     /**
      * Busca productos por nombre (búsqueda parcial, case-insensitive).
@@ -51,6 +68,83 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.isActive = true AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(p.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     List<Product> searchByNameOrDescription(@Param("searchTerm") String searchTerm);
 
+    /**
+     * Página de {@link #searchByNameOrDescription(String)} en orden de ID: productos con ID mayor a afterId.
+     */
+    @EntityGraph(attributePaths = {"business"})
+    @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.id > :afterId AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(p.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) ORDER BY p.id")
+    List<Product> searchByNameOrDescriptionAfter(@Param("searchTerm") String searchTerm, @Param("afterId") long afterId,
+                                                 Pageable page);
+
+    /**
+     * Búsqueda de texto completo en nombre y descripción (columna search_vector, índice GIN),
+     * ordenada por relevancia. Requiere database/step15_full_text_search.sql.
+     * Devuelve solo los IDs: los productos se cargan con {@link #findActiveByIdIn(Collection)}, que trae
+     * el negocio en la misma consulta (un SELECT p.* nativo lo pediría producto por producto).
+     *
+     * @param query Consulta en formato de buscador web (palabras, "frase", -excluir)
+     * @param limit Máximo de resultados
+     * @return IDs en orden de relevancia
+     */
+    @Query(value = "SELECT p.id FROM products p, websearch_to_tsquery('public.es_unaccent', :query) q " +
+            "WHERE p.is_active = true AND p.search_vector @@ q " +
+            "ORDER BY ts_rank_cd(p.search_vector, q) DESC, p.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchFullTextIds(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Búsqueda tolerante a errores de tipeo (pg_trgm): nombre que contiene una palabra parecida a la
+     * consulta, sin tildes ni mayúsculas. Los K mejores por similitud.
+     * Requiere database/step16_trigram_search.sql.
+     *
+     * @param query Texto buscado
+     * @param threshold Similitud mínima (0 a 1)
+     * @param limit Máximo de resultados
+     * @return IDs en orden de similitud (ver {@link #searchFullTextIds(String, int)})
+     */
+    @Query(value = "SELECT p.id FROM products p, (SELECT public.f_search_key(:query) AS q) s " +
+            "WHERE p.is_active = true AND s.q <% public.f_search_key(p.name) " +
+            "AND word_similarity(s.q, public.f_search_key(p.name)) >= :threshold " +
+            "ORDER BY word_similarity(s.q, public.f_search_key(p.name)) DESC, p.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchFuzzyIds(@Param("query") String query, @Param("threshold") double threshold,
+                              @Param("limit") int limit);
+
+    /**
+     * Busca productos activos por ID (resultados del índice de búsqueda en memoria).
+     */
+    @EntityGraph(attributePaths = {"business"})
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids AND p.isActive = true")
+    List<Product> findActiveByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Campos buscables (id, nombre, categoría, descripción) de los productos activos con ID mayor
+     * a afterId, en orden de ID. Para cargar el índice de búsqueda por páginas.
+     */
+    @Query("SELECT p.id, p.name, p.category, p.description FROM Product p WHERE p.isActive = true AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") long afterId, Pageable page);
+
+    /**
+     * Productos (id, nombre, categoría) sin claves de búsqueda con ID mayor a afterId, en orden de ID.
+     * Para completar las claves de filas anteriores a SearchKeyListener.
+     */
+    @Query("SELECT p.id, p.name, p.category FROM Product p WHERE p.nameKey IS NULL AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findWithoutSearchKeys(@Param("afterId") long afterId, Pageable page);
+
+    /**
+     * Guarda las claves de búsqueda de un producto sin pasar por los callbacks de la entidad.
+     * Solo si sigue sin clave: si se editó mientras tanto, SearchKeyListener ya guardó las de su
+     * nombre nuevo y no se pisan con las calculadas a partir del nombre leído antes.
+     *
+     * @return 1 si se actualizó, 0 si ya tenía clave
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.nameKey = :nameKey, p.categoryKey = :categoryKey " +
+            "WHERE p.id = :id AND p.nameKey IS NULL")
+    int updateSearchKeys(@Param("id") Long id, @Param("nameKey") String nameKey, @Param("categoryKey") String categoryKey);
+
     /**
      * Busca productos con stock disponible.
      */
@@ -0,0 +1,39 @@
+package com.alexia.repository;
+
+import com.alexia.entity.TelegramProcessedUpdate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositorio de los update_id reclamados, compartido por todas las instancias en modo webhook.
+ */
+@Repository
+public interface TelegramProcessedUpdateRepository extends JpaRepository<TelegramProcessedUpdate, Long> {
+
+    /**
+     * Reclama un update_id para esta instancia en un solo round-trip.
+     *
+     * @return 1 si se reclamó, 0 si otra instancia (o esta) ya lo había reclamado
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO telegram_processed_updates (bot_username, update_id, received_at) " +
+            "VALUES (:botUsername, :updateId, :receivedAt) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int claim(@Param("botUsername") String botUsername, @Param("updateId") long updateId,
+              @Param("receivedAt") LocalDateTime receivedAt);
+
+    /**
+     * Elimina los reclamos más antiguos que el periodo en que Telegram puede reenviar un update.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TelegramProcessedUpdate u WHERE u.receivedAt < :before")
+    int deleteReceivedBefore(@Param("before") LocalDateTime before);
+}
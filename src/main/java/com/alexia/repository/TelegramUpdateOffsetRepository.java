@@ -0,0 +1,12 @@
+package com.alexia.repository;
+
+import com.alexia.entity.TelegramUpdateOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para el último update_id procesado por cada bot.
+ */
+@Repository
+public interface TelegramUpdateOffsetRepository extends JpaRepository<TelegramUpdateOffset, String> {
+}
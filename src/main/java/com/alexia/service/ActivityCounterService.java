@@ -0,0 +1,81 @@
+package com.alexia.service;
+
+import com.alexia.repository.BotCommandRepository;
+import com.alexia.repository.BusinessRepository;
+import com.alexia.repository.LeadRepository;
+import com.alexia.repository.TelegramMessageRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de actividad mantenidos en memoria.
+ *
+ * Se inicializan una vez con count() al arrancar y luego se actualizan cuando se escriben
+ * o eliminan mensajes, comandos, leads y negocios. /status, el Dashboard y las vistas de
+ * Telegram los leen en lugar de contar las tablas completas en cada consulta.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityCounterService {
+
+    private final TelegramMessageRepository telegramMessageRepository;
+    private final BotCommandRepository botCommandRepository;
+    private final LeadRepository leadRepository;
+    private final BusinessRepository businessRepository;
+
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder leads = new LongAdder();
+    private final LongAdder activeBusinesses = new LongAdder();
+
+    @PostConstruct
+    void seedFromDatabase() {
+        try {
+            messages.add(telegramMessageRepository.count());
+            commands.add(botCommandRepository.count());
+            leads.add(leadRepository.count());
+            activeBusinesses.add(businessRepository.countByIsActiveTrue());
+            log.info("Contadores inicializados - mensajes={}, comandos={}, leads={}, negociosActivos={}",
+                    messages.sum(), commands.sum(), leads.sum(), activeBusinesses.sum());
+        } catch (Exception e) {
+            log.warn("No se pudieron inicializar los contadores desde la BD, se parte de 0 - error={}", e.getMessage());
+        }
+    }
+
+    public void addMessages(long delta) {
+        messages.add(delta);
+    }
+
+    public void addCommands(long delta) {
+        commands.add(delta);
+    }
+
+    public void addLeads(long delta) {
+        leads.add(delta);
+    }
+
+    public void addActiveBusinesses(long delta) {
+        activeBusinesses.add(delta);
+    }
+
+    public long getTotalMessages() {
+        return messages.sum();
+    }
+
+    public long getTotalCommands() {
+        return commands.sum();
+    }
+
+    public long getTotalLeads() {
+        return leads.sum();
+    }
+
+    public long getActiveBusinesses() {
+        return activeBusinesses.sum();
+    }
+}
@@ -2,11 +2,14 @@ package com.alexia.service;
 
 import com.alexia.telegram.AlexiaTelegramBot;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Servicio para gestionar el ciclo de vida del bot de Telegram.
  * Permite iniciar, detener y consultar el estado del bot de forma controlada.
@@ -16,12 +19,29 @@ import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 public class BotManagerService {
 
     private final AlexiaTelegramBot alexiaTelegramBot;
+
+    /**
+     * Protege el ciclo de vida del bot. Se usa un lock explícito en lugar de synchronized
+     * porque startBot hace llamadas de red, y un hilo virtual bloqueado dentro de
+     * synchronized queda fijado (pinned) a su hilo portador.
+     */
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
     private TelegramBotsApi botsApi;
     private boolean isBotRegistered = false;
 
-    public BotManagerService(AlexiaTelegramBot alexiaTelegramBot) {
+    private final boolean webhookMode;
+    private final String webhookUrl;
+    private final String webhookSecret;
+
+    public BotManagerService(AlexiaTelegramBot alexiaTelegramBot,
+                             @Value("${telegram.bot.mode:polling}") String botMode,
+                             @Value("${telegram.webhook.url:}") String webhookUrl,
+                             @Value("${telegram.webhook.secret:}") String webhookSecret) {
         this.alexiaTelegramBot = alexiaTelegramBot;
-        log.info("BotManagerService inicializado - El bot está listo para ser iniciado manualmente");
+        this.webhookMode = "webhook".equalsIgnoreCase(botMode);
+        this.webhookUrl = webhookUrl;
+        this.webhookSecret = webhookSecret;
+        log.info("BotManagerService inicializado - El bot está listo para ser iniciado manualmente - mode={}", botMode);
     }
 
     /**
@@ -30,12 +50,26 @@ public class BotManagerService {
      * 
      * @throws IllegalStateException si el bot ya está en ejecución
      */
-    public synchronized void startBot() {
+    public void startBot() {
+        lifecycleLock.lock();
+        try {
+            doStartBot();
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    private void doStartBot() {
         if (isBotRunning()) {
             log.warn("Intento de iniciar el bot cuando ya está en ejecución");
             throw new IllegalStateException("El bot ya está en ejecución");
         }
 
+        if (webhookMode) {
+            startWebhookBot();
+            return;
+        }
+
         try {
             log.info("🚀 Iniciando el bot de Telegram...");
             
@@ -69,13 +103,36 @@ public class BotManagerService {
         }
     }
 
+    /**
+     * Inicia el bot en modo webhook: registra la URL en Telegram en lugar de abrir
+     * una sesión de long polling, por lo que no se elimina el webhook.
+     */
+    private void startWebhookBot() {
+        log.info("🚀 Iniciando el bot de Telegram en modo webhook...");
+        if (!alexiaTelegramBot.registerWebhook(webhookUrl, webhookSecret)) {
+            throw new RuntimeException("Error al iniciar el bot: no se pudo registrar el webhook");
+        }
+        alexiaTelegramBot.setActive(true);
+        log.info("✅ Bot de Telegram iniciado en modo webhook - username=@{}",
+                alexiaTelegramBot.getBotUsername());
+    }
+
     /**
      * Detiene el bot de Telegram.
      * El bot deja de procesar mensajes pero mantiene su registro en la API.
      * 
      * @throws IllegalStateException si el bot no está en ejecución
      */
-    public synchronized void stopBot() {
+    public void stopBot() {
+        lifecycleLock.lock();
+        try {
+            doStopBot();
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    private void doStopBot() {
         if (!isBotRunning()) {
             log.warn("Intento de detener el bot cuando no está en ejecución");
             throw new IllegalStateException("El bot no está en ejecución");
@@ -119,15 +176,20 @@ public class BotManagerService {
     /**
      * Reinicia el bot (detiene y vuelve a iniciar).
      */
-    public synchronized void restartBot() {
-        log.info("🔄 Reiniciando el bot de Telegram...");
-        
-        if (isBotRunning()) {
-            stopBot();
+    public void restartBot() {
+        lifecycleLock.lock();
+        try {
+            log.info("🔄 Reiniciando el bot de Telegram...");
+
+            if (isBotRunning()) {
+                doStopBot();
+            }
+
+            doStartBot();
+
+            log.info("✅ Bot reiniciado correctamente");
+        } finally {
+            lifecycleLock.unlock();
         }
-        
-        startBot();
-        
-        log.info("✅ Bot reiniciado correctamente");
     }
 }
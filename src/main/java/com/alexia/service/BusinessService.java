@@ -3,11 +3,15 @@ package com.alexia.service;
 import com.alexia.entity.Business;
 import com.alexia.exception.BusinessNotFoundException;
 import com.alexia.repository.BusinessRepository;
+import com.alexia.util.TextNormalizer;
 import com.alexia.validation.BusinessValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,15 +28,32 @@ public class BusinessService {
 
     private final BusinessRepository businessRepository;
     private final BusinessValidator businessValidator;
+    private final ActivityCounterService activityCounterService;
+    private final CatalogSearchIndex catalogSearchIndex;
 
-    public BusinessService(BusinessRepository businessRepository, BusinessValidator businessValidator) {
+    @Value("${alexia.search.fuzzy.enabled:false}")
+    private boolean fuzzyEnabled;
+
+    @Value("${alexia.search.fuzzy.threshold:0.3}")
+    private double fuzzyThreshold;
+
+    @Value("${alexia.search.fuzzy.top-k:10}")
+    private int fuzzyTopK;
+
+    public BusinessService(BusinessRepository businessRepository, BusinessValidator businessValidator,
+                           ActivityCounterService activityCounterService, CatalogSearchIndex catalogSearchIndex) {
         this.businessRepository = businessRepository;
         this.businessValidator = businessValidator;
+        this.activityCounterService = activityCounterService;
+        this.catalogSearchIndex = catalogSearchIndex;
     }
 
     /**
      * Busca negocios por categoría.
-     * Primero intenta búsqueda exacta, si no encuentra resultados, busca por coincidencia parcial.
+     * Primero intenta búsqueda exacta, si no encuentra resultados, busca por prefijo; ambas sobre la
+     * clave de categoría normalizada ("Panaderías" = "panaderia"), con índice.
+     * Con la búsqueda por similitud activada, una sola consulta indexada (pg_trgm) cubre la
+     * coincidencia exacta, la parcial y los errores de tipeo ("ferreteria", "panaderias").
      *
      * @param category Categoría a buscar
      * @return Lista de negocios encontrados
@@ -47,13 +68,25 @@ public class BusinessService {
 
         String cleanCategory = category.trim();
 
+        if (fuzzyEnabled) {
+            List<Business> businesses = businessRepository.searchFuzzy(cleanCategory, fuzzyThreshold, fuzzyTopK);
+            logger.info("Se encontraron {} negocios por similitud para la categoría '{}'", businesses.size(), cleanCategory);
+            return businesses;
+        }
+
         // Primero intenta búsqueda exacta
-        List<Business> businesses = businessRepository.findByCategoryIgnoreCase(cleanCategory);
+        String categoryKey = TextNormalizer.searchKey(cleanCategory);
+        List<Business> businesses = businessRepository.findByCategoryKey(categoryKey, cleanCategory);
 
-        // Si no encuentra resultados, intenta búsqueda parcial
-        if (businesses.isEmpty()) {
+        // Si no encuentra resultados, intenta búsqueda por prefijo
+        if (businesses.isEmpty() && !categoryKey.isEmpty()) {
             logger.info("No se encontraron resultados exactos, buscando coincidencias parciales");
-            businesses = businessRepository.findByCategoryContainingIgnoreCase(cleanCategory);
+            businesses = businessRepository.findByCategoryKeyPrefix(categoryKey);
+        }
+
+        // Último recurso: la categoría contiene el texto en cualquier parte
+        if (businesses.isEmpty()) {
+            businesses = businessRepository.findByCategoryContaining(categoryKey, cleanCategory);
         }
 
         logger.info("Se encontraron {} negocios para la categoría '{}'", businesses.size(), cleanCategory);
@@ -61,7 +94,8 @@ public class BusinessService {
     }
 
     /**
-     * Busca negocios por nombre.
+     * Busca negocios por nombre: primero por prefijo de la clave normalizada (con índice) y, si no
+     * hay resultados, por coincidencia parcial en cualquier parte del nombre.
      *
      * @param name Nombre a buscar
      * @return Lista de negocios encontrados
@@ -73,7 +107,11 @@ public class BusinessService {
             return List.of();
         }
 
-        List<Business> businesses = businessRepository.findByNameContainingIgnoreCase(name.trim());
+        String nameKey = TextNormalizer.searchKey(name);
+        List<Business> businesses = nameKey.isEmpty() ? List.of() : businessRepository.findByNameKeyPrefix(nameKey);
+        if (businesses.isEmpty()) {
+            businesses = businessRepository.findByNameContainingIgnoreCase(name.trim());
+        }
         logger.info("Se encontraron {} negocios con el nombre '{}'", businesses.size(), name);
         return businesses;
     }
@@ -110,8 +148,17 @@ public class BusinessService {
         
         // Validate business data
         businessValidator.validate(business);
-        
-        return businessRepository.save(business);
+
+        // Estado previo para mantener el contador de negocios activos, tal como se leyó de la BD
+        boolean wasActive = business.wasPersistedActive();
+
+        Business saved = businessRepository.save(business);
+        boolean isActive = Boolean.TRUE.equals(saved.getIsActive());
+        if (isActive != wasActive) {
+            addActiveBusinessesAfterCommit(isActive ? 1 : -1);
+        }
+        catalogSearchIndex.onBusinessSaved(saved);
+        return saved;
     }
 
     /**
@@ -126,8 +173,13 @@ public class BusinessService {
 
         if (business.isPresent()) {
             Business b = business.get();
+            boolean wasActive = Boolean.TRUE.equals(b.getIsActive());
             b.setIsActive(false);
             businessRepository.save(b);
+            if (wasActive) {
+                addActiveBusinessesAfterCommit(-1);
+            }
+            catalogSearchIndex.onBusinessSaved(b);
             logger.info("Negocio {} marcado como inactivo", b.getName());
             return true;
         }
@@ -146,7 +198,8 @@ public class BusinessService {
         if (category == null || category.trim().isEmpty()) {
             return 0;
         }
-        return businessRepository.countByCategoryIgnoreCase(category.trim());
+        String cleanCategory = category.trim();
+        return businessRepository.countByCategoryKey(TextNormalizer.searchKey(cleanCategory), cleanCategory);
     }
 
     /**
@@ -224,4 +277,21 @@ public class BusinessService {
     // public String[] getBusinessCategories(Business business) {
     //     return business.getCategories();
     // }
+
+    /**
+     * Ajusta el contador de negocios activos cuando se confirma la transacción actual, para que
+     * un rollback no lo desvíe de la tabla.
+     */
+    private void addActiveBusinessesAfterCommit(long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    activityCounterService.addActiveBusinesses(delta);
+                }
+            });
+        } else {
+            activityCounterService.addActiveBusinesses(delta);
+        }
+    }
 }
@@ -0,0 +1,326 @@
+package com.alexia.service;
+
+import com.alexia.config.ExecutorProvider;
+import com.alexia.entity.Business;
+import com.alexia.entity.Product;
+import com.alexia.repository.BusinessRepository;
+import com.alexia.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Índices de búsqueda en memoria de negocios (nombre y categoría) y productos (nombre y categoría
+ * por prefijo, descripción por palabra), para no recorrer las tablas con LIKE '%término%'.
+ *
+ * Se cargan por páginas en segundo plano al arrancar; hasta que terminan, las búsquedas van a la BD.
+ * BusinessService y ProductService los actualizan al confirmarse cada transacción. Las escrituras
+ * que ocurren durante la carga tienen prioridad sobre las filas que la carga lee después.
+ */
+@Component
+@Slf4j
+public class CatalogSearchIndex {
+
+    private final BusinessRepository businessRepository;
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+    private final int maxResults;
+    private final int loadPageSize;
+
+    private final InvertedIndex businesses;
+    private final InvertedIndex products;
+    /** Serializa las escrituras de los servicios con las de la carga inicial. */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    /** IDs escritos durante la carga, que la carga no debe pisar con lo que leyó antes. Protegido por writeLock. */
+    private final Set<String> touchedWhileLoading = new HashSet<>();
+    /** Protegido por writeLock. */
+    private boolean loading;
+    private volatile boolean ready;
+    private final ExecutorService loader;
+
+    private final Timer businessQueryTimer;
+    private final Timer productQueryTimer;
+
+    public CatalogSearchIndex(BusinessRepository businessRepository,
+                              ProductRepository productRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${alexia.search.index.enabled:true}") boolean enabled,
+                              @Value("${alexia.search.index.min-prefix-length:3}") int minPrefixLength,
+                              @Value("${alexia.search.index.max-prefix-length:12}") int maxPrefixLength,
+                              @Value("${alexia.search.index.max-results:500}") int maxResults,
+                              @Value("${alexia.search.index.load-page-size:5000}") int loadPageSize) {
+        this.businessRepository = businessRepository;
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+        this.maxResults = maxResults;
+        this.loadPageSize = Math.max(1, loadPageSize);
+        this.businesses = new InvertedIndex(minPrefixLength, maxPrefixLength);
+        this.products = new InvertedIndex(minPrefixLength, maxPrefixLength);
+        this.loader = Executors.newSingleThreadExecutor(ExecutorProvider.platformThreadFactory("search-index-"));
+
+        this.businessQueryTimer = queryTimer("business", meterRegistry);
+        this.productQueryTimer = queryTimer("product", meterRegistry);
+        Gauge.builder("alexia.search.index.size", businesses, InvertedIndex::size)
+                .description("Documentos en el índice de búsqueda en memoria")
+                .tag("index", "business")
+                .register(meterRegistry);
+        Gauge.builder("alexia.search.index.size", products, InvertedIndex::size)
+                .description("Documentos en el índice de búsqueda en memoria")
+                .tag("index", "product")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            log.info("CatalogSearchIndex desactivado, las búsquedas van a la BD");
+            return;
+        }
+        writeLock.lock();
+        try {
+            loading = true;
+        } finally {
+            writeLock.unlock();
+        }
+        loader.execute(this::load);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * IDs de negocios activos cuyo nombre o categoría contienen todas las palabras de la consulta.
+     *
+     * @param query Consulta del usuario
+     * @return IDs encontrados (hasta max-results), o vacío si el índice no está disponible
+     */
+    public Optional<List<Long>> searchBusinesses(String query) {
+        return search(businesses, businessQueryTimer, query);
+    }
+
+    /**
+     * IDs de productos activos que contienen todas las palabras de la consulta en nombre, categoría o descripción.
+     *
+     * @param query Consulta del usuario
+     * @return IDs encontrados (hasta max-results), o vacío si el índice no está disponible
+     */
+    public Optional<List<Long>> searchProducts(String query) {
+        return search(products, productQueryTimer, query);
+    }
+
+    /**
+     * Página de {@link #searchBusinesses(String)} en orden de ID: los IDs mayores a afterId, hasta limit,
+     * entre todas las coincidencias (sin el tope de max-results).
+     *
+     * @param query Consulta del usuario
+     * @param afterId Último ID de la página anterior, o 0
+     * @param limit Máximo de IDs
+     * @return IDs en orden ascendente, o vacío si el índice no está disponible
+     */
+    public Optional<List<Long>> searchBusinessesAfter(String query, long afterId, int limit) {
+        return searchAfter(businesses, businessQueryTimer, query, afterId, limit);
+    }
+
+    /**
+     * Página de {@link #searchProducts(String)} en orden de ID: los IDs mayores a afterId, hasta limit,
+     * entre todas las coincidencias (sin el tope de max-results).
+     *
+     * @param query Consulta del usuario
+     * @param afterId Último ID de la página anterior, o 0
+     * @param limit Máximo de IDs
+     * @return IDs en orden ascendente, o vacío si el índice no está disponible
+     */
+    public Optional<List<Long>> searchProductsAfter(String query, long afterId, int limit) {
+        return searchAfter(products, productQueryTimer, query, afterId, limit);
+    }
+
+    /**
+     * Actualiza un negocio en el índice cuando se confirma la transacción actual (los inactivos se quitan).
+     */
+    public void onBusinessSaved(Business business) {
+        if (!enabled || business.getId() == null) {
+            return;
+        }
+        long id = business.getId();
+        boolean active = Boolean.TRUE.equals(business.getIsActive());
+        String prefixText = join(business.getName(), business.getCategory());
+        afterCommit(() -> write("b" + id, () -> {
+            if (active) {
+                businesses.put(id, prefixText, null);
+            } else {
+                businesses.remove(id);
+            }
+        }));
+    }
+
+    /**
+     * Actualiza un producto en el índice cuando se confirma la transacción actual (los inactivos se quitan).
+     */
+    public void onProductSaved(Product product) {
+        if (!enabled || product.getId() == null) {
+            return;
+        }
+        long id = product.getId();
+        boolean active = Boolean.TRUE.equals(product.getIsActive());
+        String prefixText = join(product.getName(), product.getCategory());
+        String wordText = product.getDescription();
+        afterCommit(() -> write("p" + id, () -> {
+            if (active) {
+                products.put(id, prefixText, wordText);
+            } else {
+                products.remove(id);
+            }
+        }));
+    }
+
+    /**
+     * Quita un producto del índice cuando se confirma la transacción actual.
+     */
+    public void onProductDeleted(Long id) {
+        if (!enabled || id == null) {
+            return;
+        }
+        afterCommit(() -> write("p" + id, () -> products.remove(id)));
+    }
+
+    private Optional<List<Long>> search(InvertedIndex index, Timer timer, String query) {
+        if (!ready || query == null) {
+            return Optional.empty();
+        }
+        long startNanos = System.nanoTime();
+        long[] ids = index.search(query, maxResults);
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        return Optional.of(box(ids, 0, ids.length));
+    }
+
+    private Optional<List<Long>> searchAfter(InvertedIndex index, Timer timer, String query, long afterId, int limit) {
+        if (!ready || query == null) {
+            return Optional.empty();
+        }
+        long startNanos = System.nanoTime();
+        // El filtro por ID se aplica dentro del recorrido, antes de acotar: ninguna página salta IDs
+        long[] ids = index.searchAfter(query, afterId, limit);
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        return Optional.of(box(ids, 0, ids.length));
+    }
+
+    private static List<Long> box(long[] ids, int from, int to) {
+        Long[] boxed = new Long[to - from];
+        for (int i = from; i < to; i++) {
+            boxed[i - from] = ids[i];
+        }
+        return List.of(boxed);
+    }
+
+    private void load() {
+        long startNanos = System.nanoTime();
+        try {
+            int businessCount = loadPages("b", businessRepository::findSearchFieldsAfter,
+                    row -> businesses.put((Long) row[0], join((String) row[1], (String) row[2]), null));
+            int productCount = loadPages("p", productRepository::findSearchFieldsAfter,
+                    row -> products.put((Long) row[0], join((String) row[1], (String) row[2]), (String) row[3]));
+            ready = true;
+            log.info("Índices de búsqueda cargados - negocios={}, productos={}, términos={}, ms={}",
+                    businessCount, productCount, businesses.termCount() + products.termCount(),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("No se pudieron cargar los índices de búsqueda, las búsquedas siguen yendo a la BD - error={}",
+                    e.getMessage());
+        } finally {
+            writeLock.lock();
+            try {
+                loading = false;
+                touchedWhileLoading.clear();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private int loadPages(String kind, BiFunction<Long, PageRequest, List<Object[]>> fetch,
+                          Consumer<Object[]> indexRow) {
+        int count = 0;
+        long afterId = 0;
+        PageRequest page = PageRequest.of(0, loadPageSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Object[]> rows = fetch.apply(afterId, page);
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                writeLock.lock();
+                try {
+                    if (!touchedWhileLoading.contains(kind + afterId)) {
+                        indexRow.accept(row);
+                        count++;
+                    }
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+            if (rows.size() < loadPageSize) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private void write(String key, Runnable update) {
+        writeLock.lock();
+        try {
+            if (loading) {
+                touchedWhileLoading.add(key);
+            }
+            update.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private static String join(String first, String second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null ? first : first + " " + second;
+    }
+
+    private static Timer queryTimer(String index, MeterRegistry meterRegistry) {
+        return Timer.builder("alexia.search.index.query")
+                .description("Latencia de consulta al índice de búsqueda en memoria")
+                .tag("index", index)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,371 @@
+package com.alexia.service;
+
+import com.alexia.config.ExecutorProvider;
+import com.alexia.dto.GrokMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Historial de conversación por chat, acotado en mensajes, tiempo y memoria.
+ *
+ * Cada chat guarda sus últimos N mensajes en un buffer circular (sin copiar listas al recortar).
+ * Los chats sin actividad durante el TTL se eliminan periódicamente, y si el total estimado
+ * de bytes supera el presupuesto se expulsan los chats menos recientes (LRU).
+ * Junto al historial se guarda el resumen de los turnos antiguos (ver PromptBuilder), que se
+ * expulsa con el chat y cuenta para el presupuesto. Publica alexia.conversation.chats y alexia.conversation.bytes.
+ */
+@Component
+@Slf4j
+public class ConversationStore {
+
+    /** Cabeceras de objeto, referencias y campos de GrokMessage + dos String. */
+    private static final int MESSAGE_OVERHEAD_BYTES = 96;
+
+    private final int maxMessages;
+    private final long idleTtlNanos;
+    private final long maxBytes;
+    private final long sweepIntervalMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Orden de acceso: el primer chat es el menos reciente. Protegido por lock. */
+    private final LinkedHashMap<Long, Conversation> conversations = new LinkedHashMap<>(16, 0.75f, true);
+    private long residentBytes;
+
+    private final Counter idleEvictions;
+    private final Counter memoryEvictions;
+    private final ScheduledExecutorService sweeper;
+
+    public ConversationStore(@Value("${alexia.conversation.max-messages:20}") int maxMessages,
+                             @Value("${alexia.conversation.idle-ttl-minutes:60}") long idleTtlMinutes,
+                             @Value("${alexia.conversation.max-bytes:33554432}") long maxBytes,
+                             @Value("${alexia.conversation.sweep-interval-seconds:60}") long sweepIntervalSeconds,
+                             MeterRegistry meterRegistry) {
+        this.maxMessages = maxMessages;
+        this.idleTtlNanos = TimeUnit.MINUTES.toNanos(idleTtlMinutes);
+        this.maxBytes = maxBytes;
+        this.sweepIntervalMillis = TimeUnit.SECONDS.toMillis(sweepIntervalSeconds);
+
+        this.idleEvictions = Counter.builder("alexia.conversation.evictions")
+                .description("Conversaciones eliminadas")
+                .tag("reason", "idle")
+                .register(meterRegistry);
+        this.memoryEvictions = Counter.builder("alexia.conversation.evictions")
+                .description("Conversaciones eliminadas")
+                .tag("reason", "memory")
+                .register(meterRegistry);
+        Gauge.builder("alexia.conversation.chats", this, ConversationStore::getResidentChats)
+                .description("Chats con historial en memoria")
+                .register(meterRegistry);
+        Gauge.builder("alexia.conversation.bytes", this, ConversationStore::getResidentBytes)
+                .description("Bytes estimados del historial en memoria")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+                ExecutorProvider.platformThreadFactory("conversation-sweeper-"));
+    }
+
+    @PostConstruct
+    void init() {
+        sweeper.scheduleWithFixedDelay(this::evictIdleSafely, sweepIntervalMillis, sweepIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        log.info("ConversationStore inicializado - maxMessages={}, idleTtlMinutes={}, maxBytes={}",
+                maxMessages, TimeUnit.NANOSECONDS.toMinutes(idleTtlNanos), maxBytes);
+    }
+
+    /**
+     * Agrega un mensaje al historial del chat; si está lleno, se descarta el más antiguo.
+     * PromptBuilder resume los turnos antes de que lleguen a descartarse.
+     *
+     * @param chatId ID del chat
+     * @param message Mensaje (user o assistant)
+     */
+    public void append(Long chatId, GrokMessage message) {
+        long bytes = estimateBytes(message);
+        lock.lock();
+        try {
+            Conversation conversation = conversations.computeIfAbsent(chatId, id -> new Conversation(maxMessages));
+            residentBytes += bytes - conversation.add(message, bytes);
+            conversation.lastAccessNanos = System.nanoTime();
+            evictOverBudget(chatId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Historial con números de secuencia y resumen, para armar el prompt.
+     *
+     * @param chatId ID del chat
+     * @return Vista del historial (vacía si no hay)
+     */
+    public History history(Long chatId) {
+        lock.lock();
+        try {
+            Conversation conversation = conversations.get(chatId);
+            if (conversation == null) {
+                return new History(new ArrayList<>(), 0, null, -1);
+            }
+            conversation.lastAccessNanos = System.nanoTime();
+            return new History(conversation.toList(), conversation.nextSeq - conversation.size,
+                    conversation.summary, conversation.summarizedThroughSeq);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reemplaza el resumen del chat si cubre turnos más recientes que el actual.
+     *
+     * @param chatId ID del chat
+     * @param summary Resumen nuevo
+     * @param throughSeq Secuencia del último mensaje incluido en el resumen
+     * @return true si se guardó
+     */
+    public boolean updateSummary(Long chatId, String summary, long throughSeq) {
+        lock.lock();
+        try {
+            Conversation conversation = conversations.get(chatId);
+            if (conversation == null || throughSeq <= conversation.summarizedThroughSeq) {
+                return false;
+            }
+            long delta = summaryBytes(summary) - summaryBytes(conversation.summary);
+            conversation.summary = summary;
+            conversation.summarizedThroughSeq = throughSeq;
+            conversation.bytes += delta;
+            residentBytes += delta;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registra los tokens de prompt de la última llamada del chat (según la API).
+     */
+    public void recordPromptTokens(Long chatId, int promptTokens) {
+        lock.lock();
+        try {
+            Conversation conversation = conversations.get(chatId);
+            if (conversation != null) {
+                conversation.lastPromptTokens = promptTokens;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tokens de prompt de la última llamada del chat, o 0 si no se conocen.
+     */
+    public int getPromptTokens(Long chatId) {
+        lock.lock();
+        try {
+            Conversation conversation = conversations.get(chatId);
+            return conversation != null ? conversation.lastPromptTokens : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Elimina el historial de un chat.
+     */
+    public void clear(Long chatId) {
+        lock.lock();
+        try {
+            Conversation removed = conversations.remove(chatId);
+            if (removed != null) {
+                residentBytes -= removed.bytes;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Número de mensajes guardados para un chat.
+     */
+    public int size(Long chatId) {
+        lock.lock();
+        try {
+            Conversation conversation = conversations.get(chatId);
+            return conversation != null ? conversation.size : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Mensajes que caben en el historial de un chat antes de descartar el más antiguo.
+     */
+    public int getMaxMessages() {
+        return maxMessages;
+    }
+
+    public int getResidentChats() {
+        lock.lock();
+        try {
+            return conversations.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getResidentBytes() {
+        lock.lock();
+        try {
+            return residentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Elimina los chats sin actividad durante el TTL.
+     *
+     * @return Número de chats eliminados
+     */
+    int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        lock.lock();
+        try {
+            Iterator<Conversation> iterator = conversations.values().iterator();
+            while (iterator.hasNext()) {
+                Conversation conversation = iterator.next();
+                if (now - conversation.lastAccessNanos < idleTtlNanos) {
+                    continue;
+                }
+                iterator.remove();
+                residentBytes -= conversation.bytes;
+                evicted++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (evicted > 0) {
+            idleEvictions.increment(evicted);
+            log.info("Conversaciones inactivas eliminadas - chats={}", evicted);
+        }
+        return evicted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    private void evictIdleSafely() {
+        try {
+            evictIdle();
+        } catch (Exception e) {
+            log.error("Error al eliminar conversaciones inactivas - error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Expulsa chats LRU hasta volver al presupuesto, sin tocar el chat que se está escribiendo.
+     * Se llama con el lock tomado.
+     */
+    private void evictOverBudget(Long currentChatId) {
+        Iterator<Map.Entry<Long, Conversation>> iterator = conversations.entrySet().iterator();
+        while (residentBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<Long, Conversation> eldest = iterator.next();
+            if (eldest.getKey().equals(currentChatId)) {
+                continue;
+            }
+            iterator.remove();
+            residentBytes -= eldest.getValue().bytes;
+            memoryEvictions.increment();
+            log.debug("Conversación expulsada por presupuesto de memoria - chatId={}", eldest.getKey());
+        }
+    }
+
+    private static long summaryBytes(String summary) {
+        return summary == null ? 0 : MESSAGE_OVERHEAD_BYTES + 2L * summary.length();
+    }
+
+    static long estimateBytes(GrokMessage message) {
+        int chars = (message.getRole() != null ? message.getRole().length() : 0)
+                + (message.getContent() != null ? message.getContent().length() : 0);
+        return MESSAGE_OVERHEAD_BYTES + 2L * chars;
+    }
+
+    /**
+     * Historial de un chat en un instante.
+     *
+     * @param messages Mensajes, del más antiguo al más reciente
+     * @param firstSeq Secuencia del primer mensaje (las siguientes son consecutivas)
+     * @param summary Resumen de turnos antiguos, o null
+     * @param summarizedThroughSeq Secuencia del último mensaje incluido en el resumen (-1 si no hay)
+     */
+    public record History(List<GrokMessage> messages, long firstSeq, String summary, long summarizedThroughSeq) {
+    }
+
+    /**
+     * Buffer circular de mensajes de un chat. Protegido por el lock del store.
+     */
+    private static final class Conversation {
+        private final GrokMessage[] ring;
+        private final long[] ringBytes;
+        private int head;
+        private int size;
+        /** Secuencia que recibirá el próximo mensaje: el más antiguo guardado es nextSeq - size. */
+        private long nextSeq;
+        private long bytes;
+        private long lastAccessNanos = System.nanoTime();
+        private String summary;
+        private long summarizedThroughSeq = -1;
+        private int lastPromptTokens;
+
+        private Conversation(int capacity) {
+            this.ring = new GrokMessage[capacity];
+            this.ringBytes = new long[capacity];
+        }
+
+        /**
+         * @return Bytes liberados al sobrescribir el mensaje más antiguo (0 si había sitio)
+         */
+        private long add(GrokMessage message, long messageBytes) {
+            int slot = (head + size) % ring.length;
+            long freed = 0;
+            if (size == ring.length) {
+                freed = ringBytes[head];
+                slot = head;
+                head = (head + 1) % ring.length;
+            } else {
+                size++;
+            }
+            ring[slot] = message;
+            ringBytes[slot] = messageBytes;
+            nextSeq++;
+            bytes += messageBytes - freed;
+            return freed;
+        }
+
+        private List<GrokMessage> toList() {
+            List<GrokMessage> messages = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                messages.add(ring[(head + i) % ring.length]);
+            }
+            return messages;
+        }
+    }
+}
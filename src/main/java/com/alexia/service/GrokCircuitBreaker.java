@@ -0,0 +1,255 @@
+package com.alexia.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker para las llamadas a Groq.
+ *
+ * Cerrado: registra el resultado de las últimas N llamadas en una ventana deslizante; si la tasa
+ * de fallos o de llamadas lentas supera su umbral, se abre. Abierto: rechaza las llamadas al
+ * instante durante un tiempo (o el Retry-After que indicó la API, si es mayor). Medio abierto:
+ * deja pasar unas pocas llamadas de prueba; si todas van bien se cierra, si alguna falla se reabre.
+ */
+@Component
+@Slf4j
+public class GrokCircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+    private static final byte SLOW_FAILURE = FAILURE | SLOW;
+
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Ventana circular de resultados (bits FAILURE y SLOW). Protegida por lock. */
+    private final byte[] window;
+    private int windowHead;
+    private int windowCount;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    private final Counter rejected;
+    private final Counter opened;
+
+    @Autowired
+    public GrokCircuitBreaker(@Value("${grok.breaker.window-size:20}") int windowSize,
+                              @Value("${grok.breaker.min-calls:10}") int minCalls,
+                              @Value("${grok.breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                              @Value("${grok.breaker.slow-call-ms:10000}") long slowCallMillis,
+                              @Value("${grok.breaker.slow-call-rate-threshold:0.8}") double slowCallRateThreshold,
+                              @Value("${grok.breaker.open-ms:30000}") long openMillis,
+                              @Value("${grok.breaker.half-open-probes:3}") int halfOpenProbes,
+                              MeterRegistry meterRegistry) {
+        this(windowSize, minCalls, failureRateThreshold, slowCallMillis, slowCallRateThreshold, openMillis,
+                halfOpenProbes, meterRegistry, System::nanoTime);
+    }
+
+    GrokCircuitBreaker(int windowSize, int minCalls, double failureRateThreshold, long slowCallMillis,
+                       double slowCallRateThreshold, long openMillis, int halfOpenProbes,
+                       MeterRegistry meterRegistry, LongSupplier clock) {
+        this.window = new byte[windowSize];
+        this.minCalls = Math.min(minCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.halfOpenProbes = halfOpenProbes;
+        this.clock = clock;
+
+        this.rejected = Counter.builder("alexia.grok.breaker.rejected")
+                .description("Llamadas a Groq rechazadas con el circuito abierto")
+                .register(meterRegistry);
+        this.opened = Counter.builder("alexia.grok.breaker.opened")
+                .description("Veces que se abrió el circuito de Groq")
+                .register(meterRegistry);
+        Gauge.builder("alexia.grok.breaker.state", this, breaker -> breaker.getState().ordinal())
+                .description("Estado del circuito de Groq (0=cerrado, 1=medio abierto, 2=abierto)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Pide permiso para hacer una llamada.
+     *
+     * @return true si la llamada puede hacerse; false si hay que fallar rápido
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && clock.getAsLong() - openUntilNanos >= 0) {
+                transitionTo(State.HALF_OPEN);
+            }
+            boolean permitted = switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (probesInFlight + probesSucceeded < halfOpenProbes) {
+                        probesInFlight++;
+                        yield true;
+                    }
+                    yield false;
+                }
+            };
+            if (!permitted) {
+                rejected.increment();
+            }
+            return permitted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registra una llamada terminada con éxito.
+     *
+     * @param durationNanos Duración de la llamada
+     */
+    public void onSuccess(long durationNanos) {
+        record(durationNanos >= slowCallNanos ? SLOW : SUCCESS, 0);
+    }
+
+    /**
+     * Registra una llamada fallida (error de red, plazo vencido, 429 o 5xx).
+     *
+     * @param durationNanos Duración de la llamada
+     * @param retryAfterMillis Retry-After indicado por la API (0 si no hay): si se abre el circuito,
+     *                         permanece abierto al menos ese tiempo
+     */
+    public void onFailure(long durationNanos, long retryAfterMillis) {
+        record(durationNanos >= slowCallNanos ? SLOW_FAILURE : FAILURE, retryAfterMillis);
+    }
+
+    /**
+     * Devuelve un permiso sin registrar resultado (p. ej. llamada cancelada por el usuario).
+     */
+    public void release() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && probesInFlight > 0) {
+                probesInFlight--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && clock.getAsLong() - openUntilNanos >= 0) {
+                return State.HALF_OPEN;
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Milisegundos hasta que el circuito abierto admita llamadas de prueba (0 si no está abierto).
+     */
+    public long getRemainingOpenMillis() {
+        lock.lock();
+        try {
+            if (state != State.OPEN) {
+                return 0;
+            }
+            return Math.max(0, TimeUnit.NANOSECONDS.toMillis(openUntilNanos - clock.getAsLong()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(byte outcome, long retryAfterMillis) {
+        boolean failed = (outcome & FAILURE) != 0;
+        lock.lock();
+        try {
+            switch (state) {
+                case HALF_OPEN -> {
+                    probesInFlight = Math.max(0, probesInFlight - 1);
+                    if (failed) {
+                        open(retryAfterMillis);
+                    } else if (++probesSucceeded >= halfOpenProbes) {
+                        transitionTo(State.CLOSED);
+                    }
+                }
+                case CLOSED -> {
+                    add(outcome);
+                    if (windowCount >= minCalls
+                            && ((double) failures / windowCount >= failureRateThreshold
+                            || (double) slowCalls / windowCount >= slowCallRateThreshold)) {
+                        log.warn("Circuito de Groq abierto - fallos={}/{}, lentas={}/{}",
+                                failures, windowCount, slowCalls, windowCount);
+                        open(retryAfterMillis);
+                    }
+                }
+                case OPEN -> {
+                    // Llamada que empezó antes de abrirse: no cambia el estado
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(byte outcome) {
+        if (windowCount == window.length) {
+            byte evicted = window[windowHead];
+            failures -= evicted & FAILURE;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            windowCount++;
+        }
+        window[windowHead] = outcome;
+        windowHead = (windowHead + 1) % window.length;
+        failures += outcome & FAILURE;
+        slowCalls += (outcome & SLOW) >> 1;
+    }
+
+    private void open(long retryAfterMillis) {
+        openUntilNanos = clock.getAsLong() + Math.max(openNanos, TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+        opened.increment();
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State next) {
+        if (state == next) {
+            return;
+        }
+        log.info("Circuito de Groq: {} -> {}", state, next);
+        state = next;
+        probesInFlight = 0;
+        probesSucceeded = 0;
+        if (next == State.CLOSED) {
+            windowHead = 0;
+            windowCount = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+}
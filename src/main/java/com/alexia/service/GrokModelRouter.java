@@ -0,0 +1,233 @@
+package com.alexia.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Elige el modelo de Groq para cada tipo de llamada (ruta): intent, conversation y summary.
+ *
+ * Cada ruta tiene su modelo principal, un modelo alternativo opcional y un SLO de latencia p95.
+ * Se mide el p95 del modelo principal sobre sus últimas llamadas (una llamada fallida cuenta
+ * como incumplimiento); si supera el SLO, la ruta pasa al modelo alternativo durante un tiempo
+ * y después vuelve a probar con el principal.
+ * Publica latencia y tokens por ruta y modelo (alexia.grok.route.*).
+ */
+@Component
+@Slf4j
+public class GrokModelRouter {
+
+    public static final String INTENT = "intent";
+    public static final String CONVERSATION = "conversation";
+    public static final String SUMMARY = "summary";
+
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final int minSamples;
+    private final long failoverNanos;
+    private final Map<String, Route> routes;
+
+    @Autowired
+    public GrokModelRouter(@Value("${grok.routes.intent.model:${grok.model}}") String intentModel,
+                           @Value("${grok.routes.intent.fallback-model:}") String intentFallback,
+                           @Value("${grok.routes.intent.slo-p95-ms:1500}") long intentSloMillis,
+                           @Value("${grok.routes.conversation.model:${grok.model}}") String conversationModel,
+                           @Value("${grok.routes.conversation.fallback-model:}") String conversationFallback,
+                           @Value("${grok.routes.conversation.slo-p95-ms:8000}") long conversationSloMillis,
+                           @Value("${grok.routes.summary.model:${grok.model}}") String summaryModel,
+                           @Value("${grok.routes.summary.fallback-model:}") String summaryFallback,
+                           @Value("${grok.routes.summary.slo-p95-ms:15000}") long summarySloMillis,
+                           @Value("${grok.routes.window-size:50}") int windowSize,
+                           @Value("${grok.routes.min-samples:20}") int minSamples,
+                           @Value("${grok.routes.failover-ms:120000}") long failoverMillis,
+                           MeterRegistry meterRegistry) {
+        this(intentModel, intentFallback, intentSloMillis, conversationModel, conversationFallback, conversationSloMillis,
+                summaryModel, summaryFallback, summarySloMillis, windowSize, minSamples, failoverMillis,
+                meterRegistry, System::nanoTime);
+    }
+
+    GrokModelRouter(String intentModel, String intentFallback, long intentSloMillis,
+                    String conversationModel, String conversationFallback, long conversationSloMillis,
+                    String summaryModel, String summaryFallback, long summarySloMillis,
+                    int windowSize, int minSamples, long failoverMillis,
+                    MeterRegistry meterRegistry, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.minSamples = Math.min(minSamples, windowSize);
+        this.failoverNanos = TimeUnit.MILLISECONDS.toNanos(failoverMillis);
+        this.routes = Map.of(
+                INTENT, new Route(INTENT, intentModel, intentFallback, intentSloMillis, windowSize),
+                CONVERSATION, new Route(CONVERSATION, conversationModel, conversationFallback, conversationSloMillis, windowSize),
+                SUMMARY, new Route(SUMMARY, summaryModel, summaryFallback, summarySloMillis, windowSize));
+
+        routes.values().forEach(route -> log.info("Ruta de Grok '{}' - model={}, fallback={}, sloP95Ms={}",
+                route.name, route.primary, route.fallback, TimeUnit.NANOSECONDS.toMillis(route.sloNanos)));
+    }
+
+    /**
+     * Modelo a usar ahora para una ruta: el principal, o el alternativo si la ruta está en failover.
+     *
+     * @param route intent, conversation o summary
+     */
+    public String modelFor(String route) {
+        return route(route).current();
+    }
+
+    /**
+     * Registra la latencia de una llamada y, si es del modelo principal, evalúa el SLO de la ruta.
+     *
+     * @param route Ruta de la llamada
+     * @param model Modelo usado
+     * @param latencyNanos Latencia del intento
+     * @param success false si la llamada falló (error de red, 429, 5xx o plazo vencido)
+     */
+    public void recordLatency(String route, String model, long latencyNanos, boolean success) {
+        Timer.builder("alexia.grok.route.latency")
+                .description("Latencia de las llamadas a Groq por ruta y modelo")
+                .tag("route", route)
+                .tag("model", model)
+                .tag("outcome", success ? "success" : "error")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(latencyNanos, TimeUnit.NANOSECONDS);
+        route(route).record(model, latencyNanos, success);
+    }
+
+    /**
+     * Registra los tokens que informó la API para una llamada.
+     */
+    public void recordTokens(String route, String model, Integer prompt, Integer completion) {
+        if (prompt != null) {
+            tokens(route, model, "prompt").record(prompt);
+        }
+        if (completion != null) {
+            tokens(route, model, "completion").record(completion);
+        }
+    }
+
+    /**
+     * p95 actual del modelo principal de una ruta en milisegundos (0 si aún no hay muestras suficientes).
+     */
+    public long getPrimaryP95Millis(String route) {
+        return TimeUnit.NANOSECONDS.toMillis(route(route).p95());
+    }
+
+    public boolean isFailedOver(String route) {
+        Route current = route(route);
+        return !current.current().equals(current.primary);
+    }
+
+    private DistributionSummary tokens(String route, String model, String kind) {
+        return DistributionSummary.builder("alexia.grok.route.tokens")
+                .description("Tokens por llamada a Groq por ruta y modelo")
+                .tag("route", route)
+                .tag("model", model)
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    private Route route(String name) {
+        Route route = routes.get(name);
+        if (route == null) {
+            throw new IllegalArgumentException("Ruta de Grok desconocida: " + name);
+        }
+        return route;
+    }
+
+    private final class Route {
+
+        private final String name;
+        private final String primary;
+        private final String fallback;
+        private final long sloNanos;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        /** Latencias recientes del modelo principal (ventana circular). Protegida por lock. */
+        private final long[] window;
+        private int head;
+        private int count;
+        private long failoverUntilNanos;
+        private boolean failedOver;
+
+        private Route(String name, String primary, String fallback, long sloMillis, int windowSize) {
+            this.name = name;
+            this.primary = primary;
+            // Sin alternativa, o la misma que el principal: la ruta no hace failover
+            this.fallback = fallback == null || fallback.isBlank() || fallback.equals(primary) ? null : fallback.trim();
+            this.sloNanos = TimeUnit.MILLISECONDS.toNanos(sloMillis);
+            this.window = new long[windowSize];
+
+            Gauge.builder("alexia.grok.route.failover", this, route -> route.current().equals(route.primary) ? 0 : 1)
+                    .description("1 si la ruta usa el modelo alternativo por incumplir su SLO")
+                    .tag("route", name)
+                    .register(meterRegistry);
+        }
+
+        private String current() {
+            if (fallback == null) {
+                return primary;
+            }
+            lock.lock();
+            try {
+                if (failedOver && clock.getAsLong() - failoverUntilNanos >= 0) {
+                    failedOver = false;
+                    log.info("Ruta de Grok '{}' vuelve al modelo principal {}", name, primary);
+                }
+                return failedOver ? fallback : primary;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void record(String model, long latencyNanos, boolean success) {
+            if (!primary.equals(model)) {
+                return;
+            }
+            lock.lock();
+            try {
+                // Un fallo cuenta como llamada fuera de SLO
+                window[head] = success ? latencyNanos : Math.max(latencyNanos, sloNanos + 1);
+                head = (head + 1) % window.length;
+                count = Math.min(count + 1, window.length);
+
+                long p95 = p95();
+                if (fallback != null && !failedOver && count >= minSamples && p95 > sloNanos) {
+                    failedOver = true;
+                    failoverUntilNanos = clock.getAsLong() + failoverNanos;
+                    // Al volver al principal se mide de nuevo desde cero
+                    count = 0;
+                    head = 0;
+                    log.warn("Ruta de Grok '{}' fuera de SLO (p95={} ms > {} ms), usando {}", name,
+                            TimeUnit.NANOSECONDS.toMillis(p95), TimeUnit.NANOSECONDS.toMillis(sloNanos), fallback);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long p95() {
+            lock.lock();
+            try {
+                if (count < minSamples || count == 0) {
+                    return 0;
+                }
+                long[] sorted = Arrays.copyOf(window, count);
+                Arrays.sort(sorted);
+                return sorted[(int) Math.ceil(0.95 * count) - 1];
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
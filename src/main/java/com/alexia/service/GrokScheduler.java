@@ -0,0 +1,407 @@
+package com.alexia.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Planificador de llamadas a Groq con límite de concurrencia adaptativo (AIMD).
+ *
+ * Cada intento de llamada pide un permiso. Mientras haya menos llamadas en curso que el límite,
+ * el permiso se concede al instante; si no, la petición espera en cola. El límite sube de a poco
+ * cuando las llamadas terminan bien con el límite ocupado (+1/límite) y baja de golpe
+ * (× backoff-ratio) ante 429, 5xx, errores de red, plazos vencidos o latencias sobre el umbral.
+ *
+ * La cola tiene clases de prioridad (intención, que incluye la captura de leads, antes que la
+ * conversación, y esta antes que los resúmenes) y dentro de cada clase atiende por turnos a los
+ * chats, para que un chat con muchos mensajes no acapare la cuota. Una petición que no llegaría
+ * a tiempo según la latencia observada se rechaza al encolarla en vez de esperar para nada.
+ */
+@Component
+@Slf4j
+public class GrokScheduler {
+
+    /** Clases de prioridad, en orden de atención. */
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
+    /** Clave de cola para las llamadas que no pertenecen a un chat. */
+    private static final long NO_CHAT = Long.MIN_VALUE;
+    /** Peso de la última muestra en la media móvil de latencia. */
+    private static final double LATENCY_ALPHA = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueued;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Colas por prioridad; dentro de cada una, por chat en orden de turno. Protegidas por lock. */
+    private final List<LinkedHashMap<Long, ArrayDeque<Waiter>>> queues = new ArrayList<>();
+    private final int[] queuedByPriority = new int[Priority.values().length];
+    private int queued;
+    private int inFlight;
+    private double limit;
+    private long latencyNanos;
+    private long lastDecreaseNanos;
+
+    private final Map<Priority, Counter> shedQueueFull = new LinkedHashMap<>();
+    private final Map<Priority, Counter> shedDeadline = new LinkedHashMap<>();
+    private final Map<Priority, Timer> waitTimers = new LinkedHashMap<>();
+
+    @Autowired
+    public GrokScheduler(@Value("${grok.scheduler.initial-limit:8}") int initialLimit,
+                         @Value("${grok.scheduler.min-limit:2}") int minLimit,
+                         @Value("${grok.scheduler.max-limit:64}") int maxLimit,
+                         @Value("${grok.scheduler.max-queued:500}") int maxQueued,
+                         @Value("${grok.scheduler.backoff-ratio:0.75}") double backoffRatio,
+                         @Value("${grok.scheduler.latency-threshold-ms:6000}") long latencyThresholdMillis,
+                         MeterRegistry meterRegistry) {
+        this(initialLimit, minLimit, maxLimit, maxQueued, backoffRatio, latencyThresholdMillis,
+                meterRegistry, System::nanoTime);
+    }
+
+    GrokScheduler(int initialLimit, int minLimit, int maxLimit, int maxQueued, double backoffRatio,
+                  long latencyThresholdMillis, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = maxLimit;
+        this.maxQueued = maxQueued;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.clock = clock;
+        this.limit = Math.max(this.minLimit, Math.min(maxLimit, initialLimit));
+        // La primera reducción no tiene que esperar
+        this.lastDecreaseNanos = clock.getAsLong() - TimeUnit.HOURS.toNanos(1);
+
+        for (Priority priority : Priority.values()) {
+            queues.add(new LinkedHashMap<>());
+            String tag = priority.name().toLowerCase();
+            shedQueueFull.put(priority, Counter.builder("alexia.grok.scheduler.shed")
+                    .description("Llamadas a Groq rechazadas por el planificador")
+                    .tag("priority", tag)
+                    .tag("reason", "queue_full")
+                    .register(meterRegistry));
+            shedDeadline.put(priority, Counter.builder("alexia.grok.scheduler.shed")
+                    .description("Llamadas a Groq rechazadas por el planificador")
+                    .tag("priority", tag)
+                    .tag("reason", "deadline")
+                    .register(meterRegistry));
+            waitTimers.put(priority, Timer.builder("alexia.grok.scheduler.wait")
+                    .description("Espera en cola hasta obtener permiso para llamar a Groq")
+                    .tag("priority", tag)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("alexia.grok.scheduler.limit", this, GrokScheduler::getLimit)
+                .description("Límite de llamadas simultáneas a Groq")
+                .register(meterRegistry);
+        Gauge.builder("alexia.grok.scheduler.inflight", this, GrokScheduler::getInFlight)
+                .description("Llamadas a Groq en curso")
+                .register(meterRegistry);
+        Gauge.builder("alexia.grok.scheduler.queued", this, GrokScheduler::getQueued)
+                .description("Llamadas a Groq esperando permiso")
+                .register(meterRegistry);
+
+        log.info("GrokScheduler inicializado - initialLimit={}, minLimit={}, maxLimit={}, maxQueued={}",
+                initialLimit, minLimit, maxLimit, maxQueued);
+    }
+
+    /**
+     * Pide permiso para hacer una llamada.
+     *
+     * @param priority Clase de prioridad
+     * @param chatId Chat que origina la llamada (null si no pertenece a un chat)
+     * @param deadlineNanos Instante (System.nanoTime) en que vence el plazo de la llamada
+     * @return Permiso, que hay que devolver con onSuccess, onFailure o release. Falla con
+     *         SchedulerRejectedException si la cola está llena o el plazo no se puede cumplir.
+     *         Cancelar el future saca la petición de la cola.
+     */
+    public CompletableFuture<Permit> acquire(Priority priority, Long chatId, long deadlineNanos) {
+        long now = clock.getAsLong();
+        Waiter waiter = new Waiter(priority, chatId != null ? chatId : NO_CHAT, deadlineNanos, now);
+        String rejection = null;
+        lock.lock();
+        try {
+            if (inFlight < (int) limit && queued == 0) {
+                inFlight++;
+                waiter.future.complete(new Permit());
+                return waiter.future;
+            }
+            if (queued >= maxQueued) {
+                rejection = "cola llena";
+                shedQueueFull.get(priority).increment();
+            } else if (!canMeetDeadline(deadlineNanos, now, queuedAhead(priority) + 1)) {
+                rejection = "el plazo no se puede cumplir";
+                shedDeadline.get(priority).increment();
+            } else {
+                queues.get(priority.ordinal())
+                        .computeIfAbsent(waiter.chatKey, key -> new ArrayDeque<>())
+                        .add(waiter);
+                queuedByPriority[priority.ordinal()]++;
+                queued++;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (rejection != null) {
+            log.warn("Llamada a Groq rechazada por el planificador - priority={}, chatId={}, motivo={}",
+                    priority, chatId, rejection);
+            waiter.future.completeExceptionally(new SchedulerRejectedException(rejection));
+            return waiter.future;
+        }
+
+        // Si sale de la cola por cancelación o plazo vencido, se quita de la cola
+        waiter.future.whenComplete((permit, error) -> {
+            if (error != null) {
+                remove(waiter);
+            }
+        });
+        CompletableFuture.delayedExecutor(Math.max(0, deadlineNanos - now), TimeUnit.NANOSECONDS)
+                .execute(() -> {
+                    if (waiter.future.completeExceptionally(new SchedulerRejectedException("plazo vencido en cola"))) {
+                        shedDeadline.get(priority).increment();
+                    }
+                });
+        return waiter.future;
+    }
+
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Latencia que se espera para el plazo: media de las llamadas en curso antes de esta, por las
+     * rondas de cola que tiene delante, más la propia llamada. Sin muestras aún, no se rechaza.
+     */
+    private boolean canMeetDeadline(long deadlineNanos, long now, int position) {
+        if (latencyNanos == 0) {
+            return deadlineNanos - now > 0;
+        }
+        double rounds = Math.ceil(position / Math.max(1.0, limit));
+        return deadlineNanos - now - (long) (latencyNanos * (rounds + 1)) > 0;
+    }
+
+    private int queuedAhead(Priority priority) {
+        int ahead = 0;
+        for (int p = 0; p <= priority.ordinal(); p++) {
+            ahead += queuedByPriority[p];
+        }
+        return ahead;
+    }
+
+    private void remove(Waiter waiter) {
+        lock.lock();
+        try {
+            Map<Long, ArrayDeque<Waiter>> queue = queues.get(waiter.priority.ordinal());
+            ArrayDeque<Waiter> chatQueue = queue.get(waiter.chatKey);
+            if (chatQueue != null && chatQueue.remove(waiter)) {
+                queuedByPriority[waiter.priority.ordinal()]--;
+                queued--;
+                if (chatQueue.isEmpty()) {
+                    queue.remove(waiter.chatKey);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Devuelve un permiso, ajusta el límite y concede los permisos que quepan.
+     * Los futures se completan fuera del lock: quien espera el permiso lanza la llamada HTTP.
+     */
+    private void complete(long latency, boolean congested, boolean adjust) {
+        List<Waiter> granted = new ArrayList<>();
+        List<Waiter> shed = new ArrayList<>();
+        lock.lock();
+        try {
+            inFlight--;
+            if (adjust) {
+                adjustLimit(latency, congested);
+            }
+            long now = clock.getAsLong();
+            while (inFlight < (int) limit && queued > 0) {
+                Waiter next = pollNext();
+                if (!canMeetDeadline(next.deadlineNanos, now, 0)) {
+                    shed.add(next);
+                    continue;
+                }
+                inFlight++;
+                granted.add(next);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Waiter waiter : shed) {
+            if (waiter.future.completeExceptionally(new SchedulerRejectedException("el plazo no se puede cumplir"))) {
+                shedDeadline.get(waiter.priority).increment();
+            }
+        }
+        for (Waiter waiter : granted) {
+            waitTimers.get(waiter.priority).record(clock.getAsLong() - waiter.enqueuedNanos, TimeUnit.NANOSECONDS);
+            if (!waiter.future.complete(new Permit())) {
+                // Cancelado o vencido mientras se concedía: el permiso se devuelve sin señal
+                complete(0, false, false);
+            }
+        }
+    }
+
+    /**
+     * AIMD: ante congestión reduce el límite (como mucho una vez por latencia media, para no
+     * desplomarlo por una ráfaga de fallos de la misma causa); si no, lo sube 1/límite cuando
+     * la llamada se hizo con el límite ocupado.
+     */
+    private void adjustLimit(long latency, boolean congested) {
+        long now = clock.getAsLong();
+        if (latency > 0) {
+            latencyNanos = latencyNanos == 0 ? latency
+                    : (long) (LATENCY_ALPHA * latency + (1 - LATENCY_ALPHA) * latencyNanos);
+        }
+        if (congested || latency > latencyThresholdNanos) {
+            if (now - lastDecreaseNanos >= latencyNanos) {
+                double previous = limit;
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = now;
+                if ((int) limit < (int) previous) {
+                    log.info("Límite de llamadas a Groq reducido - {} -> {}", (int) previous, (int) limit);
+                }
+            }
+        } else if (inFlight + 1 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * Siguiente petición: la clase de mayor prioridad con cola y, dentro de ella, el chat al que
+     * le toca; si ese chat tiene más peticiones, pasa al final del turno.
+     */
+    private Waiter pollNext() {
+        for (int p = 0; p < queues.size(); p++) {
+            LinkedHashMap<Long, ArrayDeque<Waiter>> queue = queues.get(p);
+            Iterator<Map.Entry<Long, ArrayDeque<Waiter>>> turn = queue.entrySet().iterator();
+            if (!turn.hasNext()) {
+                continue;
+            }
+            Map.Entry<Long, ArrayDeque<Waiter>> entry = turn.next();
+            turn.remove();
+            Waiter next = entry.getValue().poll();
+            if (!entry.getValue().isEmpty()) {
+                queue.put(entry.getKey(), entry.getValue());
+            }
+            queuedByPriority[p]--;
+            queued--;
+            return next;
+        }
+        throw new IllegalStateException("Cola vacía con queued=" + queued);
+    }
+
+    /**
+     * Permiso para una llamada en curso. Se devuelve una sola vez; las siguientes se ignoran.
+     */
+    public final class Permit {
+
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        /**
+         * La llamada terminó bien (también un 4xx que no sea 429).
+         *
+         * @param latencyNanos Latencia de la llamada
+         */
+        public void onSuccess(long latencyNanos) {
+            if (returned.compareAndSet(false, true)) {
+                complete(latencyNanos, false, true);
+            }
+        }
+
+        /**
+         * La llamada falló por congestión: 429, 5xx, error de red o plazo vencido.
+         */
+        public void onFailure() {
+            if (returned.compareAndSet(false, true)) {
+                complete(0, true, true);
+            }
+        }
+
+        /**
+         * Devuelve el permiso sin ajustar el límite (llamada cancelada o no enviada).
+         */
+        public void release() {
+            if (returned.compareAndSet(false, true)) {
+                complete(0, false, false);
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final Priority priority;
+        private final long chatKey;
+        private final long deadlineNanos;
+        private final long enqueuedNanos;
+        private final CompletableFuture<Permit> future = new CompletableFuture<>();
+
+        private Waiter(Priority priority, long chatKey, long deadlineNanos, long enqueuedNanos) {
+            this.priority = priority;
+            this.chatKey = chatKey;
+            this.deadlineNanos = deadlineNanos;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    /**
+     * La llamada no se hizo: la cola estaba llena o no iba a terminar dentro de su plazo.
+     */
+    public static class SchedulerRejectedException extends IOException {
+        public SchedulerRejectedException(String reason) {
+            super("Llamada a Groq rechazada por el planificador: " + reason);
+        }
+    }
+}
@@ -3,34 +3,65 @@ package com.alexia.service;
 import com.alexia.dto.GrokMessage;
 import com.alexia.dto.GrokIntent;
 import com.alexia.dto.GrokRequest;
-import com.alexia.dto.GrokResponse;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
+import okio.BufferedSource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Servicio para comunicación con Grok AI (Groq API).
+ *
+ * Las llamadas se hacen con enqueue de OkHttp y devuelven CompletableFuture: el hilo que pide
+ * no queda bloqueado, cada llamada tiene su plazo (deadline) y cancelar el future cancela la
+ * petición HTTP. La llamada de conversación en curso de un chat se cancela cuando empieza otra o
+ * cuando el usuario envía un mensaje nuevo ({@link #cancelInFlight(Long)}).
+ * Los métodos síncronos esperan sobre la versión asíncrona; el bot usa solo la asíncrona.
+ *
+ * Las llamadas pasan por un circuit breaker (GrokCircuitBreaker): con el circuito abierto fallan
+ * al instante. Los errores de red, 429 y 5xx se reintentan un número acotado de veces con espera
+ * exponencial con jitter, respetando Retry-After y sin pasar del plazo de la llamada.
+ *
+ * Cada intento pide además permiso a GrokScheduler, que limita la concurrencia según la latencia
+ * observada y atiende antes la detección de intención que la conversación y los resúmenes.
  */
 @Service
 @Slf4j
 public class GrokService {
     
-    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
-    private static final int MAX_HISTORY_SIZE = 20;
     private static final String SYSTEM_PROMPT = 
             "Eres un asistente útil, amigable y conversacional. " +
             "Respondes en español de manera clara y concisa. " +
             "Eres servicial y proporcionas información precisa.";
 
+    private static final String SUMMARY_PROMPT =
+            "Resume en español, en un máximo de 5 frases, la conversación siguiente entre un usuario y un asistente. " +
+            "Conserva nombres, productos, negocios, lugares, cantidades y preferencias que el usuario haya mencionado. " +
+            "Responde solo con el resumen.";
+
     private static final String INTENT_PROMPT =
             "You are an expert in classifying user intent for a local business directory bot. " +
             "Analyze the user's message and classify it into one of these intents: PRODUCT_SEARCH, BUSINESS_SEARCH, LEAD_CAPTURE, COMPARE_PRICES, or GENERAL_QUERY. " +
@@ -53,6 +84,19 @@ public class GrokService {
             "'quién vende vasos más barato?': {\"intent\": \"COMPARE_PRICES\", \"searchTerm\": \"vasos\", \"confidence\": 0.9}\n" +
             "'hola como estas?': {\"intent\": \"GENERAL_QUERY\", \"searchTerm\": null, \"confidence\": 1.0}\n" +
             "\n\nRespond ONLY with the JSON object.";
+
+    private static final String BATCH_INTENT_SUFFIX =
+            "\n\nBATCH MODE: the user message is a JSON array of messages. Classify each message independently " +
+            "and respond ONLY with {\"results\": [...]}, one object per message, in the same order and with the same fields as above.";
+
+    private static final String BATCH_INTENT_PROMPT = INTENT_PROMPT + BATCH_INTENT_SUFFIX;
+
+    private static final String COMBINED_SUFFIX =
+            "\n\nSINGLE-PASS MODE: the previous messages are the conversation history; classify only the user's last message. " +
+            "When the intent is GENERAL_QUERY, also include a \"reply\" field with your answer to that message: in Spanish, " +
+            "clear, concise, friendly and helpful, using the history for context. For any other intent do not include \"reply\".";
+
+    private static final String COMBINED_PROMPT = INTENT_PROMPT + COMBINED_SUFFIX;
     
     @Value("${grok.api.key}")
     private String apiKey;
@@ -60,23 +104,75 @@ public class GrokService {
     @Value("${grok.api.url}")
     private String apiUrl;
     
-    @Value("${grok.model}")
-    private String model;
-    
     private final OkHttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final GrokWireCodec wireCodec;
+    private final MeterRegistry meterRegistry;
+    private final GrokCircuitBreaker circuitBreaker;
+    private final GrokScheduler scheduler;
+    private final GrokModelRouter modelRouter;
+    private final int maxRetries;
+    private final long retryBaseMillis;
+    private final long retryMaxMillis;
+    private final Counter retriedCounter;
+    private final long responseDeadlineMillis;
+    private final long intentDeadlineMillis;
     
-    // Historial de conversaciones por chat ID
-    private final Map<Long, List<GrokMessage>> conversationHistory;
+    // Historial de conversaciones por chat ID (acotado y con expulsión, ver ConversationStore)
+    private final ConversationStore conversationStore;
+    private final PromptBuilder promptBuilder;
+
+    // Llamada de conversación en curso por chat, para cancelarla si llega otro mensaje
+    private final Map<Long, CompletableFuture<?>> inFlightByChat = new ConcurrentHashMap<>();
     
-    public GrokService() {
+    public GrokService(ConversationStore conversationStore,
+                       PromptBuilder promptBuilder,
+                       GrokCircuitBreaker circuitBreaker,
+                       GrokScheduler scheduler,
+                       GrokModelRouter modelRouter,
+                       MeterRegistry meterRegistry,
+                       @Value("${grok.http.max-requests:256}") int maxRequests,
+                       @Value("${grok.http.max-requests-per-host:64}") int maxRequestsPerHost,
+                       @Value("${grok.http.max-idle-connections:16}") int maxIdleConnections,
+                       @Value("${grok.http.keep-alive-seconds:300}") long keepAliveSeconds,
+                       @Value("${grok.http.response-deadline-ms:30000}") long responseDeadlineMillis,
+                       @Value("${grok.http.intent-deadline-ms:8000}") long intentDeadlineMillis,
+                       @Value("${grok.retry.max-retries:2}") int maxRetries,
+                       @Value("${grok.retry.base-ms:500}") long retryBaseMillis,
+                       @Value("${grok.retry.max-ms:8000}") long retryMaxMillis) {
+        // Dispatcher por defecto de OkHttp (pool de hilos bajo demanda): sus hilos solo leen respuestas
+        // ya llegadas, mientras la espera de la API no ocupa ninguno porque el bot encadena los futures
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
         this.httpClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
                 .connectTimeout(30, TimeUnit.SECONDS)
                 .readTimeout(60, TimeUnit.SECONDS)
                 .writeTimeout(30, TimeUnit.SECONDS)
                 .build();
         this.objectMapper = new ObjectMapper();
-        this.conversationHistory = new ConcurrentHashMap<>();
+        this.wireCodec = new GrokWireCodec(List.of(SYSTEM_PROMPT, SUMMARY_PROMPT, INTENT_PROMPT,
+                BATCH_INTENT_PROMPT, COMBINED_PROMPT));
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = circuitBreaker;
+        this.scheduler = scheduler;
+        this.modelRouter = modelRouter;
+        this.maxRetries = maxRetries;
+        this.retryBaseMillis = retryBaseMillis;
+        this.retryMaxMillis = retryMaxMillis;
+        this.retriedCounter = Counter.builder("alexia.grok.retried")
+                .description("Reintentos de llamadas a Groq")
+                .register(meterRegistry);
+        this.responseDeadlineMillis = responseDeadlineMillis;
+        this.intentDeadlineMillis = intentDeadlineMillis;
+        this.conversationStore = conversationStore;
+        this.promptBuilder = promptBuilder;
+
+        log.info("GrokService inicializado - maxRequests={}, maxRequestsPerHost={}, responseDeadlineMs={}, intentDeadlineMs={}",
+                maxRequests, maxRequestsPerHost, responseDeadlineMillis, intentDeadlineMillis);
     }
     
     /**
@@ -88,66 +184,223 @@ public class GrokService {
      */
     public String getResponse(Long chatId, String userMessage) {
         try {
-            log.info("Obteniendo respuesta de Grok AI - chatId={}, messageLength={}", 
+            return getResponseAsync(chatId, userMessage).get();
+        } catch (CancellationException e) {
+            log.info("Respuesta de Grok AI cancelada - chatId={}", chatId);
+            return null;
+        } catch (ExecutionException e) {
+            log.error("Error al obtener respuesta de Grok AI - chatId={}, error={}", 
+                    chatId, e.getCause().getMessage(), e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Obtiene una respuesta de Grok AI sin bloquear, con el plazo por defecto.
+     *
+     * @param chatId ID del chat
+     * @param userMessage Mensaje del usuario
+     * @return Respuesta (null si la API no devolvió contenido); falla si hay error o vence el plazo
+     */
+    public CompletableFuture<String> getResponseAsync(Long chatId, String userMessage) {
+        return getResponseAsync(chatId, userMessage, Duration.ofMillis(responseDeadlineMillis));
+    }
+
+    /**
+     * Obtiene una respuesta de Grok AI sin bloquear. Cancelar el future cancela la petición HTTP,
+     * y si el chat ya tenía una llamada de conversación en curso, se cancela: la nueva la reemplaza.
+     *
+     * @param chatId ID del chat
+     * @param userMessage Mensaje del usuario
+     * @param deadline Plazo total de la llamada
+     * @return Respuesta (null si la API no devolvió contenido); falla si hay error o vence el plazo
+     */
+    public CompletableFuture<String> getResponseAsync(Long chatId, String userMessage, Duration deadline) {
+        log.info("Obteniendo respuesta de Grok AI - chatId={}, messageLength={}", 
+                chatId, userMessage.length());
+
+        CompletableFuture<String> response;
+        try {
+            response = callGrokApiAsync(buildConversationRequest(chatId, userMessage, false), chatId,
+                    GrokModelRouter.CONVERSATION, deadline.toMillis());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        response.whenComplete((content, error) -> {
+            if (error == null) {
+                recordAssistantReply(chatId, content);
+            }
+        });
+        return trackInFlight(chatId, response);
+    }
+
+    /**
+     * Cancela la llamada de conversación en curso del chat (respuesta normal, en streaming o
+     * combinada con la intención), p. ej. porque el usuario envió otro mensaje que la reemplaza.
+     *
+     * @param chatId ID del chat
+     * @return true si había una llamada en curso y se canceló
+     */
+    public boolean cancelInFlight(Long chatId) {
+        CompletableFuture<?> inFlight = inFlightByChat.remove(chatId);
+        if (inFlight != null && inFlight.cancel(true)) {
+            log.info("Llamada de Grok AI cancelada por un mensaje nuevo - chatId={}", chatId);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Registra la llamada como la de conversación en curso del chat y cancela la anterior si seguía.
+     */
+    private <T> CompletableFuture<T> trackInFlight(Long chatId, CompletableFuture<T> call) {
+        if (chatId == null) {
+            return call;
+        }
+        CompletableFuture<?> superseded = inFlightByChat.put(chatId, call);
+        if (superseded != null && superseded.cancel(true)) {
+            log.info("Llamada anterior de Grok AI cancelada por una nueva - chatId={}", chatId);
+        }
+        call.whenComplete((value, error) -> inFlightByChat.remove(chatId, call));
+        return call;
+    }
+
+    /**
+     * Obtiene una respuesta de Grok AI en streaming (SSE) sin bloquear, entregando cada fragmento
+     * según llega (desde el hilo de OkHttp que lee el stream). Si el streaming falla antes del primer
+     * fragmento, repite la petición sin streaming. Se cancela como {@link #getResponseAsync(Long, String)}.
+     *
+     * @param chatId ID del chat
+     * @param userMessage Mensaje del usuario
+     * @param onToken Recibe cada fragmento de texto (delta) en orden
+     * @return Respuesta completa de Grok AI, o null si no se pudo obtener
+     */
+    public CompletableFuture<String> streamResponseAsync(Long chatId, String userMessage, Consumer<String> onToken) {
+        GrokRequest grokRequest;
+        try {
+            log.info("Obteniendo respuesta en streaming de Grok AI - chatId={}, messageLength={}",
                     chatId, userMessage.length());
-            
-            // Obtener o crear historial de conversación
-            List<GrokMessage> history = conversationHistory.computeIfAbsent(
-                    chatId, k -> new ArrayList<>());
-            
-            // Agregar mensaje del usuario al historial
-            history.add(GrokMessage.builder()
-                    .role("user")
-                    .content(userMessage)
-                    .build());
-            
-            // Mantener solo los últimos MAX_HISTORY_SIZE mensajes
-            if (history.size() > MAX_HISTORY_SIZE) {
-                history = new ArrayList<>(history.subList(history.size() - MAX_HISTORY_SIZE, history.size()));
-                conversationHistory.put(chatId, history);
+            grokRequest = buildConversationRequest(chatId, userMessage, true);
+        } catch (Exception e) {
+            log.error("Error al preparar la petición a Grok AI - chatId={}, error={}", chatId, e.getMessage(), e);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        StringBuilder streamed = new StringBuilder();
+        CompletableFuture<String> stream = callGrokApiStreamingAsync(grokRequest, chatId, token -> {
+            streamed.append(token);
+            onToken.accept(token);
+        });
+        cancelWith(result, stream);
+        stream.whenComplete((response, error) -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (error == null && response != null) {
+                recordAssistantReply(chatId, response);
+                result.complete(response);
+                return;
+            }
+            if (error != null) {
+                log.warn("Error en streaming de Grok AI - chatId={}, recibidos={} caracteres, error={}",
+                        chatId, streamed.length(), unwrap(error).getMessage());
             }
-            
-            // Preparar mensajes para la API
+            if (streamed.length() > 0) {
+                // El usuario ya vio parte de la respuesta: se conserva lo recibido
+                recordAssistantReply(chatId, streamed.toString());
+                result.complete(streamed.toString());
+                return;
+            }
+
+            log.info("Reintentando sin streaming - chatId={}", chatId);
+            grokRequest.setStream(false);
+            CompletableFuture<String> fallback =
+                    callGrokApiAsync(grokRequest, chatId, GrokModelRouter.CONVERSATION, responseDeadlineMillis);
+            cancelWith(result, fallback);
+            fallback.whenComplete((content, fallbackError) -> {
+                if (fallbackError != null) {
+                    log.error("Error al obtener respuesta de Grok AI - chatId={}, error={}",
+                            chatId, unwrap(fallbackError).getMessage());
+                    result.complete(null);
+                } else {
+                    recordAssistantReply(chatId, content);
+                    result.complete(content);
+                }
+            });
+        });
+        return trackInFlight(chatId, result);
+    }
+
+    /**
+     * Agrega el mensaje del usuario al historial y arma la petición de conversación.
+     */
+    private GrokRequest buildConversationRequest(Long chatId, String userMessage, boolean stream) {
+        // Agregar mensaje del usuario al historial (el store conserva solo los últimos mensajes)
+        conversationStore.append(chatId, GrokMessage.builder()
+                .role("user")
+                .content(userMessage)
+                .build());
+        
+        // Preparar mensajes para la API: sistema, resumen y los turnos recientes que quepan en el presupuesto
+        List<GrokMessage> messages = promptBuilder.build(chatId, SYSTEM_PROMPT, this::summarizeTranscript);
+        
+        // Crear request
+        return GrokRequest.builder()
+                .model(modelRouter.modelFor(GrokModelRouter.CONVERSATION))
+                .messages(messages)
+                .temperature(0.7)
+                .maxTokens(1024)
+                .topP(1.0)
+                .stream(stream)
+                .build();
+    }
+
+    /**
+     * Resume turnos antiguos de una conversación (lo invoca PromptBuilder en segundo plano).
+     *
+     * @param transcript Resumen previo y turnos a resumir
+     * @return Resumen, o null si falla
+     */
+    private String summarizeTranscript(String transcript) {
+        try {
             List<GrokMessage> messages = new ArrayList<>();
-            messages.add(GrokMessage.builder()
-                    .role("system")
-                    .content(SYSTEM_PROMPT)
-                    .build());
-            messages.addAll(history);
-            
-            // Crear request
-            GrokRequest grokRequest = GrokRequest.builder()
-                    .model(model)
+            messages.add(GrokMessage.builder().role("system").content(SUMMARY_PROMPT).build());
+            messages.add(GrokMessage.builder().role("user").content(transcript).build());
+
+            GrokRequest summaryRequest = GrokRequest.builder()
+                    .model(modelRouter.modelFor(GrokModelRouter.SUMMARY))
                     .messages(messages)
-                    .temperature(0.7)
-                    .maxTokens(1024)
-                    .topP(1.0)
-                    .stream(false)
+                    .temperature(0.3)
+                    .maxTokens(256)
                     .build();
-            
-            // Llamar a la API
-            String response = callGrokApi(grokRequest);
-            
-            // Agregar respuesta al historial
-            if (response != null) {
-                history.add(GrokMessage.builder()
-                        .role("assistant")
-                        .content(response)
-                        .build());
-                
-                log.info("Respuesta de Grok AI recibida - chatId={}, responseLength={}", 
-                        chatId, response.length());
-            }
-            
-            return response;
-            
+            return callGrokApi(summaryRequest, null, GrokModelRouter.SUMMARY, responseDeadlineMillis);
         } catch (Exception e) {
-            log.error("Error al obtener respuesta de Grok AI - chatId={}, error={}", 
-                    chatId, e.getMessage(), e);
+            log.warn("Error al resumir conversación con Grok AI - error={}", e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Agrega la respuesta de Grok al historial del chat.
+     */
+    private void recordAssistantReply(Long chatId, String response) {
+        if (response == null) {
+            return;
+        }
+        conversationStore.append(chatId, GrokMessage.builder()
+                .role("assistant")
+                .content(response)
+                .build());
+        
+        log.info("Respuesta de Grok AI recibida - chatId={}, responseLength={}", 
+                chatId, response.length());
+    }
+
     /**
      * Detects the user's intent using Grok AI.
      *
@@ -155,31 +408,199 @@ public class GrokService {
      * @return A GrokIntent object with the detected intent and search term.
      */
     public GrokIntent detectIntent(String userMessage) {
+        return detectIntent(null, userMessage);
+    }
+
+    /**
+     * Detects the user's intent using Grok AI, queued fairly with the other calls of the chat.
+     *
+     * @param chatId The chat the message comes from, or null.
+     * @param userMessage The user's message.
+     * @return A GrokIntent object with the detected intent and search term.
+     */
+    public GrokIntent detectIntent(Long chatId, String userMessage) {
         try {
-            log.info("Detecting intent for message: '{}'", userMessage);
+            return detectIntentAsync(chatId, userMessage).join();
+        } catch (CancellationException e) {
+            return defaultIntent();
+        }
+    }
+
+    /**
+     * Detects the user's intent without blocking. Never completes exceptionally: on error or
+     * deadline it yields GENERAL_QUERY. Cancelling the future cancels the HTTP call.
+     *
+     * @param userMessage The user's message.
+     * @return Future with the detected intent.
+     */
+    public CompletableFuture<GrokIntent> detectIntentAsync(String userMessage) {
+        return detectIntentAsync(null, userMessage);
+    }
+
+    /**
+     * Detects the user's intent without blocking (see {@link #detectIntentAsync(String)}).
+     *
+     * @param chatId The chat the message comes from, or null.
+     * @param userMessage The user's message.
+     * @return Future with the detected intent.
+     */
+    public CompletableFuture<GrokIntent> detectIntentAsync(Long chatId, String userMessage) {
+        log.info("Detecting intent for message: '{}'", userMessage);
+
+        List<GrokMessage> messages = new ArrayList<>();
+        messages.add(GrokMessage.builder().role("system").content(INTENT_PROMPT).build());
+        messages.add(GrokMessage.builder().role("user").content(userMessage).build());
 
+        GrokRequest intentRequest = GrokRequest.builder()
+                .model(modelRouter.modelFor(GrokModelRouter.INTENT))
+                .messages(messages)
+                .temperature(0.1)
+                .maxTokens(150)
+                .responseFormat(Map.of("type", "json_object"))
+                .build();
+
+        CompletableFuture<String> call = callGrokApiAsync(intentRequest, chatId, GrokModelRouter.INTENT, intentDeadlineMillis);
+        CompletableFuture<GrokIntent> intent = call.handle((jsonResponse, error) -> {
+            if (error != null) {
+                log.error("Error detecting intent: {}", unwrap(error).getMessage());
+                return defaultIntent();
+            }
+            try {
+                if (jsonResponse != null) {
+                    GrokIntent detected = objectMapper.readValue(jsonResponse, GrokIntent.class);
+                    log.info("Intent detected: {} with searchTerm '{}' and confidence {}", detected.getIntent(), detected.getSearchTerm(), detected.getConfidence());
+                    return detected;
+                }
+            } catch (Exception e) {
+                log.error("Error detecting intent: {}", e.getMessage(), e);
+            }
+            return defaultIntent();
+        });
+        cancelWith(intent, call);
+        return intent;
+    }
+
+    /**
+     * Detects the intent of several messages with a single call: the intent prompt is sent once
+     * and the messages go as a JSON array. Never completes exceptionally: if the call fails every
+     * entry is GENERAL_QUERY; entries the model skipped or returned malformed are null.
+     *
+     * @param chatId The chat the call is charged to in the scheduler (one of the batch's chats), or null.
+     * @param userMessages The users' messages.
+     * @return Future with one intent per message, in the same order.
+     */
+    public CompletableFuture<List<GrokIntent>> detectIntentBatchAsync(Long chatId, List<String> userMessages) {
+        log.info("Detecting intent for a batch of {} messages", userMessages.size());
+
+        CompletableFuture<String> call;
+        try {
             List<GrokMessage> messages = new ArrayList<>();
-            messages.add(GrokMessage.builder().role("system").content(INTENT_PROMPT).build());
-            messages.add(GrokMessage.builder().role("user").content(userMessage).build());
+            messages.add(GrokMessage.builder().role("system").content(BATCH_INTENT_PROMPT).build());
+            messages.add(GrokMessage.builder().role("user").content(objectMapper.writeValueAsString(userMessages)).build());
 
-            GrokRequest intentRequest = GrokRequest.builder()
-                    .model(model)
+            GrokRequest batchRequest = GrokRequest.builder()
+                    .model(modelRouter.modelFor(GrokModelRouter.INTENT))
                     .messages(messages)
                     .temperature(0.1)
-                    .maxTokens(150)
+                    .maxTokens(150 * userMessages.size())
                     .responseFormat(Map.of("type", "json_object"))
                     .build();
+            call = callGrokApiAsync(batchRequest, chatId, GrokModelRouter.INTENT, intentDeadlineMillis);
+        } catch (IOException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
 
-            String jsonResponse = callGrokApi(intentRequest);
-
-            if (jsonResponse != null) {
-                GrokIntent intent = objectMapper.readValue(jsonResponse, GrokIntent.class);
-                log.info("Intent detected: {} with searchTerm '{}' and confidence {}", intent.getIntent(), intent.getSearchTerm(), intent.getConfidence());
-                return intent;
+        CompletableFuture<List<GrokIntent>> intents = call.handle((jsonResponse, error) -> {
+            List<GrokIntent> detected = new ArrayList<>(userMessages.size());
+            if (error != null || jsonResponse == null) {
+                log.error("Error detecting batch intent: {}", error != null ? unwrap(error).getMessage() : "empty response");
+                userMessages.forEach(message -> detected.add(defaultIntent()));
+                return detected;
+            }
+            JsonNode results;
+            try {
+                results = objectMapper.readTree(jsonResponse).path("results");
+            } catch (IOException e) {
+                log.error("Error parsing batch intent: {}", e.getMessage());
+                results = MissingNode.getInstance();
+            }
+            for (int i = 0; i < userMessages.size(); i++) {
+                GrokIntent intent = null;
+                try {
+                    if (results.path(i).isObject()) {
+                        intent = objectMapper.treeToValue(results.get(i), GrokIntent.class);
+                    }
+                } catch (IOException e) {
+                    log.warn("Malformed batch intent at index {}: {}", i, e.getMessage());
+                }
+                detected.add(intent != null && intent.getIntent() != null ? intent : null);
             }
+            return detected;
+        });
+        cancelWith(intents, call);
+        return intents;
+    }
+
+    /**
+     * Detecta la intención y, si es conversacional (GENERAL_QUERY), obtiene también la respuesta en
+     * la misma llamada (modo JSON), con el historial del chat como contexto. Solo si hay respuesta
+     * se guardan el mensaje y la respuesta en el historial.
+     *
+     * @param chatId ID del chat
+     * @param userMessage Mensaje del usuario
+     * @return Intención, con reply si es GENERAL_QUERY; null si la llamada o el JSON fallaron, o si
+     *         faltó la respuesta, para que el llamador vuelva a las dos llamadas separadas
+     */
+    public CompletableFuture<GrokIntent> detectIntentWithReplyAsync(Long chatId, String userMessage) {
+        log.info("Detectando intención con respuesta en una sola llamada - chatId={}, messageLength={}",
+                chatId, userMessage.length());
+        GrokMessage userTurn = GrokMessage.builder().role("user").content(userMessage).build();
+
+        CompletableFuture<String> call;
+        try {
+            List<GrokMessage> messages = promptBuilder.build(chatId, COMBINED_PROMPT, userTurn, this::summarizeTranscript);
+            GrokRequest combinedRequest = GrokRequest.builder()
+                    .model(modelRouter.modelFor(GrokModelRouter.CONVERSATION))
+                    .messages(messages)
+                    .temperature(0.5)
+                    .maxTokens(1024)
+                    .responseFormat(Map.of("type", "json_object"))
+                    .build();
+            call = callGrokApiAsync(combinedRequest, chatId, GrokModelRouter.CONVERSATION, responseDeadlineMillis);
         } catch (Exception e) {
-            log.error("Error detecting intent: {}", e.getMessage(), e);
+            call = CompletableFuture.failedFuture(e);
         }
+
+        CompletableFuture<GrokIntent> intent = call.handle((jsonResponse, error) -> {
+            if (error != null) {
+                log.warn("Error en la llamada combinada de Grok AI - chatId={}, error={}", chatId, unwrap(error).getMessage());
+                return null;
+            }
+            try {
+                GrokIntent detected = jsonResponse != null ? objectMapper.readValue(jsonResponse, GrokIntent.class) : null;
+                if (detected == null || detected.getIntent() == null) {
+                    return null;
+                }
+                if (detected.getIntent() == GrokIntent.IntentType.GENERAL_QUERY) {
+                    if (detected.getReply() == null || detected.getReply().isBlank()) {
+                        return null;
+                    }
+                    conversationStore.append(chatId, userTurn);
+                    recordAssistantReply(chatId, detected.getReply());
+                }
+                log.info("Intent detected (single-pass): {} with searchTerm '{}' and confidence {}",
+                        detected.getIntent(), detected.getSearchTerm(), detected.getConfidence());
+                return detected;
+            } catch (Exception e) {
+                log.warn("Respuesta combinada de Grok AI no válida - chatId={}, error={}", chatId, e.getMessage());
+                return null;
+            }
+        });
+        cancelWith(intent, call);
+        return trackInFlight(chatId, intent);
+    }
+
+    static GrokIntent defaultIntent() {
         // Default to general query if intent detection fails
         GrokIntent defaultIntent = new GrokIntent();
         defaultIntent.setIntent(GrokIntent.IntentType.GENERAL_QUERY);
@@ -192,7 +613,7 @@ public class GrokService {
      * @param chatId ID del chat
      */
     public void clearHistory(Long chatId) {
-        conversationHistory.remove(chatId);
+        conversationStore.clear(chatId);
         log.info("Historial de conversación limpiado - chatId={}", chatId);
     }
     
@@ -203,8 +624,17 @@ public class GrokService {
      * @return Número de mensajes en el historial
      */
     public int getHistorySize(Long chatId) {
-        List<GrokMessage> history = conversationHistory.get(chatId);
-        return history != null ? history.size() : 0;
+        return conversationStore.size(chatId);
+    }
+
+    /**
+     * Obtiene los tokens de prompt de la última llamada de conversación de un chat, según la API.
+     *
+     * @param chatId ID del chat
+     * @return Tokens de prompt, o 0 si no se conocen
+     */
+    public int getPromptTokens(Long chatId) {
+        return conversationStore.getPromptTokens(chatId);
     }
     
     /**
@@ -213,54 +643,465 @@ public class GrokService {
      * @return Número de conversaciones
      */
     public int getActiveConversationsCount() {
-        return conversationHistory.size();
+        return conversationStore.getResidentChats();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        inFlightByChat.values().forEach(call -> call.cancel(true));
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
     }
     
     /**
-     * Realiza la llamada HTTP a la API de Grok.
+     * Realiza la llamada HTTP a la API de Grok y espera el resultado.
      *
      * @param grokRequest Request a enviar
+     * @param chatId Chat que origina la llamada (turno en la cola y, en conversación, uso de tokens), o null
+     * @param operation Ruta de la llamada (conversation, intent, summary)
+     * @param deadlineMillis Plazo total de la llamada
      * @return Respuesta de texto de Grok AI
-     * @throws IOException Si hay error en la comunicación
+     * @throws IOException Si hay error en la comunicación o vence el plazo
      */
-    private String callGrokApi(GrokRequest grokRequest) throws IOException {
-        String requestBody = objectMapper.writeValueAsString(grokRequest);
-        
+    private String callGrokApi(GrokRequest grokRequest, Long chatId, String operation, long deadlineMillis)
+            throws IOException {
+        CompletableFuture<String> call = callGrokApiAsync(grokRequest, chatId, operation, deadlineMillis);
+        try {
+            return call.get();
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            throw cause instanceof IOException io ? io : new IOException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Llamada a Grok API interrumpida");
+        }
+    }
+
+    /**
+     * Realiza la llamada HTTP a la API de Grok con enqueue (sin bloquear el hilo que llama).
+     *
+     * @param grokRequest Request a enviar
+     * @param chatId Chat que origina la llamada (turno en la cola y, en conversación, uso de tokens), o null
+     * @param operation Ruta de la llamada (conversation, intent, summary)
+     * @param deadlineMillis Plazo total de la llamada (conexión, envío y lectura)
+     * @return Respuesta de texto de Grok AI (null si la API respondió con error o sin contenido)
+     */
+    private CompletableFuture<String> callGrokApiAsync(GrokRequest grokRequest, Long chatId, String operation,
+                                                      long deadlineMillis) {
+        CompletableFuture<String> result = new CompletableFuture<>();
         log.debug("Llamando a Grok API - url={}, model={}, messages={}", 
-                apiUrl, model, grokRequest.getMessages().size());
+                apiUrl, grokRequest.getModel(), grokRequest.getMessages().size());
         
         Request request = new Request.Builder()
                 .url(apiUrl)
                 .addHeader("Authorization", "Bearer " + apiKey)
                 .addHeader("Content-Type", "application/json")
-                .post(RequestBody.create(requestBody, JSON))
+                .post(wireCodec.requestBody(grokRequest))
                 .build();
-        
-        try (Response response = httpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                log.error("Error en respuesta de Grok API - code={}, message={}", 
-                        response.code(), response.message());
-                return null;
+
+        long startNanos = System.nanoTime();
+        PendingCall pending = new PendingCall(request, chatId, operation, grokRequest.getModel(), result,
+                new AtomicReference<>(), startNanos + TimeUnit.MILLISECONDS.toNanos(deadlineMillis));
+
+        // Cancelar el future (p. ej. por un mensaje nuevo del chat) cancela la petición HTTP en curso
+        result.whenComplete((content, error) -> {
+            Call call = pending.currentCall().get();
+            if (result.isCancelled() && call != null) {
+                call.cancel();
+            }
+            recordCall(operation, startNanos, error);
+        });
+
+        attempt(pending, 0);
+        return result;
+    }
+
+    /**
+     * Un intento de la llamada: espera turno en el planificador, pide permiso al circuit breaker
+     * y encola la petición con el plazo restante.
+     */
+    private void attempt(PendingCall pending, int attempt) {
+        CompletableFuture<String> result = pending.result();
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<GrokScheduler.Permit> permit = scheduler.acquire(priorityOf(pending.operation()),
+                pending.chatId(), pending.deadlineNanos());
+        // Cancelar la llamada mientras espera turno la saca de la cola
+        result.whenComplete((content, error) -> permit.cancel(false));
+        permit.whenComplete((granted, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+            } else {
+                send(pending, attempt, granted);
             }
-            
-            String responseBody = response.body().string();
-            GrokResponse grokResponse = objectMapper.readValue(responseBody, GrokResponse.class);
-            
-            if (grokResponse.getChoices() != null && !grokResponse.getChoices().isEmpty()) {
-                String content = grokResponse.getChoices().get(0).getMessage().getContent();
-                
-                // Log de uso de tokens
-                if (grokResponse.getUsage() != null) {
-                    log.debug("Uso de tokens - prompt={}, completion={}, total={}", 
-                            grokResponse.getUsage().getPromptTokens(),
-                            grokResponse.getUsage().getCompletionTokens(),
-                            grokResponse.getUsage().getTotalTokens());
+        });
+    }
+
+    private void send(PendingCall pending, int attempt, GrokScheduler.Permit permit) {
+        CompletableFuture<String> result = pending.result();
+        long remainingNanos = pending.deadlineNanos() - System.nanoTime();
+        if (result.isDone() || remainingNanos <= 0) {
+            permit.release();
+            result.completeExceptionally(new InterruptedIOException("timeout"));
+            return;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            permit.release();
+            result.completeExceptionally(new GrokUnavailableException(circuitBreaker.getRemainingOpenMillis()));
+            return;
+        }
+
+        Call call = httpClient.newCall(pending.request());
+        call.timeout().timeout(remainingNanos, TimeUnit.NANOSECONDS);
+        pending.currentCall().set(call);
+        if (result.isCancelled()) {
+            circuitBreaker.release();
+            permit.release();
+            return;
+        }
+
+        long attemptStartNanos = System.nanoTime();
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failedCall, IOException e) {
+                if (result.isCancelled()) {
+                    circuitBreaker.release();
+                    permit.release();
+                    return;
+                }
+                long elapsedNanos = System.nanoTime() - attemptStartNanos;
+                circuitBreaker.onFailure(elapsedNanos, 0);
+                permit.onFailure();
+                modelRouter.recordLatency(pending.operation(), pending.model(), elapsedNanos, false);
+                retryOrFail(pending, attempt, e, 0);
+            }
+
+            @Override
+            public void onResponse(Call completedCall, Response response) {
+                try (response) {
+                    long elapsedNanos = System.nanoTime() - attemptStartNanos;
+                    if (isRetryable(response.code())) {
+                        long retryAfterMillis = retryAfterMillis(response);
+                        circuitBreaker.onFailure(elapsedNanos, retryAfterMillis);
+                        permit.onFailure();
+                        modelRouter.recordLatency(pending.operation(), pending.model(), elapsedNanos, false);
+                        log.warn("Grok API respondió {} - model={}, intento={}, retryAfterMs={}",
+                                response.code(), pending.model(), attempt + 1, retryAfterMillis);
+                        retryOrFail(pending, attempt, new IOException("Grok API respondió " + response.code()),
+                                retryAfterMillis);
+                        return;
+                    }
+                    // Un 4xx distinto de 429 es un error de la petición, no de disponibilidad
+                    circuitBreaker.onSuccess(elapsedNanos);
+                    permit.onSuccess(elapsedNanos);
+                    modelRouter.recordLatency(pending.operation(), pending.model(), elapsedNanos, true);
+                    result.complete(parseResponse(response, pending));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
                 }
-                
-                return content;
             }
-            
+        });
+    }
+
+    private void retryOrFail(PendingCall pending, int attempt, IOException error, long retryAfterMillis) {
+        long backoffMillis = backoffMillis(attempt, retryAfterMillis);
+        boolean pastDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis) - pending.deadlineNanos() >= 0;
+        if (attempt >= maxRetries || pastDeadline || circuitBreaker.getState() == GrokCircuitBreaker.State.OPEN) {
+            pending.result().completeExceptionally(error);
+            return;
+        }
+        retriedCounter.increment();
+        CompletableFuture.delayedExecutor(backoffMillis, TimeUnit.MILLISECONDS)
+                .execute(() -> attempt(pending, attempt + 1));
+    }
+
+    /**
+     * Espera antes del siguiente intento: exponencial con jitter (entre la mitad y el total),
+     * y nunca menos que el Retry-After de la API.
+     */
+    private long backoffMillis(int attempt, long retryAfterMillis) {
+        long exponential = Math.min(retryMaxMillis, retryBaseMillis << Math.min(attempt, 16));
+        long jittered = exponential / 2 + ThreadLocalRandom.current().nextLong(exponential / 2 + 1);
+        return Math.max(jittered, retryAfterMillis);
+    }
+
+    /**
+     * Prioridad en el planificador: la intención (que incluye la captura de leads) antes que la
+     * conversación, y los resúmenes en segundo plano al final.
+     */
+    private static GrokScheduler.Priority priorityOf(String operation) {
+        return switch (operation) {
+            case GrokModelRouter.INTENT -> GrokScheduler.Priority.HIGH;
+            case GrokModelRouter.SUMMARY -> GrokScheduler.Priority.LOW;
+            default -> GrokScheduler.Priority.NORMAL;
+        };
+    }
+
+    private static boolean isRetryable(int code) {
+        return code == 429 || code >= 500;
+    }
+
+    private static long retryAfterMillis(Response response) {
+        String retryAfter = response.header("Retry-After");
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return 0; // formato fecha HTTP: se usa la espera exponencial
+        }
+    }
+
+    /**
+     * Indica si Groq está disponible (circuito no abierto). Con el circuito abierto las llamadas fallan al instante.
+     */
+    public boolean isAvailable() {
+        return circuitBreaker.getState() != GrokCircuitBreaker.State.OPEN;
+    }
+
+    public GrokCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private String parseResponse(Response response, PendingCall pending) throws IOException {
+        if (!response.isSuccessful()) {
+            log.error("Error en respuesta de Grok API - code={}, message={}", 
+                    response.code(), response.message());
             return null;
         }
+        
+        // Solo se extraen el contenido y el uso, leyendo directamente del stream de la respuesta
+        GrokWireCodec.Completion completion = wireCodec.readCompletion(response.body().byteStream());
+        if (completion.promptTokens() != null || completion.completionTokens() != null) {
+            log.debug("Uso de tokens - prompt={}, completion={}",
+                    completion.promptTokens(), completion.completionTokens());
+            modelRouter.recordTokens(pending.operation(), pending.model(),
+                    completion.promptTokens(), completion.completionTokens());
+            if (GrokModelRouter.CONVERSATION.equals(pending.operation()) && pending.chatId() != null) {
+                promptBuilder.recordUsage(pending.chatId(), completion.promptTokens(), completion.completionTokens());
+            }
+        }
+        return completion.content();
+    }
+
+    private void recordCall(String operation, long startNanos, Throwable error) {
+        Throwable cause = unwrap(error);
+        String outcome;
+        if (cause == null) {
+            outcome = "success";
+        } else if (cause instanceof CancellationException) {
+            outcome = "cancelled";
+        } else if (cause instanceof GrokUnavailableException) {
+            outcome = "rejected";
+        } else if (cause instanceof GrokScheduler.SchedulerRejectedException) {
+            outcome = "shed";
+        } else if (cause instanceof InterruptedIOException) {
+            outcome = "timeout";
+        } else {
+            outcome = "error";
+        }
+        Timer.builder("alexia.grok.call")
+                .description("Llamadas a la API de Grok")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Encadena la cancelación: si se cancela el future derivado, se cancela la llamada original.
+     */
+    private static void cancelWith(CompletableFuture<?> derived, CompletableFuture<?> source) {
+        derived.whenComplete((value, error) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Realiza la llamada HTTP en streaming con enqueue: espera turno en el planificador sin bloquear
+     * y lee los eventos SSE en el hilo de OkHttp a medida que llegan. El plazo de la llamada cubre
+     * también la lectura del stream. Cancelar el future cancela la petición HTTP.
+     *
+     * @param grokRequest Request con stream=true
+     * @param chatId Chat de la conversación para registrar el uso de tokens
+     * @param onToken Recibe cada fragmento no vacío
+     * @return Respuesta completa, o null si la API respondió con error antes de empezar
+     */
+    private CompletableFuture<String> callGrokApiStreamingAsync(GrokRequest grokRequest, Long chatId,
+                                                               Consumer<String> onToken) {
+        log.debug("Llamando a Grok API en streaming - url={}, model={}, messages={}",
+                apiUrl, grokRequest.getModel(), grokRequest.getMessages().size());
+
+        Request request = new Request.Builder()
+                .url(apiUrl)
+                .addHeader("Authorization", "Bearer " + apiKey)
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Accept", "text/event-stream")
+                .post(wireCodec.requestBody(grokRequest))
+                .build();
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        AtomicReference<Call> currentCall = new AtomicReference<>();
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(responseDeadlineMillis);
+        CompletableFuture<GrokScheduler.Permit> permit =
+                scheduler.acquire(GrokScheduler.Priority.NORMAL, chatId, deadlineNanos);
+        result.whenComplete((content, error) -> {
+            permit.cancel(false);
+            Call call = currentCall.get();
+            if (result.isCancelled() && call != null) {
+                call.cancel();
+            }
+        });
+        permit.whenComplete((granted, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+            } else {
+                stream(request, grokRequest.getModel(), chatId, deadlineNanos, granted, currentCall, onToken, result);
+            }
+        });
+        return result;
+    }
+
+    private void stream(Request request, String model, Long chatId, long deadlineNanos, GrokScheduler.Permit permit,
+                        AtomicReference<Call> currentCall, Consumer<String> onToken, CompletableFuture<String> result) {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (result.isDone() || remainingNanos <= 0) {
+            permit.release();
+            result.completeExceptionally(new InterruptedIOException("timeout"));
+            return;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            permit.release();
+            result.completeExceptionally(new GrokUnavailableException(circuitBreaker.getRemainingOpenMillis()));
+            return;
+        }
+
+        Call call = httpClient.newCall(request);
+        call.timeout().timeout(remainingNanos, TimeUnit.NANOSECONDS);
+        currentCall.set(call);
+        if (result.isCancelled()) {
+            circuitBreaker.release();
+            permit.release();
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failedCall, IOException e) {
+                if (result.isCancelled()) {
+                    circuitBreaker.release();
+                    permit.release();
+                    return;
+                }
+                // Sin respuesta de la API: cuenta como fallo para el circuito
+                long elapsedNanos = System.nanoTime() - startNanos;
+                circuitBreaker.onFailure(elapsedNanos, 0);
+                permit.onFailure();
+                modelRouter.recordLatency(GrokModelRouter.CONVERSATION, model, elapsedNanos, false);
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call completedCall, Response response) {
+                // Latencia hasta la cabecera: es lo que el usuario espera antes del primer fragmento.
+                // El permiso se devuelve al terminar el stream, con esa latencia.
+                long headerNanos = System.nanoTime() - startNanos;
+                boolean congested = isRetryable(response.code());
+                if (congested) {
+                    circuitBreaker.onFailure(headerNanos, retryAfterMillis(response));
+                } else {
+                    circuitBreaker.onSuccess(headerNanos);
+                }
+                try (response) {
+                    if (!response.isSuccessful() || response.body() == null) {
+                        log.error("Error en respuesta de Grok API (streaming) - code={}, message={}",
+                                response.code(), response.message());
+                        result.complete(null);
+                        return;
+                    }
+                    result.complete(readEventStream(response.body().source(), model, chatId, onToken));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    if (congested) {
+                        permit.onFailure();
+                    } else {
+                        permit.onSuccess(headerNanos);
+                    }
+                    modelRouter.recordLatency(GrokModelRouter.CONVERSATION, model, headerNanos, !congested);
+                }
+            }
+        });
+    }
+
+    /**
+     * Procesa los eventos SSE de forma incremental. Cada línea "data: {...}" trae un fragmento en
+     * choices[0].delta.content; "data: [DONE]" cierra el flujo.
+     *
+     * @return Respuesta completa, o null si no llegó ningún fragmento
+     */
+    private String readEventStream(BufferedSource source, String model, Long chatId, Consumer<String> onToken)
+            throws IOException {
+        StringBuilder content = new StringBuilder();
+        String line;
+        while ((line = source.readUtf8Line()) != null) {
+            if (!line.startsWith("data:")) {
+                continue; // líneas vacías, comentarios SSE y campos event/id
+            }
+            String data = line.substring(5).trim();
+            if ("[DONE]".equals(data)) {
+                break;
+            }
+            GrokWireCodec.Completion chunk = wireCodec.readChunk(data);
+            String token = chunk.content();
+            if (token != null && !token.isEmpty()) {
+                content.append(token);
+                onToken.accept(token);
+            }
+            // Groq informa el uso en el último fragmento (x_groq.usage); OpenAI en usage
+            if (chunk.promptTokens() != null) {
+                modelRouter.recordTokens(GrokModelRouter.CONVERSATION, model,
+                        chunk.promptTokens(), chunk.completionTokens());
+                promptBuilder.recordUsage(chatId, chunk.promptTokens(), chunk.completionTokens());
+            }
+        }
+        return content.length() == 0 ? null : content.toString();
+    }
+
+    /**
+     * Una llamada en curso con sus reintentos.
+     *
+     * @param chatId Chat que origina la llamada, o null
+     * @param operation Ruta de la llamada (ver GrokModelRouter)
+     * @param model Modelo elegido para la llamada
+     * @param currentCall Intento HTTP en curso, para cancelarlo
+     * @param deadlineNanos Instante (System.nanoTime) en que vence el plazo total
+     */
+    private record PendingCall(Request request, Long chatId, String operation, String model,
+                               CompletableFuture<String> result, AtomicReference<Call> currentCall,
+                               long deadlineNanos) {
+    }
+
+    /**
+     * Groq no disponible: el circuito está abierto y la llamada se rechazó sin intentarla.
+     */
+    public static class GrokUnavailableException extends IOException {
+        public GrokUnavailableException(long retryInMillis) {
+            super("Circuito de Groq abierto, reintentar en " + retryInMillis + " ms");
+        }
     }
 }
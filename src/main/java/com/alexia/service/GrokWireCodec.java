@@ -0,0 +1,268 @@
+package com.alexia.service;
+
+import com.alexia.dto.GrokMessage;
+import com.alexia.dto.GrokRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Codificación de las peticiones y respuestas de la API de Groq sin pasar por árboles ni Strings intermedios.
+ *
+ * Peticiones: el cuerpo JSON se escribe con un JsonGenerator directamente sobre el socket al enviar;
+ * los nombres de campo, roles y prompts constantes (sistema, intención, resumen) se codifican a UTF-8
+ * entrecomillado una sola vez y se copian tal cual en cada petición. El cuerpo se regenera en cada
+ * envío, así que sirve para los reintentos.
+ *
+ * Respuestas: se leen del stream con un JsonParser, extrayendo solo choices[0].message.content
+ * (o delta.content en streaming) y el uso de tokens; el resto se salta sin materializarlo.
+ */
+public final class GrokWireCodec {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private static final SerializedString MODEL = new SerializedString("model");
+    private static final SerializedString MESSAGES = new SerializedString("messages");
+    private static final SerializedString ROLE = new SerializedString("role");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString TEMPERATURE = new SerializedString("temperature");
+    private static final SerializedString MAX_TOKENS = new SerializedString("max_tokens");
+    private static final SerializedString TOP_P = new SerializedString("top_p");
+    private static final SerializedString STREAM = new SerializedString("stream");
+    private static final SerializedString RESPONSE_FORMAT = new SerializedString("response_format");
+
+    private final JsonFactory jsonFactory;
+    /** Textos constantes ya codificados, por contenido. Solo lectura tras el constructor. */
+    private final Map<String, SerializedString> preEncoded = new HashMap<>();
+
+    /**
+     * @param constants Textos que se repiten en todas las peticiones (prompts de sistema); los roles se agregan solos
+     */
+    public GrokWireCodec(List<String> constants) {
+        this.jsonFactory = JsonFactory.builder()
+                .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .build();
+        for (String constant : List.of("system", "user", "assistant")) {
+            preEncode(constant);
+        }
+        constants.forEach(this::preEncode);
+    }
+
+    /**
+     * Cuerpo de la petición, escrito directamente sobre el socket cuando OkHttp lo envía.
+     */
+    public RequestBody requestBody(GrokRequest request) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                writeRequest(request, sink);
+            }
+        };
+    }
+
+    /**
+     * Escribe la petición como JSON en el sink.
+     */
+    public void writeRequest(GrokRequest request, BufferedSink sink) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(sink.outputStream())) {
+            generator.writeStartObject();
+            generator.writeFieldName(MODEL);
+            generator.writeString(request.getModel());
+
+            generator.writeFieldName(MESSAGES);
+            generator.writeStartArray();
+            for (GrokMessage message : request.getMessages()) {
+                generator.writeStartObject();
+                generator.writeFieldName(ROLE);
+                writeText(generator, message.getRole());
+                generator.writeFieldName(CONTENT);
+                writeText(generator, message.getContent());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            if (request.getTemperature() != null) {
+                generator.writeFieldName(TEMPERATURE);
+                generator.writeNumber(request.getTemperature());
+            }
+            if (request.getMaxTokens() != null) {
+                generator.writeFieldName(MAX_TOKENS);
+                generator.writeNumber(request.getMaxTokens());
+            }
+            if (request.getTopP() != null) {
+                generator.writeFieldName(TOP_P);
+                generator.writeNumber(request.getTopP());
+            }
+            if (request.getStream() != null) {
+                generator.writeFieldName(STREAM);
+                generator.writeBoolean(request.getStream());
+            }
+            if (request.getResponseFormat() != null) {
+                generator.writeFieldName(RESPONSE_FORMAT);
+                generator.writeStartObject();
+                for (Map.Entry<String, String> entry : request.getResponseFormat().entrySet()) {
+                    generator.writeStringField(entry.getKey(), entry.getValue());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Lee una respuesta completa (no streaming).
+     *
+     * @param body Cuerpo de la respuesta
+     * @return Contenido de choices[0].message.content (null si no hay) y uso de tokens
+     * @throws IOException Si el cuerpo no es un objeto JSON válido
+     */
+    public Completion readCompletion(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return readObject(parser, "message");
+        }
+    }
+
+    /**
+     * Lee el JSON de un evento SSE ("data: {...}") de una respuesta en streaming.
+     *
+     * @param data JSON del evento
+     * @return Fragmento de choices[0].delta.content (null si no hay) y uso de tokens si viene en este
+     *         evento (usage, o x_groq.usage en Groq)
+     * @throws IOException Si el evento no es un objeto JSON válido
+     */
+    public Completion readChunk(String data) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(data)) {
+            return readObject(parser, "delta");
+        }
+    }
+
+    private Completion readObject(JsonParser parser, String choiceField) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Se esperaba un objeto JSON");
+        }
+        String content = null;
+        Integer[] usage = new Integer[2];
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "choices" -> content = readFirstChoice(parser, choiceField);
+                case "usage" -> readUsage(parser, usage);
+                case "x_groq" -> readNested(parser, "usage", usage);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Completion(content, usage[0], usage[1]);
+    }
+
+    private static String readFirstChoice(JsonParser parser, String choiceField) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        String content = null;
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (!first || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            first = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (choiceField.equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String messageField = parser.currentName();
+                        parser.nextToken();
+                        if ("content".equals(messageField) && parser.currentToken() == JsonToken.VALUE_STRING) {
+                            content = parser.getText();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return content;
+    }
+
+    private static void readNested(JsonParser parser, String name, Integer[] usage) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                readUsage(parser, usage);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readUsage(JsonParser parser, Integer[] usage) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NUMBER_INT && "prompt_tokens".equals(field)) {
+                usage[0] = parser.getIntValue();
+            } else if (value == JsonToken.VALUE_NUMBER_INT && "completion_tokens".equals(field)) {
+                usage[1] = parser.getIntValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void writeText(JsonGenerator generator, String text) throws IOException {
+        if (text == null) {
+            generator.writeNull();
+            return;
+        }
+        SerializedString encoded = preEncoded.get(text);
+        if (encoded != null) {
+            generator.writeString(encoded);
+        } else {
+            generator.writeString(text);
+        }
+    }
+
+    private void preEncode(String text) {
+        SerializedString encoded = new SerializedString(text);
+        encoded.asQuotedUTF8(); // se calcula y queda guardado en la instancia
+        preEncoded.put(text, encoded);
+    }
+
+    /**
+     * Lo que se extrae de una respuesta: texto y uso de tokens (null si la API no lo informó).
+     */
+    public record Completion(String content, Integer promptTokens, Integer completionTokens) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.alexia.service;
+
+import com.alexia.dto.GrokIntent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Agrupa en micro-lotes las consultas de intención a Grok.
+ *
+ * Los mensajes que llegan dentro de la ventana de espera (linger-ms) se clasifican con una sola
+ * llamada, que envía el prompt de intención una vez y los mensajes como array JSON; cada
+ * llamador recibe su GrokIntent. El lote sale antes si llega a max-size. Un mensaje que el
+ * modelo omitió o devolvió mal formado se reclasifica con una llamada individual.
+ * Desactivado, cada mensaje hace su propia llamada como antes.
+ */
+@Component
+@Slf4j
+public class IntentBatcher {
+
+    private final GrokService grokService;
+    private final boolean enabled;
+    private final int maxSize;
+    private final long lingerMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Lote en formación. Protegido por lock. */
+    private List<Pending> pending = new ArrayList<>();
+    /** Se incrementa al despachar cada lote, para que un temporizador viejo no despache el siguiente. */
+    private long generation;
+
+    private final DistributionSummary batchSize;
+    private final Counter fallbacks;
+
+    public IntentBatcher(GrokService grokService,
+                         MeterRegistry meterRegistry,
+                         @Value("${alexia.intent.batch.enabled:false}") boolean enabled,
+                         @Value("${alexia.intent.batch.max-size:8}") int maxSize,
+                         @Value("${alexia.intent.batch.linger-ms:20}") long lingerMillis) {
+        this.grokService = grokService;
+        this.enabled = enabled;
+        this.maxSize = Math.max(1, maxSize);
+        this.lingerMillis = lingerMillis;
+
+        this.batchSize = DistributionSummary.builder("alexia.intent.batch.size")
+                .description("Mensajes por llamada de intención a Grok")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("alexia.intent.batch.fallback")
+                .description("Mensajes de un lote reclasificados con una llamada individual")
+                .register(meterRegistry);
+
+        log.info("IntentBatcher inicializado - enabled={}, maxSize={}, lingerMs={}", enabled, maxSize, lingerMillis);
+    }
+
+    /**
+     * Clasifica un mensaje con Grok, agrupándolo con los que lleguen a la vez si está activado.
+     * Nunca falla: ante error devuelve GENERAL_QUERY.
+     *
+     * @param chatId ID del chat (en un lote, el del primer mensaje cobra la llamada), o null
+     * @param messageText Mensaje del usuario
+     * @return Intención detectada
+     */
+    public CompletableFuture<GrokIntent> classify(Long chatId, String messageText) {
+        if (!enabled) {
+            return grokService.detectIntentAsync(chatId, messageText);
+        }
+
+        Pending request = new Pending(chatId, messageText);
+        List<Pending> ready = null;
+        long scheduleGeneration = -1;
+        lock.lock();
+        try {
+            pending.add(request);
+            if (pending.size() >= maxSize) {
+                ready = takeBatch();
+            } else if (pending.size() == 1) {
+                scheduleGeneration = generation;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        } else if (scheduleGeneration >= 0) {
+            long batchGeneration = scheduleGeneration;
+            CompletableFuture.delayedExecutor(lingerMillis, TimeUnit.MILLISECONDS).execute(() -> flush(batchGeneration));
+        }
+        return request.result;
+    }
+
+    private void flush(long batchGeneration) {
+        List<Pending> ready;
+        lock.lock();
+        try {
+            if (batchGeneration != generation || pending.isEmpty()) {
+                return; // ya salió por tamaño
+            }
+            ready = takeBatch();
+        } finally {
+            lock.unlock();
+        }
+        dispatch(ready);
+    }
+
+    private List<Pending> takeBatch() {
+        List<Pending> batch = pending;
+        pending = new ArrayList<>(maxSize);
+        generation++;
+        return batch;
+    }
+
+    private void dispatch(List<Pending> batch) {
+        batchSize.record(batch.size());
+        try {
+            if (batch.size() == 1) {
+                Pending single = batch.get(0);
+                completeFrom(single, grokService.detectIntentAsync(single.chatId, single.messageText));
+                return;
+            }
+
+            List<String> texts = batch.stream().map(request -> request.messageText).toList();
+            log.debug("Clasificando lote de intenciones - size={}", batch.size());
+            // El lote se cobra en el planificador al primer chat que espera en él, para que el reparto
+            // justo entre chats no trate todos los lotes como una sola cola sin chat
+            Long chargedChatId = batch.stream().map(request -> request.chatId)
+                    .filter(Objects::nonNull).findFirst().orElse(null);
+            grokService.detectIntentBatchAsync(chargedChatId, texts).whenComplete((intents, error) -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    Pending request = batch.get(i);
+                    GrokIntent intent = error == null && intents != null && i < intents.size() ? intents.get(i) : null;
+                    if (intent != null) {
+                        request.result.complete(intent);
+                    } else {
+                        fallbacks.increment();
+                        fallBackToSingleCall(request);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Error al despachar el lote de intenciones - size={}, error={}", batch.size(), e.getMessage(), e);
+            batch.forEach(request -> request.result.complete(GrokService.defaultIntent()));
+        }
+    }
+
+    private void fallBackToSingleCall(Pending request) {
+        try {
+            completeFrom(request, grokService.detectIntentAsync(request.chatId, request.messageText));
+        } catch (RuntimeException e) {
+            log.error("Error al reclasificar un mensaje del lote - chatId={}, error={}", request.chatId, e.getMessage(), e);
+            request.result.complete(GrokService.defaultIntent());
+        }
+    }
+
+    /**
+     * Completa al llamador con el resultado de la llamada, o con GENERAL_QUERY si la llamada falla
+     * o se cancela, para que quien espera el future nunca se quede colgado.
+     */
+    private static void completeFrom(Pending request, CompletableFuture<GrokIntent> call) {
+        call.whenComplete((intent, error) ->
+                request.result.complete(error == null && intent != null ? intent : GrokService.defaultIntent()));
+    }
+
+    private static final class Pending {
+        private final Long chatId;
+        private final String messageText;
+        private final CompletableFuture<GrokIntent> result = new CompletableFuture<>();
+
+        private Pending(Long chatId, String messageText) {
+            this.chatId = chatId;
+            this.messageText = messageText;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.alexia.service;
+
+import com.alexia.dto.GrokIntent;
+import com.alexia.util.TextNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caché de intenciones detectadas por Grok, indexada por el texto normalizado del mensaje
+ * ("Panaderías  cerca!" y "panaderias cerca" comparten entrada).
+ *
+ * Tamaño acotado con expulsión sensible a la frecuencia (TinyLFU): un sketch count-min
+ * estima cuántas veces se ha pedido cada texto y, con la caché llena, un texto nuevo solo
+ * reemplaza a la entrada menos reciente si se pide al menos con la misma frecuencia.
+ * Las entradas caducan por TTL. No se guardan LEAD_CAPTURE (llevan datos personales).
+ */
+@Component
+@Slf4j
+public class IntentCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final double minConfidence;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Orden de acceso: la primera entrada es la menos reciente. Protegido por lock. */
+    private final LinkedHashMap<String, CachedIntent> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter rejections;
+
+    public IntentCache(@Value("${alexia.intent.cache.max-entries:5000}") int maxEntries,
+                       @Value("${alexia.intent.cache.ttl-minutes:360}") long ttlMinutes,
+                       @Value("${alexia.intent.cache.min-confidence:0.75}") double minConfidence,
+                       MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutes);
+        this.minConfidence = minConfidence;
+        this.sketch = new FrequencySketch(maxEntries);
+
+        this.hits = Counter.builder("alexia.intent.cache")
+                .description("Consultas a la caché de intenciones")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("alexia.intent.cache")
+                .description("Consultas a la caché de intenciones")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("alexia.intent.cache.evictions")
+                .description("Entradas expulsadas por tamaño")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("alexia.intent.cache.rejections")
+                .description("Entradas nuevas no admitidas por baja frecuencia")
+                .register(meterRegistry);
+        Gauge.builder("alexia.intent.cache.size", this, IntentCache::size)
+                .description("Entradas en la caché de intenciones")
+                .register(meterRegistry);
+
+        log.info("IntentCache inicializada - maxEntries={}, ttlMinutes={}", maxEntries, ttlMinutes);
+    }
+
+    /**
+     * Busca la intención cacheada de un mensaje.
+     *
+     * @param messageText Mensaje original del usuario
+     * @return Copia de la intención cacheada, o vacío si no hay entrada vigente
+     */
+    public Optional<GrokIntent> get(String messageText) {
+        String key = TextNormalizer.normalize(messageText);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            sketch.increment(key);
+            CachedIntent cached = entries.get(key);
+            if (cached != null && now - cached.expiresAtNanos < 0) {
+                hits.increment();
+                return Optional.of(copy(cached.intent));
+            }
+            if (cached != null) {
+                entries.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Guarda la intención detectada para un mensaje.
+     * Se ignoran LEAD_CAPTURE y las intenciones con confianza baja.
+     *
+     * @param messageText Mensaje original del usuario
+     * @param intent Intención devuelta por Grok
+     */
+    public void put(String messageText, GrokIntent intent) {
+        if (!isCacheable(intent)) {
+            return;
+        }
+        String key = TextNormalizer.normalize(messageText);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        CachedIntent cached = new CachedIntent(copy(intent), System.nanoTime() + ttlNanos);
+        lock.lock();
+        try {
+            if (entries.containsKey(key) || entries.size() < maxEntries) {
+                entries.put(key, cached);
+                return;
+            }
+
+            // Caché llena: la víctima es la menos reciente, salvo que sea más frecuente que el candidato
+            Iterator<Map.Entry<String, CachedIntent>> eldest = entries.entrySet().iterator();
+            Map.Entry<String, CachedIntent> victim = eldest.next();
+            if (sketch.frequency(key) < sketch.frequency(victim.getKey())) {
+                rejections.increment();
+                return;
+            }
+            eldest.remove();
+            evictions.increment();
+            entries.put(key, cached);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Vacía la caché (acción de administración).
+     *
+     * @return Número de entradas eliminadas
+     */
+    public int invalidateAll() {
+        lock.lock();
+        try {
+            int removed = entries.size();
+            entries.clear();
+            sketch.clear();
+            log.info("Caché de intenciones vaciada - entradas={}", removed);
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isCacheable(GrokIntent intent) {
+        return intent != null
+                && intent.getIntent() != null
+                && intent.getIntent() != GrokIntent.IntentType.LEAD_CAPTURE
+                && intent.getConfidence() >= minConfidence;
+    }
+
+    /**
+     * Copia solo los campos de enrutamiento: la instancia cacheada nunca sale de la caché.
+     */
+    private static GrokIntent copy(GrokIntent source) {
+        GrokIntent copy = new GrokIntent();
+        copy.setIntent(source.getIntent());
+        copy.setSearchTerm(source.getSearchTerm());
+        copy.setConfidence(source.getConfidence());
+        return copy;
+    }
+
+    private record CachedIntent(GrokIntent intent, long expiresAtNanos) {
+    }
+
+    /**
+     * Sketch count-min de 4 filas con contadores de 4 bits empaquetados en long[].
+     * Cada vez que se registran 10 × capacidad incrementos, todos los contadores se dividen
+     * por 2 para que la frecuencia refleje la actividad reciente. No es thread-safe.
+     */
+    static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+                0x97cb3127L, 0xab4d2ca7L, 0xc9b3bd55L, 0xf2b4ac35L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final int MAX_COUNT = 15;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            int counters = Integer.highestOneBit(Math.max(64, capacity) - 1) << 1;
+            // 16 contadores de 4 bits por long
+            this.table = new long[Math.max(1, counters / 16) * 4];
+            this.tableMask = table.length - 1;
+            this.sampleSize = 10 * Math.max(64, capacity);
+        }
+
+        void increment(String key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int row = 0; row < 4; row++) {
+                added |= incrementAt(indexOf(hash, row), counterOffset(hash, row));
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(String key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < 4; row++) {
+                long word = table[indexOf(hash, row)];
+                int count = (int) ((word >>> counterOffset(hash, row)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void clear() {
+            Arrays.fill(table, 0L);
+            additions = 0;
+        }
+
+        private boolean incrementAt(int index, int offset) {
+            long mask = 0xfL << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions >>>= 1;
+        }
+
+        private int indexOf(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            h += h >>> 32;
+            return (int) h & tableMask;
+        }
+
+        private static int counterOffset(int hash, int row) {
+            // 16 posiciones de 4 bits por long; cada fila usa 4 bits distintos del hash
+            return ((hash >>> (row << 3)) & 0xf) << 2;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
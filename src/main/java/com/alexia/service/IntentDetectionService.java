@@ -0,0 +1,198 @@
+package com.alexia.service;
+
+import com.alexia.dto.GrokIntent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Detección de intención del bot.
+ *
+ * Consulta primero el clasificador local, luego la caché de intenciones, y solo llama a Grok
+ * cuando ninguno resuelve el mensaje (vía IntentBatcher, que agrupa las consultas simultáneas si
+ * está activado). Las respuestas de Grok con confianza alta se usan para seguir entrenando
+ * el modelo local. Publica la tasa de aciertos locales (alexia.intent.local.hit.rate).
+ *
+ * Con el modo de una sola pasada (alexia.intent.combined.enabled), la llamada a Grok devuelve
+ * además la respuesta cuando el mensaje es conversacional, ahorrando la segunda llamada.
+ */
+@Service
+@Slf4j
+public class IntentDetectionService {
+
+    private final LocalIntentClassifier localIntentClassifier;
+    private final IntentCache intentCache;
+    private final IntentBatcher intentBatcher;
+    private final GrokService grokService;
+    private final boolean localEnabled;
+    private final double learnThreshold;
+    private final boolean combinedEnabled;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter combinedReplies;
+    private final Counter combinedRetrievals;
+    private final Counter combinedFallbacks;
+
+    public IntentDetectionService(LocalIntentClassifier localIntentClassifier,
+                                  IntentCache intentCache,
+                                  IntentBatcher intentBatcher,
+                                  GrokService grokService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${alexia.intent.local.enabled:true}") boolean localEnabled,
+                                  @Value("${alexia.intent.local.learn-threshold:0.9}") double learnThreshold,
+                                  @Value("${alexia.intent.combined.enabled:false}") boolean combinedEnabled) {
+        this.localIntentClassifier = localIntentClassifier;
+        this.intentCache = intentCache;
+        this.intentBatcher = intentBatcher;
+        this.grokService = grokService;
+        this.localEnabled = localEnabled;
+        this.learnThreshold = learnThreshold;
+        this.combinedEnabled = combinedEnabled;
+
+        this.localHits = Counter.builder("alexia.intent.local")
+                .description("Intenciones resueltas sin llamar a Grok")
+                .tag("outcome", "hit")
+                .register(meterRegistry);
+        this.localMisses = Counter.builder("alexia.intent.local")
+                .description("Intenciones que requirieron llamar a Grok")
+                .tag("outcome", "miss")
+                .register(meterRegistry);
+        this.combinedReplies = combinedCounter("reply", meterRegistry);
+        this.combinedRetrievals = combinedCounter("retrieval", meterRegistry);
+        this.combinedFallbacks = combinedCounter("fallback", meterRegistry);
+        Gauge.builder("alexia.intent.local.hit.rate", this, IntentDetectionService::getLocalHitRate)
+                .description("Fracción de mensajes clasificados localmente")
+                .register(meterRegistry);
+
+        log.info("IntentDetectionService inicializado - localEnabled={}, threshold={}, combinedEnabled={}",
+                localEnabled, localIntentClassifier.getConfidenceThreshold(), combinedEnabled);
+    }
+
+    /**
+     * Detecta la intención de un mensaje de usuario.
+     *
+     * @param messageText Mensaje del usuario
+     * @return Intención detectada (GENERAL_QUERY si no se pudo determinar)
+     */
+    public GrokIntent detectIntent(String messageText) {
+        return detectWithoutGrok(messageText).orElseGet(() -> detectWithGrok(messageText));
+    }
+
+    /**
+     * Resuelve la intención solo con el clasificador local y la caché (sin red).
+     *
+     * @param messageText Mensaje del usuario
+     * @return Intención, o vacío si hay que consultar a Grok
+     */
+    public Optional<GrokIntent> detectWithoutGrok(String messageText) {
+        if (localEnabled) {
+            Optional<GrokIntent> local = localIntentClassifier.classify(messageText);
+            if (local.isPresent()) {
+                localHits.increment();
+                log.info("Intent detectado localmente: {} con searchTerm '{}' y confianza {}",
+                        local.get().getIntent(), local.get().getSearchTerm(), local.get().getConfidence());
+                return local;
+            }
+            localMisses.increment();
+        }
+
+        Optional<GrokIntent> cached = intentCache.get(messageText);
+        cached.ifPresent(intent -> log.info("Intent obtenido de caché: {} con searchTerm '{}'",
+                intent.getIntent(), intent.getSearchTerm()));
+        return cached;
+    }
+
+    /**
+     * Consulta a Grok, guarda el resultado en caché y entrena el modelo local si la confianza es alta.
+     *
+     * @param messageText Mensaje del usuario
+     * @return Intención detectada por Grok (GENERAL_QUERY si falla)
+     */
+    public GrokIntent detectWithGrok(String messageText) {
+        return detectWithGrok(null, messageText);
+    }
+
+    /**
+     * Consulta a Grok (ver {@link #detectWithGrok(String)}) indicando el chat, para que la llamada
+     * espere su turno junto a las demás de ese chat.
+     *
+     * @param chatId ID del chat, o null
+     * @param messageText Mensaje del usuario
+     * @return Intención detectada por Grok (GENERAL_QUERY si falla)
+     */
+    public GrokIntent detectWithGrok(Long chatId, String messageText) {
+        return detectWithGrokAsync(chatId, messageText).join();
+    }
+
+    /**
+     * Versión sin bloqueo de {@link #detectWithGrok(Long, String)}.
+     *
+     * @param chatId ID del chat, o null
+     * @param messageText Mensaje del usuario
+     * @return Future con la intención detectada por Grok (GENERAL_QUERY si falla)
+     */
+    public CompletableFuture<GrokIntent> detectWithGrokAsync(Long chatId, String messageText) {
+        return intentBatcher.classify(chatId, messageText).thenApply(intent -> {
+            remember(messageText, intent);
+            return intent;
+        });
+    }
+
+    /**
+     * Consulta a Grok como {@link #detectWithGrokAsync(Long, String)}, pero en modo de una sola pasada
+     * (si está activado): para GENERAL_QUERY la intención trae ya la respuesta en reply, guardada en
+     * el historial del chat. Si la llamada combinada falla o su JSON no es válido, vuelve a la
+     * clasificación normal y la respuesta se genera aparte. La llamada combinada se cancela si
+     * llega otro mensaje del chat (ver GrokService#cancelInFlight).
+     *
+     * @param chatId ID del chat
+     * @param messageText Mensaje del usuario
+     * @return Future con la intención detectada (reply solo en GENERAL_QUERY y en modo combinado)
+     */
+    public CompletableFuture<GrokIntent> detectWithGrokAndReplyAsync(Long chatId, String messageText) {
+        if (!combinedEnabled) {
+            return detectWithGrokAsync(chatId, messageText);
+        }
+
+        return grokService.detectIntentWithReplyAsync(chatId, messageText).thenCompose(intent -> {
+            if (intent == null) {
+                combinedFallbacks.increment();
+                log.info("Modo de una sola pasada sin resultado, clasificación normal - chatId={}", chatId);
+                return detectWithGrokAsync(chatId, messageText);
+            }
+            (intent.getReply() != null ? combinedReplies : combinedRetrievals).increment();
+            remember(messageText, intent);
+            return CompletableFuture.completedFuture(intent);
+        });
+    }
+
+    private void remember(String messageText, GrokIntent intent) {
+        intentCache.put(messageText, intent);
+        if (intent != null && intent.getIntent() != null && intent.getConfidence() >= learnThreshold) {
+            localIntentClassifier.learn(messageText, intent.getIntent());
+        }
+    }
+
+    private static Counter combinedCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("alexia.intent.combined")
+                .description("Resultados del modo de intención y respuesta en una sola llamada")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fracción de mensajes resueltos localmente desde el arranque.
+     */
+    public double getLocalHitRate() {
+        double hits = localHits.count();
+        double total = hits + localMisses.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+}
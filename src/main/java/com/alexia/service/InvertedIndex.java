@@ -0,0 +1,358 @@
+package com.alexia.service;
+
+import com.alexia.util.TextNormalizer;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Índice invertido en memoria: palabra (o prefijo) → documentos que la contienen.
+ *
+ * Los textos se normalizan con TextNormalizer (minúsculas, sin tildes). Cada documento recibe un
+ * ordinal creciente y las listas de ordinales se guardan en arrays int[] ordenados, así que una
+ * consulta es una intersección de arrays sin objetos intermedios. Los textos de "prefijo" (nombre,
+ * categoría) se indexan además por cada prefijo de sus palabras desde minPrefixLength, para que
+ * "pan" encuentre "panadería"; los de "palabra" (descripción) solo por palabra completa. Las palabras
+ * más largas que maxPrefixLength se indexan y consultan truncadas.
+ *
+ * Actualizar o eliminar deja el ordinal anterior como borrado; cuando los borrados pasan de un cuarto
+ * del total, se compactan los arrays. Lecturas concurrentes, escrituras exclusivas.
+ */
+public final class InvertedIndex {
+
+    private static final int MIN_COMPACT_DEAD = 1024;
+
+    private final int minPrefixLength;
+    private final int maxPrefixLength;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** ID del documento por ordinal. */
+    private long[] ids = new long[1024];
+    /** Ordinales asignados (vivos y borrados). */
+    private int size;
+    private final BitSet dead = new BitSet();
+    private int deadCount;
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    /**
+     * @param minPrefixLength Prefijo más corto indexado (las palabras más cortas solo se encuentran completas)
+     * @param maxPrefixLength Longitud a la que se truncan palabras y prefijos
+     */
+    public InvertedIndex(int minPrefixLength, int maxPrefixLength) {
+        this.minPrefixLength = Math.max(1, minPrefixLength);
+        this.maxPrefixLength = Math.max(this.minPrefixLength, maxPrefixLength);
+    }
+
+    /**
+     * Agrega o reemplaza un documento.
+     *
+     * @param id ID del documento
+     * @param prefixText Texto indexado por palabra y por prefijo (puede ser null)
+     * @param wordText Texto indexado solo por palabra completa (puede ser null)
+     */
+    public void put(long id, String prefixText, String wordText) {
+        Set<String> terms = new HashSet<>();
+        for (String token : TextNormalizer.tokenize(prefixText)) {
+            String term = truncate(token);
+            terms.add(term);
+            for (int length = minPrefixLength; length < term.length(); length++) {
+                terms.add(term.substring(0, length));
+            }
+        }
+        for (String token : TextNormalizer.tokenize(wordText)) {
+            terms.add(truncate(token));
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            int ordinal = size++;
+            ids[ordinal] = id;
+            ordinals.put(id, ordinal);
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new Postings()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un documento (no hace nada si no está).
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Documentos que contienen todas las palabras de la consulta (como palabra o como prefijo,
+     * según el campo), en orden de indexación.
+     *
+     * @param query Consulta del usuario
+     * @param limit Máximo de resultados
+     * @return IDs encontrados; vacío si la consulta no tiene palabras
+     */
+    public long[] search(String query, int limit) {
+        if (limit <= 0) {
+            return new long[0];
+        }
+        long[][] found = {new long[Math.min(limit, 1024)]};
+        int[] count = new int[1];
+        match(query, id -> {
+            if (count[0] == found[0].length) {
+                found[0] = Arrays.copyOf(found[0], (int) Math.min(limit, (long) count[0] * 2));
+            }
+            found[0][count[0]++] = id;
+            return count[0] < limit;
+        }, limit);
+        return count[0] == found[0].length ? found[0] : Arrays.copyOf(found[0], count[0]);
+    }
+
+    /**
+     * Página de {@link #search(String, int)} en orden de ID: los limit IDs más chicos mayores a afterId
+     * entre todas las coincidencias (el orden de indexación cambia al actualizar un documento, el de ID no).
+     *
+     * @param query Consulta del usuario
+     * @param afterId Último ID de la página anterior, o 0
+     * @param limit Máximo de resultados
+     * @return IDs en orden ascendente
+     */
+    public long[] searchAfter(String query, long afterId, int limit) {
+        if (limit <= 0) {
+            return new long[0];
+        }
+        // Montículo de máximos con los limit IDs más chicos vistos
+        long[][] holder = {new long[Math.min(limit, 1024)]};
+        int[] count = new int[1];
+        match(query, id -> {
+            if (id <= afterId) {
+                return true;
+            }
+            long[] h = holder[0];
+            if (count[0] < limit) {
+                if (count[0] == h.length) {
+                    h = holder[0] = Arrays.copyOf(h, (int) Math.min(limit, (long) h.length * 2));
+                }
+                siftUp(h, count[0]++, id);
+            } else if (id < h[0]) {
+                siftDown(h, count[0], id);
+            }
+            return true;
+        }, Integer.MAX_VALUE);
+        long[] result = Arrays.copyOf(holder[0], count[0]);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Recorre la intersección de las listas de la consulta y entrega cada ID vivo a onMatch,
+     * hasta que devuelva false.
+     */
+    private void match(String query, LongPredicate onMatch, int limit) {
+        List<String> tokens = TextNormalizer.tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return;
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[tokens.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(truncate(tokens.get(i)));
+                if (lists[i] == null) {
+                    return;
+                }
+            }
+            // La lista más corta guía la intersección; en las demás se avanza con búsqueda exponencial
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            int[] positions = new int[lists.length];
+
+            candidates:
+            for (int c = 0; c < lists[0].size; c++) {
+                int ordinal = lists[0].docs[c];
+                if (dead.get(ordinal)) {
+                    continue;
+                }
+                for (int l = 1; l < lists.length; l++) {
+                    int position = lists[l].seek(ordinal, positions[l]);
+                    positions[l] = position;
+                    if (position == lists[l].size) {
+                        break candidates;
+                    }
+                    if (lists[l].docs[position] != ordinal) {
+                        continue candidates;
+                    }
+                }
+                if (!onMatch.test(ids[ordinal])) {
+                    return;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void siftUp(long[] heap, int index, long value) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    /** Reemplaza la raíz (el máximo) por value y lo hunde hasta su lugar. */
+    private static void siftDown(long[] heap, int size, long value) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (heap[child] <= value) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * Documentos vivos en el índice.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - deadCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Términos distintos (palabras y prefijos) en el índice.
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        dead.set(ordinal);
+        deadCount++;
+        if (deadCount >= MIN_COMPACT_DEAD && deadCount * 4 > size) {
+            compactLocked();
+        }
+    }
+
+    /**
+     * Reasigna ordinales consecutivos a los documentos vivos y quita los borrados de todas las listas.
+     */
+    private void compactLocked() {
+        int[] remap = new int[size];
+        long[] compacted = new long[Math.max(1024, Integer.highestOneBit(Math.max(1, size - deadCount)) * 2)];
+        int live = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (dead.get(ordinal)) {
+                remap[ordinal] = -1;
+            } else {
+                remap[ordinal] = live;
+                compacted[live++] = ids[ordinal];
+            }
+        }
+
+        Iterator<Postings> lists = postings.values().iterator();
+        while (lists.hasNext()) {
+            Postings list = lists.next();
+            list.remap(remap);
+            if (list.size == 0) {
+                lists.remove();
+            }
+        }
+        ordinals.clear();
+        for (int ordinal = 0; ordinal < live; ordinal++) {
+            ordinals.put(compacted[ordinal], ordinal);
+        }
+        ids = compacted;
+        size = live;
+        dead.clear();
+        deadCount = 0;
+    }
+
+    private String truncate(String token) {
+        return token.length() > maxPrefixLength ? token.substring(0, maxPrefixLength) : token;
+    }
+
+    /**
+     * Lista de ordinales ordenada de forma creciente.
+     */
+    private static final class Postings {
+        private int[] docs = new int[2];
+        private int size;
+
+        private void add(int ordinal) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = ordinal;
+        }
+
+        /**
+         * Primera posición desde from cuyo ordinal es mayor o igual al buscado (size si no hay).
+         */
+        private int seek(int ordinal, int from) {
+            int bound = 1;
+            while (from + bound < size && docs[from + bound] < ordinal) {
+                bound <<= 1;
+            }
+            int index = Arrays.binarySearch(docs, from + (bound >> 1), Math.min(from + bound + 1, size), ordinal);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        private void remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = remap[docs[i]];
+                if (ordinal >= 0) {
+                    docs[kept++] = ordinal;
+                }
+            }
+            size = kept;
+            if (docs.length > 16 && kept < docs.length / 4) {
+                docs = Arrays.copyOf(docs, Math.max(2, kept * 2));
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ public class LeadService {
 
     private final LeadRepository leadRepository;
     private final LeadValidator leadValidator;
+    private final ActivityCounterService activityCounterService;
 
     /**
      * Crea un nuevo lead con validación completa.
@@ -57,6 +58,7 @@ public class LeadService {
         lead.setUpdatedAt(LocalDateTime.now());
         
         Lead savedLead = leadRepository.save(lead);
+        activityCounterService.addLeads(1);
         log.info("Lead creado exitosamente - ID: {}, Nombre: {}, Negocio: {}", 
                 savedLead.getId(), savedLead.getFullName(), savedLead.getBusinessId());
         
@@ -280,5 +282,6 @@ public class LeadService {
     public void hardDeleteLead(Long id) {
         log.warn("Eliminación permanente de lead con ID: {}", id);
         leadRepository.deleteById(id);
+        activityCounterService.addLeads(-1);
     }
 }
@@ -0,0 +1,371 @@
+package com.alexia.service;
+
+import com.alexia.dto.GrokIntent;
+import com.alexia.dto.GrokIntent.IntentType;
+import com.alexia.util.TextNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Clasificador de intención local que evita llamar a Grok en los mensajes obvios.
+ *
+ * Primero aplica reglas de palabras clave (saludos, "cerca", "más barato", "busco ...") y,
+ * si ninguna aplica, un modelo Naive Bayes multinomial sobre las palabras normalizadas.
+ * El modelo parte de ejemplos incluidos en intent/seed-examples.txt y sigue aprendiendo
+ * de las clasificaciones de Grok con confianza alta. El vocabulario está acotado: una vez lleno,
+ * los ejemplos nuevos solo actualizan las palabras ya conocidas.
+ *
+ * LEAD_CAPTURE nunca se resuelve localmente: requiere extraer nombre, teléfono y consentimiento.
+ */
+@Component
+@Slf4j
+public class LocalIntentClassifier {
+
+    private static final String SEED_RESOURCE = "intent/seed-examples.txt";
+    private static final double RULE_CONFIDENCE = 0.95;
+
+    private static final Set<String> GREETING_WORDS = Set.of(
+            "hola", "holi", "hey", "buenas", "buenos", "buen", "dia", "dias", "tardes", "noches",
+            "como", "estas", "esta", "va", "que", "tal", "gracias", "muchas", "ok",
+            "chao", "adios", "saludos", "bien", "y", "tu", "usted", "todo", "hasta", "luego");
+
+    private static final Set<String> NEAR_WORDS = Set.of("cerca", "cercano", "cercana", "cercanos", "cercanas");
+
+    private static final Set<String> PRICE_WORDS = Set.of("barato", "barata", "baratos", "baratas",
+            "precio", "precios", "comparar", "compara", "economico", "economica", "cuesta", "cuestan", "vale");
+
+    private static final Set<String> PRODUCT_TRIGGERS = Set.of("busco", "necesito", "comprar", "compro",
+            "encontrar", "consigo", "conseguir", "vende", "venden", "vendan");
+
+    private static final Set<String> BUSINESS_SUFFIXES = Set.of("eria", "erias");
+
+    private static final Set<String> BUSINESS_WORDS = Set.of("tienda", "tiendas", "restaurante", "restaurantes",
+            "farmacia", "farmacias", "supermercado", "supermercados", "negocio", "negocios", "local", "locales",
+            "almacen", "almacenes", "taller", "talleres", "mercado", "panaderia", "cafeteria", "ferreteria");
+
+    private static final Set<String> LEAD_WORDS = Set.of("registrarme", "registrar", "registro", "inscribirme",
+            "cliente", "acepto", "telefono", "celular", "correo", "email", "llamenme", "contactenme");
+
+    /**
+     * Palabras que indican una pregunta abierta: las reglas no deciden, se deja al modelo o a Grok.
+     */
+    private static final Set<String> DEFER_WORDS = Set.of("ayuda", "ayudar", "ayudame", "informacion", "saber",
+            "explica", "explicame", "porque", "hablar", "pedido", "problema", "funciona", "eres");
+
+    /**
+     * Palabras que no forman parte del término de búsqueda.
+     */
+    private static final Set<String> STOP_WORDS = Set.of(
+            "busco", "buscar", "busca", "buscame", "necesito", "quiero", "comprar", "compro", "encontrar",
+            "consigo", "conseguir", "vende", "venden", "vendan", "donde", "hay", "queda", "quedan", "puedo",
+            "un", "una", "unos", "unas", "el", "la", "los", "las", "de", "del", "en", "a", "al", "mi", "me",
+            "por", "para", "con", "que", "quien", "alguna", "algun", "algunos", "algunas", "favor", "porfa",
+            "cerca", "cercano", "cercana", "cercanos", "cercanas", "aqui", "aca", "zona", "barrio", "mas",
+            "barato", "barata", "baratos", "baratas", "precio", "precios", "comparar", "compara", "economico",
+            "economica", "cuesta", "cuestan", "cuanto", "cuantos", "cuanta", "vale", "hola", "buenas",
+            "tienes", "tienen", "necesita", "necesitan", "y", "o", "se", "lo");
+
+    private final double confidenceThreshold;
+    private final int minTrainingExamples;
+    private final NaiveBayesModel model;
+
+    public LocalIntentClassifier(@Value("${alexia.intent.local.threshold:0.85}") double confidenceThreshold,
+                                 @Value("${alexia.intent.local.min-training-examples:40}") int minTrainingExamples,
+                                 @Value("${alexia.intent.local.max-vocabulary:5000}") int maxVocabulary) {
+        this.confidenceThreshold = confidenceThreshold;
+        this.minTrainingExamples = minTrainingExamples;
+        this.model = new NaiveBayesModel(maxVocabulary);
+        int seeded = loadSeedExamples();
+        log.info("LocalIntentClassifier inicializado - threshold={}, ejemplosSemilla={}, vocabulario={}/{}",
+                confidenceThreshold, seeded, model.getVocabularySize(), maxVocabulary);
+    }
+
+    /**
+     * Clasifica un mensaje localmente.
+     *
+     * @param messageText Mensaje del usuario
+     * @return Intención si la confianza supera el umbral, vacío si hay que consultar a Grok
+     */
+    public Optional<GrokIntent> classify(String messageText) {
+        List<String> tokens = TextNormalizer.tokenize(messageText);
+        if (tokens.isEmpty() || containsAny(tokens, LEAD_WORDS)) {
+            return Optional.empty();
+        }
+
+        Optional<GrokIntent> byRules = classifyByRules(tokens);
+        if (byRules.isPresent()) {
+            return byRules;
+        }
+        return classifyByModel(tokens);
+    }
+
+    /**
+     * Incorpora un ejemplo etiquetado (p. ej. una clasificación de Grok con confianza alta).
+     *
+     * @param messageText Mensaje del usuario
+     * @param intent Intención asignada
+     */
+    public void learn(String messageText, IntentType intent) {
+        if (intent == null || intent == IntentType.LEAD_CAPTURE) {
+            return;
+        }
+        List<String> tokens = TextNormalizer.tokenize(messageText);
+        if (!tokens.isEmpty()) {
+            model.train(tokens, intent);
+        }
+    }
+
+    /**
+     * Término de búsqueda candidato tomado del texto crudo, antes de conocer la intención.
+     * Conserva las tildes (como el searchTerm que devuelve Grok) y solo quita las palabras vacías.
+     *
+     * @param messageText Mensaje del usuario
+     * @return Término en minúsculas, o vacío si no queda ninguna palabra
+     */
+    public Optional<String> candidateSearchTerm(String messageText) {
+        if (messageText == null) {
+            return Optional.empty();
+        }
+        StringJoiner term = new StringJoiner(" ");
+        for (String word : messageText.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty() && !STOP_WORDS.contains(TextNormalizer.normalize(word))) {
+                term.add(word);
+            }
+        }
+        return term.length() == 0 ? Optional.empty() : Optional.of(term.toString());
+    }
+
+    public double getConfidenceThreshold() {
+        return confidenceThreshold;
+    }
+
+    int getVocabularySize() {
+        return model.getVocabularySize();
+    }
+
+    private Optional<GrokIntent> classifyByRules(List<String> tokens) {
+        if (GREETING_WORDS.containsAll(tokens)) {
+            return Optional.of(intent(IntentType.GENERAL_QUERY, null, 1.0));
+        }
+
+        String searchTerm = extractSearchTerm(tokens);
+        if (searchTerm == null || containsAny(tokens, DEFER_WORDS)) {
+            return Optional.empty();
+        }
+        if (containsAny(tokens, PRICE_WORDS)) {
+            return Optional.of(intent(IntentType.COMPARE_PRICES, searchTerm, RULE_CONFIDENCE));
+        }
+        if (containsAny(tokens, NEAR_WORDS) || mentionsBusiness(tokens)) {
+            return Optional.of(intent(IntentType.BUSINESS_SEARCH, searchTerm, RULE_CONFIDENCE));
+        }
+        if (containsAny(tokens, PRODUCT_TRIGGERS) && tokens.size() <= 6) {
+            return Optional.of(intent(IntentType.PRODUCT_SEARCH, searchTerm, RULE_CONFIDENCE));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<GrokIntent> classifyByModel(List<String> tokens) {
+        if (model.getExampleCount() < minTrainingExamples) {
+            return Optional.empty();
+        }
+        NaiveBayesModel.Prediction prediction = model.predict(tokens);
+        if (prediction == null || prediction.probability() < confidenceThreshold
+                || prediction.intent() == IntentType.LEAD_CAPTURE) {
+            return Optional.empty();
+        }
+
+        String searchTerm = null;
+        if (prediction.intent() != IntentType.GENERAL_QUERY) {
+            searchTerm = extractSearchTerm(tokens);
+            if (searchTerm == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(intent(prediction.intent(), searchTerm, prediction.probability()));
+    }
+
+    private boolean mentionsBusiness(List<String> tokens) {
+        for (String token : tokens) {
+            if (BUSINESS_WORDS.contains(token)) {
+                return true;
+            }
+            for (String suffix : BUSINESS_SUFFIXES) {
+                if (token.length() > suffix.length() + 2 && token.endsWith(suffix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Término de búsqueda: las palabras que quedan al quitar verbos de búsqueda y palabras vacías.
+     */
+    private static String extractSearchTerm(List<String> tokens) {
+        StringJoiner term = new StringJoiner(" ");
+        for (String token : tokens) {
+            if (!STOP_WORDS.contains(token)) {
+                term.add(token);
+            }
+        }
+        return term.length() == 0 ? null : term.toString();
+    }
+
+    private static boolean containsAny(List<String> tokens, Set<String> words) {
+        for (String token : tokens) {
+            if (words.contains(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static GrokIntent intent(IntentType type, String searchTerm, double confidence) {
+        GrokIntent intent = new GrokIntent();
+        intent.setIntent(type);
+        intent.setSearchTerm(searchTerm);
+        intent.setConfidence(confidence);
+        return intent;
+    }
+
+    /**
+     * Carga los ejemplos semilla (formato INTENT|texto, # para comentarios).
+     */
+    private int loadSeedExamples() {
+        ClassPathResource resource = new ClassPathResource(SEED_RESOURCE);
+        if (!resource.exists()) {
+            log.warn("No se encontró {}, el modelo local empieza vacío", SEED_RESOURCE);
+            return 0;
+        }
+        int loaded = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf('|');
+                if (line.isBlank() || line.startsWith("#") || separator < 0) {
+                    continue;
+                }
+                try {
+                    IntentType type = IntentType.valueOf(line.substring(0, separator).trim());
+                    learn(line.substring(separator + 1), type);
+                    loaded++;
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ejemplo semilla con intención desconocida ignorado - line={}", line);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error al cargar los ejemplos semilla - message={}", e.getMessage());
+        }
+        return loaded;
+    }
+
+    /**
+     * Naive Bayes multinomial con suavizado de Laplace. Thread-safe (métodos sincronizados).
+     * Con el vocabulario lleno, las palabras desconocidas de un ejemplo se descartan: los mensajes
+     * de usuarios no pueden hacer crecer la tabla sin límite.
+     */
+    static final class NaiveBayesModel {
+
+        record Prediction(IntentType intent, double probability) {
+        }
+
+        private final Map<IntentType, Integer> examplesPerIntent = new EnumMap<>(IntentType.class);
+        private final Map<IntentType, Integer> tokensPerIntent = new EnumMap<>(IntentType.class);
+        private final Map<String, int[]> tokenCounts = new HashMap<>();
+        private final int maxVocabulary;
+        private int exampleCount;
+
+        NaiveBayesModel(int maxVocabulary) {
+            this.maxVocabulary = maxVocabulary;
+        }
+
+        synchronized void train(List<String> tokens, IntentType intent) {
+            int learned = 0;
+            for (String token : tokens) {
+                int[] counts = tokenCounts.get(token);
+                if (counts == null) {
+                    if (tokenCounts.size() >= maxVocabulary) {
+                        continue;
+                    }
+                    counts = new int[IntentType.values().length];
+                    tokenCounts.put(token, counts);
+                }
+                counts[intent.ordinal()]++;
+                learned++;
+            }
+            if (learned == 0) {
+                return;
+            }
+            exampleCount++;
+            examplesPerIntent.merge(intent, 1, Integer::sum);
+            tokensPerIntent.merge(intent, learned, Integer::sum);
+        }
+
+        synchronized int getExampleCount() {
+            return exampleCount;
+        }
+
+        synchronized int getVocabularySize() {
+            return tokenCounts.size();
+        }
+
+        synchronized Prediction predict(List<String> tokens) {
+            if (exampleCount == 0) {
+                return null;
+            }
+            IntentType[] intents = IntentType.values();
+            double[] logScores = new double[intents.length];
+            double vocabulary = Math.max(1, tokenCounts.size());
+            double best = Double.NEGATIVE_INFINITY;
+
+            for (IntentType intent : intents) {
+                int examples = examplesPerIntent.getOrDefault(intent, 0);
+                if (examples == 0) {
+                    logScores[intent.ordinal()] = Double.NEGATIVE_INFINITY;
+                    continue;
+                }
+                double score = Math.log((double) examples / exampleCount);
+                double denominator = tokensPerIntent.getOrDefault(intent, 0) + vocabulary;
+                for (String token : tokens) {
+                    int[] counts = tokenCounts.get(token);
+                    int count = counts != null ? counts[intent.ordinal()] : 0;
+                    score += Math.log((count + 1.0) / denominator);
+                }
+                logScores[intent.ordinal()] = score;
+                best = Math.max(best, score);
+            }
+
+            // Softmax sobre los log-scores para obtener la probabilidad posterior
+            double sum = 0;
+            for (double logScore : logScores) {
+                sum += Math.exp(logScore - best);
+            }
+            IntentType winner = null;
+            double winnerProbability = 0;
+            for (IntentType intent : intents) {
+                double probability = Math.exp(logScores[intent.ordinal()] - best) / sum;
+                if (probability > winnerProbability) {
+                    winner = intent;
+                    winnerProbability = probability;
+                }
+            }
+            return new Prediction(winner, winnerProbability);
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package com.alexia.service;
 
+import com.alexia.dto.ResultPage;
 import com.alexia.entity.Product;
 import com.alexia.exception.ProductNotFoundException;
 import com.alexia.repository.ProductRepository;
+import com.alexia.util.TextNormalizer;
 import com.alexia.validation.ProductValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -24,6 +32,25 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductValidator productValidator;
+    private final CatalogSearchIndex catalogSearchIndex;
+
+    @Value("${alexia.search.fulltext.enabled:false}")
+    private boolean fullTextEnabled;
+
+    @Value("${alexia.search.fulltext.limit:50}")
+    private int fullTextLimit;
+
+    @Value("${alexia.search.fuzzy.enabled:false}")
+    private boolean fuzzyEnabled;
+
+    @Value("${alexia.search.fuzzy.threshold:0.3}")
+    private double fuzzyThreshold;
+
+    @Value("${alexia.search.fuzzy.top-k:10}")
+    private int fuzzyTopK;
+
+    @Value("${alexia.search.page-size.products:10}")
+    private int pageSize;
 
     /**
      * Obtiene todos los productos.
@@ -71,30 +98,124 @@ public class ProductService {
     }
 
     /**
-     * Obtiene productos por categoría.
+     * Obtiene productos por categoría (sin distinguir mayúsculas, tildes ni plural).
      */
     @Transactional(readOnly = true)
     public List<Product> getProductsByCategory(String category) {
         log.debug("Obteniendo productos de categoría: {}", category);
-        return productRepository.findByCategoryAndIsActiveTrue(category);
+        return productRepository.findByCategoryKeyAndIsActiveTrue(TextNormalizer.searchKey(category));
     }
 
     /**
-     * Busca productos por nombre.
+     * Busca productos por nombre: primero por prefijo de la clave normalizada (con índice) y, si no
+     * hay resultados, por coincidencia parcial.
      */
     @Transactional(readOnly = true)
     public List<Product> searchProductsByName(String name) {
         log.debug("Buscando productos con nombre: {}", name);
-        return productRepository.searchByName(name);
+        List<Product> products = searchByNameKeyPrefix(name);
+        return products.isEmpty() ? productRepository.searchByName(name) : products;
     }
 
     /**
      * Busca productos por nombre o descripción.
+     * Usa el índice en memoria si está cargado; si no, la búsqueda de texto completo por relevancia
+     * (si está activada) o la consulta LIKE en la BD. Sin resultados, prueba por similitud de
+     * nombre para tolerar errores de tipeo ("tornilos"), si está activada.
      */
     @Transactional(readOnly = true)
     public List<Product> searchProducts(String query) {
         log.debug("Buscando productos con query: {}", query);
-        return productRepository.searchByNameOrDescription(query);
+        List<Product> products = searchProductsExact(query);
+        if (products.isEmpty() && fuzzyEnabled && query != null && !query.isBlank()) {
+            products = findActiveInOrder(productRepository.searchFuzzyIds(query.trim(), fuzzyThreshold, fuzzyTopK));
+            log.debug("Búsqueda por similitud de productos - query={}, resultados={}", query, products.size());
+        }
+        return products;
+    }
+
+    /**
+     * Página de {@link #searchProducts(String)} para mostrar de a pocos (p. ej. en Telegram): lee
+     * solo pageSize + 1 filas por cursor de ID en lugar de cargar todas las coincidencias.
+     * Los resultados por relevancia (texto completo, similitud) ya vienen acotados y se paginan en su orden.
+     *
+     * @param query Texto buscado
+     * @param afterId Último ID de la página anterior, o 0 para la primera
+     */
+    @Transactional(readOnly = true)
+    public ResultPage<Product> searchProductsPage(String query, long afterId) {
+        log.debug("Buscando página de productos - query={}, afterId={}", query, afterId);
+        ResultPage<Product> page = searchProductsExactPage(query, afterId);
+        if (page.isEmpty() && fuzzyEnabled && query != null && !query.isBlank()) {
+            page = ResultPage.after(
+                    findActiveInOrder(productRepository.searchFuzzyIds(query.trim(), fuzzyThreshold, fuzzyTopK)),
+                    afterId, pageSize, Product::getId);
+        }
+        return page;
+    }
+
+    private ResultPage<Product> searchProductsExactPage(String query, long afterId) {
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        Optional<List<Long>> indexed = catalogSearchIndex.searchProductsAfter(query, afterId, pageSize + 1);
+        if (indexed.isPresent()) {
+            if (indexed.get().isEmpty()) {
+                return ResultPage.empty();
+            }
+            List<Product> products = new ArrayList<>(productRepository.findActiveByIdIn(indexed.get()));
+            products.sort(Comparator.comparing(Product::getId));
+            return ResultPage.of(products, pageSize, Product::getId);
+        }
+        if (fullTextEnabled) {
+            return ResultPage.after(findActiveInOrder(productRepository.searchFullTextIds(query, fullTextLimit)),
+                    afterId, pageSize, Product::getId);
+        }
+        String prefix = TextNormalizer.searchKey(query);
+        List<Product> products = prefix.isEmpty()
+                ? List.of()
+                : productRepository.searchByNameKeyPrefixAfter(prefix, afterId, limit);
+        if (products.isEmpty()) {
+            products = productRepository.searchByNameOrDescriptionAfter(query, afterId, limit);
+        }
+        return ResultPage.of(products, pageSize, Product::getId);
+    }
+
+    private List<Product> searchProductsExact(String query) {
+        Optional<List<Long>> indexed = catalogSearchIndex.searchProducts(query);
+        if (indexed.isPresent()) {
+            return indexed.get().isEmpty() ? List.of() : productRepository.findActiveByIdIn(indexed.get());
+        }
+        if (fullTextEnabled) {
+            return findActiveInOrder(productRepository.searchFullTextIds(query, fullTextLimit));
+        }
+        List<Product> products = searchByNameKeyPrefix(query);
+        return products.isEmpty() ? productRepository.searchByNameOrDescription(query) : products;
+    }
+
+    /**
+     * Carga los productos de una lista de IDs ya ordenada por relevancia, con su negocio en la misma
+     * consulta, y conserva ese orden.
+     */
+    private List<Product> findActiveInOrder(List<Long> rankedIds) {
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> byId = new HashMap<>();
+        for (Product product : productRepository.findActiveByIdIn(rankedIds)) {
+            byId.put(product.getId(), product);
+        }
+        List<Product> products = new ArrayList<>(byId.size());
+        for (Long id : rankedIds) {
+            Product product = byId.get(id);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    private List<Product> searchByNameKeyPrefix(String query) {
+        String prefix = TextNormalizer.searchKey(query);
+        return prefix.isEmpty() ? List.of() : productRepository.searchByNameKeyPrefix(prefix);
     }
 
     /**
@@ -127,7 +248,9 @@ public class ProductService {
         
         product.setCreatedAt(LocalDateTime.now());
         product.setUpdatedAt(LocalDateTime.now());
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        catalogSearchIndex.onProductSaved(saved);
+        return saved;
     }
 
     /**
@@ -154,7 +277,9 @@ public class ProductService {
         product.setMetadata(productDetails.getMetadata());
         product.setUpdatedAt(LocalDateTime.now());
         
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        catalogSearchIndex.onProductSaved(saved);
+        return saved;
     }
 
     /**
@@ -170,6 +295,7 @@ public class ProductService {
         product.setIsActive(false);
         product.setUpdatedAt(LocalDateTime.now());
         productRepository.save(product);
+        catalogSearchIndex.onProductDeleted(id);
     }
 
     /**
@@ -179,6 +305,7 @@ public class ProductService {
     public void hardDeleteProduct(Long id) {
         log.warn("Eliminación permanente de producto con ID: {}", id);
         productRepository.deleteById(id);
+        catalogSearchIndex.onProductDeleted(id);
     }
 
     /**
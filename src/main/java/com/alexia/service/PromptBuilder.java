@@ -0,0 +1,223 @@
+package com.alexia.service;
+
+import com.alexia.config.ExecutorProvider;
+import com.alexia.dto.GrokMessage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * Arma el prompt de conversación dentro de un presupuesto de tokens.
+ *
+ * Estima los tokens de cada mensaje y, tras el prompt de sistema y el resumen vigente, incluye
+ * los turnos más recientes que quepan. Los turnos antiguos que quedan fuera se resumen en segundo
+ * plano y el resumen se guarda en ConversationStore para las siguientes llamadas. También se
+ * resumen, aunque quepan, los turnos que el buffer circular del store está por descartar, para que
+ * ninguno se pierda sin pasar por el resumen; los turnos ya resumidos no se repiten en el prompt.
+ * Registra los tokens reales que informa la API (alexia.prompt.tokens, y los del último prompt
+ * de cada chat en ConversationStore).
+ */
+@Component
+@Slf4j
+public class PromptBuilder {
+
+    /** Tokens fijos por mensaje (rol y separadores del formato de chat). */
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+    private static final String SUMMARY_PREFIX = "Resumen de la conversación anterior con este usuario: ";
+
+    private final ConversationStore conversationStore;
+    private final int maxPromptTokens;
+    private final double charsPerToken;
+    private final int summaryMinTurns;
+    private final ExecutorService summaryExecutor;
+    /** Chats con un resumen en curso: como mucho uno por chat. */
+    private final Set<Long> summarizing = ConcurrentHashMap.newKeySet();
+
+    private final DistributionSummary promptTokens;
+    private final DistributionSummary completionTokens;
+
+    public PromptBuilder(ConversationStore conversationStore,
+                         ExecutorProvider executorProvider,
+                         MeterRegistry meterRegistry,
+                         @Value("${alexia.prompt.max-tokens:2048}") int maxPromptTokens,
+                         @Value("${alexia.prompt.chars-per-token:3.5}") double charsPerToken,
+                         @Value("${alexia.prompt.summary-min-turns:4}") int summaryMinTurns,
+                         @Value("${alexia.prompt.summary-threads:2}") int summaryThreads) {
+        this.conversationStore = conversationStore;
+        this.maxPromptTokens = maxPromptTokens;
+        this.charsPerToken = charsPerToken;
+        this.summaryMinTurns = summaryMinTurns;
+        this.summaryExecutor = executorProvider.newBlockingExecutor("prompt-summary-", summaryThreads);
+
+        this.promptTokens = DistributionSummary.builder("alexia.prompt.tokens")
+                .description("Tokens por llamada de conversación según la API")
+                .tag("kind", "prompt")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.completionTokens = DistributionSummary.builder("alexia.prompt.tokens")
+                .description("Tokens por llamada de conversación según la API")
+                .tag("kind", "completion")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        log.info("PromptBuilder inicializado - maxPromptTokens={}, charsPerToken={}", maxPromptTokens, charsPerToken);
+    }
+
+    /**
+     * Arma los mensajes para la API a partir del historial del chat (que ya incluye el mensaje
+     * actual del usuario). Si quedan turnos sin resumir fuera del presupuesto, lanza el resumen
+     * en segundo plano con el summarizer indicado.
+     *
+     * @param chatId ID del chat
+     * @param systemPrompt Prompt de sistema
+     * @param summarizer Recibe la transcripción a resumir y devuelve el resumen (o null si falla)
+     * @return Mensajes: sistema, resumen (si hay) y turnos recientes en orden
+     */
+    public List<GrokMessage> build(Long chatId, String systemPrompt, Function<String, String> summarizer) {
+        return build(chatId, systemPrompt, null, summarizer);
+    }
+
+    /**
+     * Como {@link #build(Long, String, Function)}, pero con un mensaje del usuario que todavía no
+     * está en el historial (se guarda solo si la llamada termina bien). Entra siempre, al final,
+     * y cuenta dentro del presupuesto.
+     *
+     * @param pending Mensaje actual fuera del historial, o null
+     */
+    public List<GrokMessage> build(Long chatId, String systemPrompt, GrokMessage pending,
+                                   Function<String, String> summarizer) {
+        ConversationStore.History history = conversationStore.history(chatId);
+        List<GrokMessage> turns = history.messages();
+        if (pending != null) {
+            turns = new ArrayList<>(turns);
+            turns.add(pending);
+        }
+
+        GrokMessage system = GrokMessage.builder().role("system").content(systemPrompt).build();
+        int remaining = maxPromptTokens - estimateTokens(system);
+        GrokMessage summary = null;
+        if (history.summary() != null) {
+            summary = GrokMessage.builder().role("system").content(SUMMARY_PREFIX + history.summary()).build();
+            remaining -= estimateTokens(summary);
+        }
+
+        // Del más reciente al más antiguo, sin los turnos que ya cubre el resumen;
+        // el último mensaje (el del usuario) siempre entra
+        int summarized = (int) Math.min(Math.max(0, history.summarizedThroughSeq() + 1 - history.firstSeq()),
+                turns.size() - 1);
+        int firstPacked = turns.size();
+        while (firstPacked > summarized) {
+            int tokens = estimateTokens(turns.get(firstPacked - 1));
+            if (tokens > remaining && firstPacked < turns.size()) {
+                break;
+            }
+            remaining -= tokens;
+            firstPacked--;
+        }
+
+        List<GrokMessage> messages = new ArrayList<>(turns.size() - firstPacked + 2);
+        messages.add(system);
+        if (summary != null) {
+            messages.add(summary);
+        }
+        messages.addAll(turns.subList(firstPacked, turns.size()));
+
+        // Se resume lo que quedó fuera y, con el buffer casi lleno, lo que está por descartarse:
+        // quedan summaryMinTurns mensajes de margen para que el resumen llegue antes
+        int keep = Math.max(1, conversationStore.getMaxMessages() - 2 * summaryMinTurns);
+        int summarizeBefore = Math.min(Math.max(firstPacked, history.messages().size() - keep),
+                history.messages().size());
+        scheduleSummaryIfNeeded(chatId, history, summarizeBefore, summarizer);
+        log.debug("Prompt armado - chatId={}, turnos={}/{}, tokensEstimados={}", chatId,
+                turns.size() - firstPacked, turns.size(), maxPromptTokens - remaining);
+        return messages;
+    }
+
+    /**
+     * Registra los tokens que informó la API para una llamada de conversación.
+     */
+    public void recordUsage(Long chatId, Integer prompt, Integer completion) {
+        if (prompt != null) {
+            promptTokens.record(prompt);
+            conversationStore.recordPromptTokens(chatId, prompt);
+        }
+        if (completion != null) {
+            completionTokens.record(completion);
+        }
+        log.debug("Uso de tokens - chatId={}, prompt={}, completion={}", chatId, prompt, completion);
+    }
+
+    /**
+     * Tokens estimados de un mensaje.
+     */
+    public int estimateTokens(GrokMessage message) {
+        int chars = message.getContent() != null ? message.getContent().length() : 0;
+        return MESSAGE_OVERHEAD_TOKENS + (int) Math.ceil(chars / charsPerToken);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        summaryExecutor.shutdownNow();
+    }
+
+    /**
+     * Resume los turnos anteriores a summarizeBefore que aún no están en el resumen,
+     * cuando son al menos summaryMinTurns.
+     */
+    private void scheduleSummaryIfNeeded(Long chatId, ConversationStore.History history, int summarizeBefore,
+                                         Function<String, String> summarizer) {
+        long summarizeBeforeSeq = history.firstSeq() + summarizeBefore;
+        long fromSeq = Math.max(history.firstSeq(), history.summarizedThroughSeq() + 1);
+        if (summarizeBeforeSeq - fromSeq < summaryMinTurns || !summarizing.add(chatId)) {
+            return;
+        }
+
+        List<GrokMessage> overflow = Collections.unmodifiableList(new ArrayList<>(history.messages()
+                .subList((int) (fromSeq - history.firstSeq()), summarizeBefore)));
+        String previousSummary = history.summary();
+        long throughSeq = summarizeBeforeSeq - 1;
+        try {
+            summaryExecutor.execute(() -> {
+                try {
+                    String summary = summarizer.apply(transcript(previousSummary, overflow));
+                    if (summary != null && !summary.isBlank()
+                            && conversationStore.updateSummary(chatId, summary.trim(), throughSeq)) {
+                        log.info("Resumen de conversación actualizado - chatId={}, turnos={}, length={}",
+                                chatId, overflow.size(), summary.length());
+                    }
+                } catch (Exception e) {
+                    log.warn("No se pudo resumir la conversación - chatId={}, error={}", chatId, e.getMessage());
+                } finally {
+                    summarizing.remove(chatId);
+                }
+            });
+        } catch (RuntimeException e) {
+            summarizing.remove(chatId);
+            log.warn("No se pudo programar el resumen - chatId={}, error={}", chatId, e.getMessage());
+        }
+    }
+
+    private static String transcript(String previousSummary, List<GrokMessage> turns) {
+        StringBuilder text = new StringBuilder();
+        if (previousSummary != null) {
+            text.append("Resumen previo: ").append(previousSummary).append("\n\n");
+        }
+        for (GrokMessage turn : turns) {
+            text.append("user".equals(turn.getRole()) ? "Usuario: " : "Asistente: ")
+                    .append(turn.getContent())
+                    .append('\n');
+        }
+        return text.toString();
+    }
+}
@@ -1,10 +1,14 @@
 package com.alexia.service;
 
+import com.alexia.dto.ResultPage;
 import com.alexia.dto.SearchResult;
+import com.alexia.entity.Business;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -16,26 +20,71 @@ public class RagSearchService {
      * Perform a RAG search and format the results for Telegram with proper source citation
      */
     public String searchAndFormatForTelegram(String query, Double latitude, Double longitude, Integer radiusMeters) {
-        log.info("Performing RAG search for query: '{}' at location: ({}, {}) with radius: {}m", 
-                query, latitude, longitude, radiusMeters);
-        
+        return searchAndFormatForTelegram(query, latitude, longitude, radiusMeters, null);
+    }
+
+    /**
+     * Same as above, reusing internal results that were already fetched (null to query the database)
+     */
+    public String searchAndFormatForTelegram(String query, Double latitude, Double longitude, Integer radiusMeters,
+                                             ResultPage<Business> prefetchedInternal) {
         try {
-            SearchResult result = searchService.search(query, latitude, longitude, radiusMeters);
-            
-            if (!result.hasResults()) {
-                return "❌ No encontré resultados para '" + query + "'.\n\n" +
-                       "💡 Intenta con:\n" +
-                       "• Otro término de búsqueda\n" +
-                       "• Una categoría más general\n" +
-                       "• Ampliar el radio de búsqueda";
-            }
-            
-            return formatSearchResultForTelegram(result);
+            return formatForTelegram(search(query, latitude, longitude, radiusMeters, prefetchedInternal));
         } catch (Exception e) {
             log.error("Error performing RAG search for query: '" + query + "'", e);
             return "❌ Hubo un error al realizar la búsqueda. Por favor intenta nuevamente.";
         }
     }
+
+    /**
+     * Perform a RAG search. Only the first page of internal results is loaded; see
+     * {@link SearchResult#getInternalNextAfterId()} and {@link #searchMoreInternal(String, long)}.
+     */
+    public SearchResult search(String query, Double latitude, Double longitude, Integer radiusMeters,
+                               ResultPage<Business> prefetchedInternal) {
+        log.info("Performing RAG search for query: '{}' at location: ({}, {}) with radius: {}m", 
+                query, latitude, longitude, radiusMeters);
+        return searchService.search(query, latitude, longitude, radiusMeters, prefetchedInternal);
+    }
+
+    /**
+     * Next page of internal results ("show more"), read by keyset after the last business shown
+     */
+    public ResultPage<Business> searchMoreInternal(String query, long afterId) {
+        log.info("Fetching more internal results for query: '{}' after ID {}", query, afterId);
+        return searchService.searchInternalPage(query, afterId);
+    }
+
+    /**
+     * Format a RAG search result for Telegram, or a hint message if nothing was found
+     */
+    public String formatForTelegram(SearchResult result) {
+        if (!result.hasResults()) {
+            return "❌ No encontré resultados para '" + result.getQuery() + "'.\n\n" +
+                   "💡 Intenta con:\n" +
+                   "• Otro término de búsqueda\n" +
+                   "• Una categoría más general\n" +
+                   "• Ampliar el radio de búsqueda";
+        }
+        return formatSearchResultForTelegram(result);
+    }
+
+    /**
+     * Format a further page of internal results, numbered from firstNumber
+     */
+    public String formatMoreInternalForTelegram(String query, ResultPage<Business> page, int firstNumber) {
+        if (page.isEmpty()) {
+            return "ℹ️ No hay más resultados para \"" + query + "\".";
+        }
+        StringBuilder response = new StringBuilder();
+        response.append(String.format("🔍 Más resultados para \"%s\":\n\n", query));
+        response.append("📍 CERCA DE TI (base interna):\n");
+        int count = firstNumber;
+        for (Business business : page.items()) {
+            appendInternalResult(response, count++, business);
+        }
+        return response.toString();
+    }
     
     /**
      * Format search results for Telegram with proper source citation
@@ -44,35 +93,12 @@ public class RagSearchService {
         StringBuilder response = new StringBuilder();
         response.append(String.format("🔍 Resultados para \"%s\":\n\n", result.getQuery()));
         
-        // Add internal results section if available
+        // Add internal results section if available (already limited to one page)
         if (result.hasInternalResults()) {
             response.append("📍 CERCA DE TI (base interna):\n");
             int count = 1;
-            for (int i = 0; i < Math.min(5, result.getInternalResults().size()); i++) { // Limit to 5 results
-                var business = result.getInternalResults().get(i);
-                response.append(String.format("%d. %s", count++, business.getName()));
-                
-                // Add distance if available
-                // TODO: Re-enable when location field is restored
-                // if (business.getLocation() != null) {
-                //     // In a real implementation, we would calculate the distance
-                //     // For now, we'll just add a placeholder
-                //     response.append(" (distancia)");
-                // }
-                
-                response.append("\n");
-                
-                // Add category if available
-                if (business.getCategory() != null) {
-                    response.append(String.format("   📂 %s\n", business.getCategory()));
-                }
-                
-                // Add contact info if available
-                if (business.getPhone() != null) {
-                    response.append(String.format("   📞 %s\n", business.getPhone()));
-                }
-                
-                response.append("\n");
+            for (Business business : result.getInternalResults()) {
+                appendInternalResult(response, count++, business);
             }
             response.append("\n");
         }
@@ -130,4 +156,30 @@ public class RagSearchService {
         
         return response.toString();
     }
+
+    private void appendInternalResult(StringBuilder response, int number, Business business) {
+        response.append(String.format("%d. %s", number, business.getName()));
+        
+        // Add distance if available
+        // TODO: Re-enable when location field is restored
+        // if (business.getLocation() != null) {
+        //     // In a real implementation, we would calculate the distance
+        //     // For now, we'll just add a placeholder
+        //     response.append(" (distancia)");
+        // }
+        
+        response.append("\n");
+        
+        // Add category if available
+        if (business.getCategory() != null) {
+            response.append(String.format("   📂 %s\n", business.getCategory()));
+        }
+        
+        // Add contact info if available
+        if (business.getPhone() != null) {
+            response.append(String.format("   📞 %s\n", business.getPhone()));
+        }
+        
+        response.append("\n");
+    }
 }
@@ -0,0 +1,110 @@
+package com.alexia.service;
+
+import com.alexia.config.ExecutorProvider;
+import com.alexia.entity.SearchKeyListener;
+import com.alexia.repository.BusinessRepository;
+import com.alexia.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+/**
+ * Completa las claves de búsqueda (name_key, category_key) de negocios y productos guardados antes
+ * de que existiera SearchKeyListener.
+ *
+ * Corre una vez en segundo plano al arrancar, por páginas de ID y una transacción por página.
+ * Solo toca filas sin clave, así que en los arranques siguientes termina en una consulta vacía.
+ * El UPDATE vuelve a exigir que la fila siga sin clave: una fila renombrada después de leerla ya
+ * tiene las claves de su nombre nuevo y no se pisa. No modifica updated_at.
+ */
+@Component
+@Slf4j
+public class SearchKeyBackfill {
+
+    private final BusinessRepository businessRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int pageSize;
+    private final ExecutorService worker;
+
+    public SearchKeyBackfill(BusinessRepository businessRepository,
+                             ProductRepository productRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${alexia.search.keys.backfill.enabled:true}") boolean enabled,
+                             @Value("${alexia.search.keys.backfill.page-size:1000}") int pageSize) {
+        this.businessRepository = businessRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.pageSize = Math.max(1, pageSize);
+        this.worker = Executors.newSingleThreadExecutor(ExecutorProvider.platformThreadFactory("search-key-backfill-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (enabled) {
+            worker.execute(this::run);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void run() {
+        try {
+            int businesses = backfill(businessRepository::findWithoutSearchKeys, businessRepository::updateSearchKeys);
+            int products = backfill(productRepository::findWithoutSearchKeys, productRepository::updateSearchKeys);
+            if (businesses > 0 || products > 0) {
+                log.info("Claves de búsqueda completadas - negocios={}, productos={}", businesses, products);
+            }
+        } catch (Exception e) {
+            log.warn("No se pudieron completar las claves de búsqueda, se reintentará en el próximo arranque - error={}",
+                    e.getMessage());
+        }
+    }
+
+    private int backfill(BiFunction<Long, PageRequest, List<Object[]>> fetch, KeyUpdater update) {
+        int updated = 0;
+        long afterId = 0;
+        PageRequest page = PageRequest.of(0, pageSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Object[]> rows = fetch.apply(afterId, page);
+            if (rows.isEmpty()) {
+                break;
+            }
+            Integer pageUpdated = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (Object[] row : rows) {
+                    count += update.apply((Long) row[0], SearchKeyListener.searchKey((String) row[1]),
+                            SearchKeyListener.searchKey((String) row[2]));
+                }
+                return count;
+            });
+            updated += pageUpdated != null ? pageUpdated : 0;
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+        return updated;
+    }
+
+    @FunctionalInterface
+    private interface KeyUpdater {
+        int apply(Long id, String nameKey, String categoryKey);
+    }
+}
@@ -1,20 +1,26 @@
 package com.alexia.service;
 
+import com.alexia.dto.ResultPage;
 import com.alexia.dto.SearchResult;
 import com.alexia.entity.Business;
 import com.alexia.entity.ExternalResultCache;
 import com.alexia.repository.BusinessRepository;
 import com.alexia.repository.ExternalResultCacheRepository;
+import com.alexia.util.TextNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.text.Normalizer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +30,25 @@ public class SearchService {
     private final BusinessRepository businessRepository;
     private final ExternalResultCacheRepository externalResultCacheRepository;
     private final GooglePlacesService googlePlacesService; // To be implemented
+    private final CatalogSearchIndex catalogSearchIndex;
+
+    @Value("${alexia.search.fulltext.enabled:false}")
+    private boolean fullTextEnabled;
+
+    @Value("${alexia.search.fulltext.limit:50}")
+    private int fullTextLimit;
+
+    @Value("${alexia.search.fuzzy.enabled:false}")
+    private boolean fuzzyEnabled;
+
+    @Value("${alexia.search.fuzzy.threshold:0.3}")
+    private double fuzzyThreshold;
+
+    @Value("${alexia.search.fuzzy.top-k:10}")
+    private int fuzzyTopK;
+
+    @Value("${alexia.search.page-size.businesses:5}")
+    private int pageSize;
     
     /**
      * Main search method implementing RAG strategy:
@@ -32,6 +57,19 @@ public class SearchService {
      * 3. Combine and cite sources
      */
     public SearchResult search(String query, Double latitude, Double longitude, Integer radiusMeters) {
+        return search(query, latitude, longitude, radiusMeters, null);
+    }
+
+    /**
+     * Same as {@link #search(String, Double, Double, Integer)}, reusing internal results that were
+     * already fetched (e.g. speculatively, while the intent was being detected).
+     * Only the first page of internal results is loaded; {@link SearchResult#getInternalNextAfterId()}
+     * continues it through {@link #searchInternalPage(String, long)}.
+     *
+     * @param prefetchedInternal First page of internal results for this query, or null to query the database
+     */
+    public SearchResult search(String query, Double latitude, Double longitude, Integer radiusMeters,
+                               ResultPage<Business> prefetchedInternal) {
         log.info("Executing RAG search for query: '{}' at location: ({}, {}) with radius: {}m", 
                 query, latitude, longitude, radiusMeters);
         
@@ -40,7 +78,10 @@ public class SearchService {
         log.debug("Normalized query from '{}' to '{}'", query, normalizedQuery);
         
         // Step 1: Search internal database
-        List<Business> internalResults = searchInternalDatabase(normalizedQuery, latitude, longitude, radiusMeters);
+        ResultPage<Business> internalPage = prefetchedInternal != null
+                ? prefetchedInternal
+                : searchInternalDatabase(normalizedQuery, 0, latitude, longitude, radiusMeters);
+        List<Business> internalResults = internalPage.items();
         
         // Determine if we need external results
         boolean needExternalResults = internalResults.size() < 3; // Threshold for external search
@@ -64,23 +105,75 @@ public class SearchService {
                 .externalResults(externalResults)
                 .internalCount(internalResults.size())
                 .externalCount(externalResults != null ? externalResults.size() : 0)
+                .internalNextAfterId(internalPage.nextAfterId())
                 .build();
     }
     
     /**
-     * Search internal database for businesses
+     * Internal database step only (no external fallback), one page at a time: for callers that
+     * prefetch it and for "show more" requests.
+     * Location is ignored until PostGIS is available, same as in {@link #search}.
+     *
+     * @param afterId Last business ID of the previous page, or 0 for the first page
      */
-    private List<Business> searchInternalDatabase(String query, Double latitude, Double longitude, Integer radiusMeters) {
-        log.debug("Searching internal database for query: '{}'", query);
+    public ResultPage<Business> searchInternalPage(String query, long afterId) {
+        return searchInternalDatabase(removeAccents(query), afterId, null, null, null);
+    }
+
+    /**
+     * Search internal database for businesses, reading only one page (keyset on ID).
+     * On a miss, retries with trigram similarity (if enabled) so typos are answered from our own
+     * data before falling back to external sources.
+     */
+    private ResultPage<Business> searchInternalDatabase(String query, long afterId, Double latitude, Double longitude,
+                                                        Integer radiusMeters) {
+        log.debug("Searching internal database for query: '{}' after ID {}", query, afterId);
 
         // TODO: Re-enable when PostGIS extension is available
         // if (latitude != null && longitude != null && radiusMeters != null) {
         //     return businessRepository.findNearbyWithCategory(query, longitude, latitude, radiusMeters);
         // } else {
-            // Simple category search
-            return businessRepository.findByCategoryContainingIgnoreCase(query);
+            ResultPage<Business> results = searchByText(query, afterId);
+            if (results.isEmpty() && fuzzyEnabled && query != null && !query.isBlank()) {
+                results = ResultPage.after(businessRepository.searchFuzzy(query.trim(), fuzzyThreshold, fuzzyTopK),
+                        afterId, pageSize, Business::getId);
+                log.debug("Fuzzy search for query '{}' found {} businesses", query, results.items().size());
+            }
+            return results;
         // }
     }
+
+    /**
+     * In-memory index over name and category when loaded, then ranked full-text search
+     * (name, category, address) if enabled, otherwise an indexed prefix lookup on the normalized
+     * category key, with the substring category search as last resort.
+     * Index and database lookups read pageSize + 1 rows in ID order; ranked results are already
+     * bounded and are paged in rank order.
+     */
+    private ResultPage<Business> searchByText(String query, long afterId) {
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        Optional<List<Long>> indexed = catalogSearchIndex.searchBusinessesAfter(query, afterId, pageSize + 1);
+        if (indexed.isPresent()) {
+            if (indexed.get().isEmpty()) {
+                return ResultPage.empty();
+            }
+            List<Business> businesses = new ArrayList<>(businessRepository.findActiveByIdIn(indexed.get()));
+            businesses.sort(Comparator.comparing(Business::getId));
+            return ResultPage.of(businesses, pageSize, Business::getId);
+        }
+        if (fullTextEnabled) {
+            return ResultPage.after(businessRepository.searchFullText(query, fullTextLimit), afterId, pageSize,
+                    Business::getId);
+        }
+        String categoryKey = TextNormalizer.searchKey(query);
+        List<Business> byKey = categoryKey.isEmpty()
+                ? List.of()
+                : businessRepository.findByCategoryKeyPrefixAfter(categoryKey, afterId, limit);
+        if (byKey.isEmpty()) {
+            byKey = businessRepository.findByCategoryContainingAfter(query, afterId, limit);
+        }
+        return ResultPage.of(byKey, pageSize, Business::getId);
+    }
     
     /**
      * Search external sources (Google Places, etc.) with caching
@@ -150,14 +243,14 @@ public class SearchService {
     }
     
     /**
-     * Remove accents from a string for better search matching
+     * Remove accents from a string for better search matching.
+     * Uses TextNormalizer's precomputed folding table (also lower-cases and drops punctuation),
+     * the same folding applied to the stored search keys.
      */
     private String removeAccents(String text) {
         if (text == null) {
             return null;
         }
-        // Normalize to NFD (decomposed form) and remove diacritical marks
-        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
-        return normalized.replaceAll("\\p{M}", "");
+        return TextNormalizer.normalize(text);
     }
 }
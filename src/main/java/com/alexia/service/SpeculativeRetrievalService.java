@@ -0,0 +1,223 @@
+package com.alexia.service;
+
+import com.alexia.config.ExecutorProvider;
+import com.alexia.dto.ResultPage;
+import com.alexia.entity.Business;
+import com.alexia.entity.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Recuperación especulativa en paralelo con la detección de intención.
+ *
+ * Mientras Grok clasifica el mensaje, lanza las búsquedas locales baratas (productos y negocios
+ * en la base interna) con un término candidato sacado del texto crudo. Cuando llega la intención,
+ * se usa el resultado que corresponde si el searchTerm coincide con el candidato; el resto se cancela.
+ * Solo se especula con consultas a la BD propia: Google Places y Grok nunca se llaman de forma especulativa.
+ *
+ * También registra la latencia por etapa del pipeline (alexia.pipeline.stage) en ambos modos,
+ * para comparar el tiempo extremo a extremo con y sin especulación.
+ */
+@Service
+@Slf4j
+public class SpeculativeRetrievalService {
+
+    private final LocalIntentClassifier localIntentClassifier;
+    private final ProductService productService;
+    private final SearchService searchService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long waitMillis;
+    private final ExecutorService executor;
+
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Counter used;
+    private final Counter discarded;
+    private final Counter timedOut;
+
+    public SpeculativeRetrievalService(LocalIntentClassifier localIntentClassifier,
+                                       ProductService productService,
+                                       SearchService searchService,
+                                       ExecutorProvider executorProvider,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${alexia.pipeline.speculative.enabled:false}") boolean enabled,
+                                       @Value("${alexia.pipeline.speculative.threads:4}") int threads,
+                                       @Value("${alexia.pipeline.speculative.wait-ms:2000}") long waitMillis) {
+        this.localIntentClassifier = localIntentClassifier;
+        this.productService = productService;
+        this.searchService = searchService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.waitMillis = waitMillis;
+        this.executor = enabled ? executorProvider.newBlockingExecutor("speculative-", threads) : null;
+
+        this.used = Counter.builder("alexia.pipeline.speculation")
+                .description("Resultados especulativos usados para responder")
+                .tag("outcome", "used")
+                .register(meterRegistry);
+        this.discarded = Counter.builder("alexia.pipeline.speculation")
+                .description("Búsquedas especulativas descartadas (otra intención u otro término)")
+                .tag("outcome", "discarded")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("alexia.pipeline.speculation")
+                .description("Búsquedas especulativas que no terminaron a tiempo")
+                .tag("outcome", "timeout")
+                .register(meterRegistry);
+
+        log.info("SpeculativeRetrievalService inicializado - enabled={}, threads={}, waitMs={}",
+                enabled, threads, waitMillis);
+    }
+
+    /**
+     * Lanza las búsquedas especulativas para un mensaje que va a clasificar Grok.
+     *
+     * @param messageText Mensaje del usuario
+     * @return Especulación en curso; {@link Speculation#NONE} si el modo está desactivado o no hay término
+     */
+    public Speculation start(String messageText) {
+        if (!enabled) {
+            return Speculation.NONE;
+        }
+        Optional<String> candidate = localIntentClassifier.candidateSearchTerm(messageText);
+        if (candidate.isEmpty()) {
+            return Speculation.NONE;
+        }
+
+        String term = candidate.get();
+        log.debug("Búsqueda especulativa iniciada - term={}", term);
+        // submit (FutureTask) y no CompletableFuture: solo así cancel(true) interrumpe al hilo
+        Future<ResultPage<Product>> products = executor.submit(() -> productService.searchProductsPage(term, 0));
+        Future<ResultPage<Business>> businesses = executor.submit(() -> searchService.searchInternalPage(term, 0));
+        return new Speculation(this, term, products, businesses);
+    }
+
+    /**
+     * Registra la duración de una etapa del pipeline.
+     *
+     * @param stage Etapa (intent, retrieval, total)
+     * @param startNanos Instante de inicio (System.nanoTime())
+     */
+    public void recordStage(String stage, long startNanos) {
+        Timer timer = stageTimers.computeIfAbsent(stage, name -> Timer.builder("alexia.pipeline.stage")
+                .description("Latencia por etapa del pipeline de mensajes")
+                .tag("stage", name)
+                .tag("speculative", String.valueOf(enabled))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Búsquedas especulativas de un mensaje. Cada resultado se entrega como mucho una vez;
+     * {@link #cancel()} descarta lo que no se haya usado.
+     */
+    public static final class Speculation {
+
+        /** Sin especulación: nunca entrega resultados. */
+        public static final Speculation NONE = new Speculation(null, null, null, null);
+
+        private final SpeculativeRetrievalService owner;
+        private final String term;
+        private final Future<ResultPage<Product>> products;
+        private final Future<ResultPage<Business>> businesses;
+        private boolean resolved;
+
+        private Speculation(SpeculativeRetrievalService owner, String term,
+                            Future<ResultPage<Product>> products, Future<ResultPage<Business>> businesses) {
+            this.owner = owner;
+            this.term = term;
+            this.products = products;
+            this.businesses = businesses;
+        }
+
+        /**
+         * Primera página de productos encontrada especulativamente, si el término coincide con el detectado.
+         *
+         * @param searchTerm searchTerm de la intención detectada
+         * @return Productos, o vacío si hay que buscar de nuevo
+         */
+        public Optional<ResultPage<Product>> products(String searchTerm) {
+            return take(products, searchTerm);
+        }
+
+        /**
+         * Primera página de negocios de la base interna encontrada especulativamente, si el término coincide.
+         *
+         * @param searchTerm searchTerm de la intención detectada
+         * @return Negocios internos, o vacío si hay que buscar de nuevo
+         */
+        public Optional<ResultPage<Business>> businesses(String searchTerm) {
+            return take(businesses, searchTerm);
+        }
+
+        /**
+         * Cancela las búsquedas no usadas e interrumpe el hilo de las que están en curso, así que
+         * una espera interrumpible (p. ej. por una conexión del pool) se corta. Una sentencia JDBC
+         * ya enviada puede terminar igualmente si el driver no atiende la interrupción; su
+         * resultado se descarta.
+         */
+        public void cancel() {
+            if (owner == null) {
+                return;
+            }
+            boolean wasResolved = resolved;
+            resolved = true;
+            products.cancel(true);
+            businesses.cancel(true);
+            if (!wasResolved) {
+                owner.discarded.increment();
+            }
+        }
+
+        private <T> Optional<T> take(Future<T> future, String searchTerm) {
+            if (owner == null || resolved) {
+                return Optional.empty();
+            }
+            resolved = true;
+            if (!term.equals(normalizeTerm(searchTerm))) {
+                owner.discarded.increment();
+                return Optional.empty();
+            }
+            try {
+                T result = future.get(owner.waitMillis, TimeUnit.MILLISECONDS);
+                owner.used.increment();
+                return Optional.of(result);
+            } catch (TimeoutException e) {
+                owner.timedOut.increment();
+                log.debug("Búsqueda especulativa sin terminar a tiempo - term={}", term);
+            } catch (ExecutionException e) {
+                owner.discarded.increment();
+                log.warn("Búsqueda especulativa fallida, se repite - term={}, error={}", term, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.empty();
+        }
+
+        private static String normalizeTerm(String searchTerm) {
+            return searchTerm == null ? "" : searchTerm.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        }
+    }
+}
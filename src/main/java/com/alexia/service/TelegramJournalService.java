@@ -0,0 +1,354 @@
+package com.alexia.service;
+
+import com.alexia.config.ExecutorProvider;
+import com.alexia.dto.JournalEntry;
+import com.alexia.dto.TelegramMessageDTO;
+import com.alexia.entity.BotCommand;
+import com.alexia.repository.JournalBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Journal de escritura diferida (write-behind) para mensajes y comandos de Telegram.
+ *
+ * El bot encola los registros y responde sin esperar a la base de datos. Un hilo de fondo
+ * los inserta en lotes JDBC cuando se alcanza el tamaño de lote o vence el intervalo.
+ * Si la base de datos no responde, los lotes se guardan en un archivo local de solo-append
+ * (una línea JSON por registro) que se reproduce en orden cuando la conexión se recupera.
+ */
+@Service
+@Slf4j
+public class TelegramJournalService {
+
+    private final JournalBatchRepository batchRepository;
+    private final ActivityCounterService activityCounterService;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<JournalEntry> queue;
+    private final ScheduledExecutorService flusher;
+    private final int batchSize;
+    private final long retryIntervalMillis;
+    private final Path spillFile;
+    private final Path replayFile;
+
+    /**
+     * Serializa flush, spill y replay para conservar el orden de los registros.
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private volatile boolean databaseAvailable = true;
+    private volatile long nextProbeAtMillis;
+
+    private final Counter flushedCounter;
+    private final Counter spilledCounter;
+    private final Counter replayedCounter;
+    private final Timer flushTimer;
+
+    public TelegramJournalService(JournalBatchRepository batchRepository,
+                                  ActivityCounterService activityCounterService,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${telegram.journal.batch-size:100}") int batchSize,
+                                  @Value("${telegram.journal.flush-interval-ms:500}") long flushIntervalMillis,
+                                  @Value("${telegram.journal.capacity:50000}") int capacity,
+                                  @Value("${telegram.journal.retry-interval-ms:10000}") long retryIntervalMillis,
+                                  @Value("${telegram.journal.spill-path:${java.io.tmpdir}/alexia/telegram-journal.log}") String spillPath) {
+        this.batchRepository = batchRepository;
+        this.activityCounterService = activityCounterService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.retryIntervalMillis = retryIntervalMillis;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.spillFile = Paths.get(spillPath);
+        this.replayFile = Paths.get(spillPath + ".replay");
+        this.flusher = Executors.newSingleThreadScheduledExecutor(ExecutorProvider.platformThreadFactory("telegram-journal-"));
+
+        Gauge.builder("alexia.journal.queue.depth", queue, BlockingQueue::size)
+                .description("Registros pendientes de escribir en la base de datos")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("alexia.journal.flushed")
+                .description("Registros escritos en la base de datos")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("alexia.journal.spilled")
+                .description("Registros guardados en el archivo de respaldo")
+                .register(meterRegistry);
+        this.replayedCounter = Counter.builder("alexia.journal.replayed")
+                .description("Registros recuperados del archivo de respaldo")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("alexia.journal.flush")
+                .description("Duración de la escritura de un lote")
+                .register(meterRegistry);
+
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("TelegramJournalService inicializado - batchSize={}, flushIntervalMs={}, capacity={}, spillFile={}",
+                batchSize, flushIntervalMillis, capacity, spillFile);
+    }
+
+    /**
+     * Encola un mensaje de Telegram para persistirlo en segundo plano.
+     *
+     * @param dto DTO con la información del mensaje
+     */
+    public void recordMessage(TelegramMessageDTO dto) {
+        enqueue(JournalEntry.builder()
+                .type(JournalEntry.Type.MESSAGE)
+                .chatId(dto.getChatId())
+                .userName(dto.getUserName())
+                .firstName(dto.getFirstName())
+                .lastName(dto.getLastName())
+                .messageText(dto.getMessageText())
+                .botResponse(dto.getBotResponse())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Encola un comando ejecutado para persistirlo en segundo plano.
+     *
+     * @param botCommand Comando a registrar
+     */
+    public void recordCommand(BotCommand botCommand) {
+        enqueue(JournalEntry.builder()
+                .type(JournalEntry.Type.COMMAND)
+                .chatId(botCommand.getChatId())
+                .command(botCommand.getCommand())
+                .userName(botCommand.getUserName())
+                .firstName(botCommand.getFirstName())
+                .createdAt(botCommand.getCreatedAt() != null ? botCommand.getCreatedAt() : LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Número de registros pendientes en memoria.
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Indica si el último intento de escritura en la base de datos fue exitoso.
+     */
+    public boolean isDatabaseAvailable() {
+        return databaseAvailable;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("🛑 Deteniendo journal de Telegram - pendientes={}", queue.size());
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Último vaciado: a la base de datos si responde, si no al archivo de respaldo
+        flushSafely();
+    }
+
+    private void enqueue(JournalEntry entry) {
+        if (!queue.offer(entry)) {
+            log.warn("Journal lleno, guardando registro en archivo de respaldo - chatId={}", entry.getChatId());
+            flushLock.lock();
+            try {
+                spill(List.of(entry));
+            } finally {
+                flushLock.unlock();
+            }
+            return;
+        }
+
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Error inesperado en el journal de Telegram - exception={}, message={}",
+                    e.getClass().getSimpleName(), e.getMessage(), e);
+        }
+    }
+
+    private void flush() {
+        flushLock.lock();
+        try {
+            if (!databaseAvailable && System.currentTimeMillis() >= nextProbeAtMillis) {
+                // El replay del respaldo hace de sonda: si funciona, la base de datos volvió
+                databaseAvailable = true;
+            }
+            if (databaseAvailable) {
+                replaySpill();
+            }
+
+            List<JournalEntry> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                if (!databaseAvailable || !writeBatch(batch)) {
+                    spill(batch);
+                }
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Escribe un lote en la base de datos.
+     *
+     * @return true si se escribió, false si la base de datos no está disponible
+     */
+    private boolean writeBatch(List<JournalEntry> batch) {
+        long start = System.nanoTime();
+        try {
+            batchRepository.insertBatch(batch);
+            flushedCounter.increment(batch.size());
+            countWritten(batch);
+            log.debug("Lote del journal escrito en BD - registros={}", batch.size());
+            return true;
+        } catch (Exception e) {
+            databaseAvailable = false;
+            nextProbeAtMillis = System.currentTimeMillis() + retryIntervalMillis;
+            log.error("Base de datos no disponible para el journal, usando archivo de respaldo - registros={}, exception={}, message={}",
+                    batch.size(), e.getClass().getSimpleName(), e.getMessage());
+            return false;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Actualiza los contadores de actividad con los registros ya escritos.
+     */
+    private void countWritten(List<JournalEntry> batch) {
+        long commands = batch.stream().filter(entry -> entry.getType() == JournalEntry.Type.COMMAND).count();
+        activityCounterService.addCommands(commands);
+        activityCounterService.addMessages(batch.size() - commands);
+    }
+
+    /**
+     * Agrega registros al archivo de respaldo (una línea JSON por registro).
+     */
+    private void spill(List<JournalEntry> entries) {
+        try {
+            Files.createDirectories(spillFile.toAbsolutePath().getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+                for (JournalEntry entry : entries) {
+                    writer.write(objectMapper.writeValueAsString(entry));
+                    writer.newLine();
+                }
+            }
+            spilledCounter.increment(entries.size());
+        } catch (IOException e) {
+            log.error("❌ No se pudo escribir el archivo de respaldo, se pierden {} registros - file={}, message={}",
+                    entries.size(), spillFile, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reproduce el archivo de respaldo en lotes. Si la base de datos vuelve a fallar,
+     * conserva solo las líneas no escritas para el siguiente intento.
+     */
+    private void replaySpill() {
+        try {
+            if (!Files.exists(replayFile)) {
+                if (!Files.exists(spillFile)) {
+                    return;
+                }
+                // Los nuevos spills irán a un archivo nuevo mientras se reproduce este
+                Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            log.info("🔄 Reproduciendo archivo de respaldo del journal - file={}", replayFile);
+            List<String> lines = new ArrayList<>(batchSize);
+            try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        lines.add(line);
+                    }
+                    if (lines.size() >= batchSize && !replayLines(lines)) {
+                        keepUnreplayed(lines, reader);
+                        return;
+                    }
+                }
+                if (!lines.isEmpty() && !replayLines(lines)) {
+                    keepUnreplayed(lines, reader);
+                    return;
+                }
+            }
+            Files.delete(replayFile);
+            log.info("✅ Archivo de respaldo del journal reproducido completamente");
+        } catch (IOException e) {
+            log.error("Error al reproducir el archivo de respaldo - file={}, message={}", replayFile, e.getMessage(), e);
+        }
+    }
+
+    private boolean replayLines(List<String> lines) {
+        List<JournalEntry> batch = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            try {
+                batch.add(objectMapper.readValue(line, JournalEntry.class));
+            } catch (IOException e) {
+                // Línea truncada (p. ej. caída durante la escritura): no se puede recuperar
+                log.warn("Descartando línea inválida del archivo de respaldo - message={}", e.getMessage());
+            }
+        }
+        if (!batch.isEmpty() && !writeBatch(batch)) {
+            return false;
+        }
+        replayedCounter.increment(batch.size());
+        lines.clear();
+        return true;
+    }
+
+    /**
+     * Reescribe el archivo de replay con el lote fallido y las líneas aún no leídas.
+     */
+    private void keepUnreplayed(List<String> failedLines, BufferedReader remaining) throws IOException {
+        Path tmp = Paths.get(replayFile + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (String line : failedLines) {
+                writer.write(line);
+                writer.newLine();
+            }
+            String line;
+            while ((line = remaining.readLine()) != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        remaining.close();
+        Files.move(tmp, replayFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -3,33 +3,44 @@ package com.alexia.telegram;
 import com.alexia.constants.BotCommands;
 import com.alexia.constants.Messages;
 import com.alexia.dto.GrokIntent;
+import com.alexia.dto.ResultPage;
+import com.alexia.dto.SearchResult;
 import com.alexia.dto.TelegramMessageDTO;
 import com.alexia.entity.BotCommand;
 import com.alexia.entity.Business;
 import com.alexia.entity.Lead;
 import com.alexia.entity.Product;
-import com.alexia.repository.BotCommandRepository;
-import com.alexia.repository.TelegramMessageRepository;
+import com.alexia.service.ActivityCounterService;
 import com.alexia.service.BusinessService;
 import com.alexia.service.GrokService;
+import com.alexia.service.IntentDetectionService;
 import com.alexia.service.LeadService;
 import com.alexia.service.ProductService;
 import com.alexia.entity.Supplier;
 import com.alexia.service.GeolocationService;
 import com.alexia.service.SupplierService;
-import com.alexia.service.TelegramService;
+import com.alexia.service.TelegramJournalService;
 import com.alexia.service.RagSearchService;
+import com.alexia.service.SpeculativeRetrievalService;
+import com.alexia.service.SpeculativeRetrievalService.Speculation;
+import com.alexia.telegram.SearchCursor.Kind;
+import com.alexia.telegram.StreamingReplyFactory.StreamingReply;
 
 import java.math.BigDecimal;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.methods.AnswerCallbackQuery;
 import org.telegram.telegrambots.meta.api.methods.updates.DeleteWebhook;
-import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.methods.updates.SetWebhook;
+import org.telegram.telegrambots.meta.api.objects.CallbackQuery;
 import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.api.objects.User;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.InlineKeyboardMarkup;
 import org.telegram.telegrambots.meta.api.objects.replykeyboard.ReplyKeyboardMarkup;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.InlineKeyboardButton;
 import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.KeyboardRow;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 
@@ -38,6 +49,11 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * Bot de Telegram para Alexia.
@@ -45,16 +61,21 @@ import java.util.Optional;
  */
 @Slf4j
 public class AlexiaTelegramBot extends TelegramLongPollingBot {
-    private final TelegramService telegramService;
-    private final BotCommandRepository botCommandRepository;
-    private final TelegramMessageRepository telegramMessageRepository;
+    private final TelegramJournalService telegramJournalService;
+    private final ActivityCounterService activityCounterService;
     private final GrokService grokService;
+    private final IntentDetectionService intentDetectionService;
     private final BusinessService businessService;
     private final ProductService productService;
     private final LeadService leadService;
     private final GeolocationService geolocationService; // Added for geolocation features
     private final SupplierService supplierService; // Added for supplier features
     private final RagSearchService ragSearchService; // Added for RAG search with source citation
+    private final ChatUpdateDispatcher updateDispatcher;
+    private final TelegramOutboundSender outboundSender;
+    private final UpdateDeduplicator updateDeduplicator;
+    private final SpeculativeRetrievalService speculativeRetrievalService;
+    private final StreamingReplyFactory streamingReplyFactory;
     private final String botUsername;
     
     /**
@@ -64,29 +85,39 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
     @Setter
     private volatile boolean active = false;
 
-    public AlexiaTelegramBot(String botToken, String botUsername, 
-                            TelegramService telegramService,
-                            BotCommandRepository botCommandRepository,
-                            TelegramMessageRepository telegramMessageRepository,
+    public AlexiaTelegramBot(DefaultBotOptions botOptions, String botToken, String botUsername, 
+                            TelegramJournalService telegramJournalService,
+                            ActivityCounterService activityCounterService,
                             GrokService grokService,
+                            IntentDetectionService intentDetectionService,
                             BusinessService businessService,
                             ProductService productService,
                             LeadService leadService,
                             GeolocationService geolocationService,
                             SupplierService supplierService,
-                            RagSearchService ragSearchService) {
-        super(botToken);
+                            RagSearchService ragSearchService,
+                            ChatUpdateDispatcher updateDispatcher,
+                            TelegramOutboundSender outboundSender,
+                            UpdateDeduplicator updateDeduplicator,
+                            SpeculativeRetrievalService speculativeRetrievalService,
+                            StreamingReplyFactory streamingReplyFactory) {
+        super(botOptions, botToken);
         this.botUsername = botUsername;
-        this.telegramService = telegramService;
-        this.botCommandRepository = botCommandRepository;
-        this.telegramMessageRepository = telegramMessageRepository;
+        this.telegramJournalService = telegramJournalService;
+        this.activityCounterService = activityCounterService;
         this.grokService = grokService;
+        this.intentDetectionService = intentDetectionService;
         this.businessService = businessService;
         this.productService = productService;
         this.leadService = leadService;
         this.geolocationService = geolocationService;
         this.supplierService = supplierService;
         this.ragSearchService = ragSearchService;
+        this.updateDispatcher = updateDispatcher;
+        this.outboundSender = outboundSender;
+        this.updateDeduplicator = updateDeduplicator;
+        this.speculativeRetrievalService = speculativeRetrievalService;
+        this.streamingReplyFactory = streamingReplyFactory;
         log.info("Bot de Telegram inicializado con Grok AI, búsqueda de negocios, productos, geolocalización y proveedores - username=@{}", botUsername);
     }
 
@@ -104,15 +135,62 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
             return;
         }
         
+        // Telegram puede reenviar actualizaciones tras un reinicio: procesar cada update_id una sola vez
+        int updateId = update.getUpdateId();
+        if (!updateDeduplicator.markIfNew(updateId)) {
+            log.debug("Actualización duplicada ignorada - updateId={}", updateId);
+            return;
+        }
+
         if (update.hasMessage() && update.getMessage().hasText()) {
-            processTextMessage(update);
+            // Un mensaje nuevo reemplaza a la respuesta de Grok que el chat tenga en curso
+            Long chatId = update.getMessage().getChatId();
+            grokService.cancelInFlight(chatId);
+            // Procesar fuera del hilo de la sesión: orden por chat, chats distintos en paralelo
+            dispatch(chatId, update, this::processTextMessage);
+        } else if (update.hasCallbackQuery() && update.getCallbackQuery().getMessage() != null) {
+            // Botón "Ver más": mismo orden por chat que los mensajes
+            Long chatId = update.getCallbackQuery().getMessage().getChatId();
+            dispatch(chatId, update, callback -> {
+                processCallbackQuery(callback.getCallbackQuery());
+                return CompletableFuture.completedFuture(null);
+            });
+        } else {
+            updateDeduplicator.markCompleted(updateId);
         }
     }
 
     /**
-     * Procesa un mensaje de texto recibido.
+     * Encola el procesamiento de una actualización en el carril de su chat. El procesamiento
+     * devuelve un future: el carril espera a que se complete sin ocupar un hilo. El update_id se da
+     * por completado al terminar, aunque falle, o en el acto si la cola está llena y se descarta:
+     * un id sin completar detendría la marca de agua de UpdateDeduplicator.
      */
-    private void processTextMessage(Update update) {
+    private void dispatch(Long chatId, Update update, Function<Update, CompletableFuture<?>> processing) {
+        int updateId = update.getUpdateId();
+        boolean accepted = updateDispatcher.dispatchAsync(chatId, () -> {
+            CompletableFuture<?> done;
+            try {
+                done = processing.apply(update);
+            } catch (Throwable t) {
+                updateDeduplicator.markCompleted(updateId);
+                throw t;
+            }
+            return done.whenComplete((result, error) -> updateDeduplicator.markCompleted(updateId));
+        });
+        if (!accepted) {
+            updateDeduplicator.markCompleted(updateId);
+        }
+    }
+
+    /**
+     * Procesa un mensaje de texto recibido. Las esperas a Grok no ocupan hilo: las búsquedas y el
+     * envío continúan en el pool del despachador cuando llega la respuesta. Si un mensaje nuevo del
+     * chat cancela la llamada a Grok, este mensaje queda sin respuesta.
+     *
+     * @return Future que se completa al encolar la respuesta
+     */
+    private CompletableFuture<Void> processTextMessage(Update update) {
         Long chatId = update.getMessage().getChatId();
         String messageText = update.getMessage().getText();
         User user = update.getMessage().getFrom();
@@ -121,47 +199,197 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
                 chatId, user.getUserName(), user.getFirstName(), messageText.length());
         log.debug("Contenido del mensaje - chatId={}, text={}", chatId, messageText);
 
-        String response;
-        
         // Handle commands first
         if (messageText.startsWith("/")) {
-            response = handleCommand(chatId, user, messageText);
+            String response = handleCommand(chatId, user, messageText);
+            deliver(chatId, user, messageText, BotReply.plain(response));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long startNanos = System.nanoTime();
+
+        // Clasificador local y caché primero; mientras Grok clasifica, búsquedas especulativas en paralelo
+        Optional<GrokIntent> quickIntent = intentDetectionService.detectWithoutGrok(messageText);
+        Speculation speculation = quickIntent.isPresent()
+                ? Speculation.NONE
+                : speculativeRetrievalService.start(messageText);
+        CompletableFuture<GrokIntent> intent = quickIntent
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> intentDetectionService.detectWithGrokAndReplyAsync(chatId, messageText));
+
+        // Las continuaciones hacen consultas a la BD: van al pool del despachador, no a los hilos de OkHttp
+        Executor executor = updateDispatcher.continuationExecutor();
+        return intent
+                .thenComposeAsync(detected -> {
+                    speculativeRetrievalService.recordStage("intent", startNanos);
+                    log.info("Detected Intent: {}", detected);
+                    return route(chatId, user, messageText, detected, speculation);
+                }, executor)
+                .thenAcceptAsync(reply -> {
+                    speculativeRetrievalService.recordStage("total", startNanos);
+                    deliver(chatId, user, messageText, reply);
+                }, executor)
+                .whenComplete((result, error) -> speculation.cancel())
+                .exceptionally(error -> {
+                    if (unwrap(error) instanceof CancellationException) {
+                        log.info("Mensaje reemplazado por otro del mismo chat, sin respuesta - chatId={}", chatId);
+                        return null;
+                    }
+                    throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                });
+    }
+
+    /**
+     * Genera la respuesta según la intención detectada (con un umbral de confianza).
+     */
+    private CompletableFuture<BotReply> route(Long chatId, User user, String messageText, GrokIntent intent,
+                                              Speculation speculation) {
+        long retrievalStartNanos = System.nanoTime();
+        CompletableFuture<BotReply> reply;
+        if (intent != null && intent.getConfidence() > 0.75) {
+            switch (intent.getIntent()) {
+                case PRODUCT_SEARCH:
+                    reply = completed(BotReply.of(handleProductSearch(intent.getSearchTerm(), speculation)));
+                    break;
+                case BUSINESS_SEARCH:
+                    reply = completed(BotReply.of(handleRagBusinessSearch(intent.getSearchTerm(), speculation)));
+                    break;
+                case COMPARE_PRICES:
+                    reply = completed(BotReply.plain(handlePriceComparison(intent.getSearchTerm())));
+                    break;
+                case LEAD_CAPTURE:
+                    reply = completed(BotReply.plain(handleLeadCapture(chatId, user, intent)));
+                    break;
+                case GENERAL_QUERY:
+                default:
+                    // Modo de una sola pasada: la respuesta puede haber venido con la intención
+                    reply = intent.getReply() != null
+                            ? completed(BotReply.plain(intent.getReply()))
+                            : generateGrokResponse(chatId, messageText);
+                    break;
+            }
+        } else if (intent != null && intent.getReply() != null) {
+            reply = completed(BotReply.plain(intent.getReply()));
         } else {
-            // Use Grok AI to understand natural language intent
-            GrokIntent intent = grokService.detectIntent(messageText);
-            log.info("Detected Grok Intent: {}", intent);
-
-            // Route based on detected intent with a confidence threshold
-            if (intent != null && intent.getConfidence() > 0.75) {
-                switch (intent.getIntent()) {
-                    case PRODUCT_SEARCH:
-                        response = handleProductSearch(intent.getSearchTerm());
-                        break;
-                    case BUSINESS_SEARCH:
-                        response = handleRagBusinessSearch(intent.getSearchTerm());
-                        break;
-                    case COMPARE_PRICES:
-                        response = handlePriceComparison(intent.getSearchTerm());
-                        break;
-                    case LEAD_CAPTURE:
-                        response = handleLeadCapture(chatId, user, intent);
-                        break;
-                    case GENERAL_QUERY:
-                    default:
-                        response = generateGrokResponse(chatId, messageText);
-                        break;
-                }
+            // If intent is not clear, default to a general conversational response
+            reply = generateGrokResponse(chatId, messageText);
+        }
+        return reply.whenComplete((result, error) ->
+                speculativeRetrievalService.recordStage("retrieval", retrievalStartNanos));
+    }
+
+    /**
+     * Guarda el mensaje y envía la respuesta (si se entregó en streaming, solo queda la edición final).
+     */
+    private void deliver(Long chatId, User user, String messageText, BotReply reply) {
+        saveMessageToDatabase(chatId, user, messageText, reply.text());
+        if (reply.streamingReply() == null || !reply.streamingReply().finish(reply.text())) {
+            sendTextMessage(chatId, reply.text(), reply.keyboard());
+        }
+    }
+
+    private static CompletableFuture<BotReply> completed(BotReply reply) {
+        return CompletableFuture.completedFuture(reply);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Procesa el botón "Ver más" de una búsqueda: lee la página siguiente por cursor de ID
+     * (keyset) y la envía como un mensaje nuevo, con su propio botón si quedan resultados.
+     */
+    private void processCallbackQuery(CallbackQuery callbackQuery) {
+        Long chatId = callbackQuery.getMessage().getChatId();
+        answerCallbackQuery(callbackQuery.getId());
+
+        Optional<SearchCursor> parsed = SearchCursor.parse(callbackQuery.getData());
+        if (parsed.isEmpty()) {
+            log.debug("Callback ignorado - chatId={}, data={}", chatId, callbackQuery.getData());
+            return;
+        }
+        SearchCursor cursor = parsed.get();
+        log.info("Ver más - chatId={}, kind={}, afterId={}, searchTerm={}",
+                chatId, cursor.kind(), cursor.afterId(), cursor.query());
+
+        String response;
+        InlineKeyboardMarkup keyboard;
+        try {
+            if (cursor.kind() == Kind.PRODUCTS) {
+                ResultPage<Product> page = productService.searchProductsPage(cursor.query(), cursor.afterId());
+                keyboard = moreButton(Kind.PRODUCTS, cursor.query(), page, cursor.nextNumber());
+                response = formatProductListForTelegram(page, cursor.query(), cursor.nextNumber(), keyboard != null);
             } else {
-                // If intent is not clear, default to a general conversational response
-                response = generateGrokResponse(chatId, messageText);
+                ResultPage<Business> page = ragSearchService.searchMoreInternal(cursor.query(), cursor.afterId());
+                keyboard = moreButton(Kind.BUSINESSES, cursor.query(), page, cursor.nextNumber());
+                response = ragSearchService.formatMoreInternalForTelegram(cursor.query(), page, cursor.nextNumber());
             }
+        } catch (Exception e) {
+            log.error("Error al buscar más resultados - chatId={}, searchTerm={}, error={}",
+                    chatId, cursor.query(), e.getMessage());
+            response = "❌ Error al buscar más resultados. Por favor intenta nuevamente.";
+            keyboard = null;
+        }
+        sendTextMessage(chatId, response, keyboard);
+    }
+
+    /**
+     * Quita el indicador de carga del botón pulsado en el cliente de Telegram.
+     */
+    private void answerCallbackQuery(String callbackQueryId) {
+        try {
+            execute(AnswerCallbackQuery.builder().callbackQueryId(callbackQueryId).build());
+        } catch (TelegramApiException e) {
+            log.debug("No se pudo responder el callback - error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * Botón "Ver más" con el cursor de la página siguiente, o null si no hay más resultados
+     * o el término no entra en callback_data.
+     */
+    private static InlineKeyboardMarkup moreButton(Kind kind, String searchTerm, ResultPage<?> page, int firstNumber) {
+        if (!page.hasMore()) {
+            return null;
+        }
+        SearchCursor cursor = new SearchCursor(kind, page.nextAfterId(), firstNumber + page.items().size(), searchTerm);
+        return cursor.toCallbackData()
+                .map(data -> InlineKeyboardMarkup.builder()
+                        .keyboardRow(List.of(InlineKeyboardButton.builder()
+                                .text("Ver más ▶️")
+                                .callbackData(data)
+                                .build()))
+                        .build())
+                .orElse(null);
+    }
+
+    /**
+     * Respuesta de una búsqueda con el botón "Ver más" opcional.
+     */
+    private record SearchReply(String text, InlineKeyboardMarkup keyboard) {
+
+        static SearchReply plain(String text) {
+            return new SearchReply(text, null);
+        }
+    }
+
+    /**
+     * Respuesta lista para enviar: texto, botón opcional y, si se mostró en streaming, el mensaje a editar.
+     */
+    private record BotReply(String text, InlineKeyboardMarkup keyboard, StreamingReply streamingReply) {
+
+        static BotReply plain(String text) {
+            return new BotReply(text, null, null);
         }
 
-        // Guardar mensaje en base de datos
-        saveMessageToDatabase(chatId, user, messageText, response);
+        static BotReply of(SearchReply reply) {
+            return new BotReply(reply.text(), reply.keyboard(), null);
+        }
+    }
 
-        // Enviar respuesta al usuario
-        sendTextMessage(chatId, response);
+    private StreamingReply openStreamingReply(Long chatId) {
+        return streamingReplyFactory.isEnabled() ? streamingReplyFactory.open(chatId) : null;
     }
 
     /**
@@ -191,8 +419,8 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
      * Genera el mensaje de estado del bot.
      */
     private String generateStatusMessage() {
-        long totalMessages = telegramMessageRepository.count();
-        long totalCommands = botCommandRepository.count();
+        long totalMessages = activityCounterService.getTotalMessages();
+        long totalCommands = activityCounterService.getTotalCommands();
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"));
         
         return String.format(BotCommands.STATUS_MESSAGE_TEMPLATE, 
@@ -289,7 +517,7 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
     }
 
     /**
-     * Guarda el comando ejecutado en la base de datos.
+     * Registra el comando ejecutado; se persiste en segundo plano por el journal.
      */
     private void saveCommandToDatabase(Long chatId, User user, String command) {
         try {
@@ -301,8 +529,8 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            botCommandRepository.save(botCommand);
-            log.debug("Comando guardado en BD - chatId={}, command={}", chatId, command);
+            telegramJournalService.recordCommand(botCommand);
+            log.debug("Comando encolado para BD - chatId={}, command={}", chatId, command);
         } catch (Exception e) {
             log.error("Error al guardar comando en BD - chatId={}, command={}, exception={}, message={}", 
                     chatId, command, e.getClass().getSimpleName(), e.getMessage(), e);
@@ -310,31 +538,55 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
     }
 
     /**
-     * Genera una respuesta usando Grok AI o eco como fallback.
+     * Genera una respuesta usando Grok AI o eco como fallback, sin bloquear.
+     * Con streaming activado, los fragmentos se van mostrando al usuario mientras llegan.
+     * Si la llamada se cancela (mensaje nuevo del chat), el future falla con CancellationException.
      */
-    private String generateGrokResponse(Long chatId, String messageText) {
+    private CompletableFuture<BotReply> generateGrokResponse(Long chatId, String messageText) {
+        // Circuito de Groq abierto: responder al instante con la respuesta local
+        if (!grokService.isAvailable()) {
+            log.warn("Grok AI en modo degradado (circuito {}), respuesta local - chatId={}",
+                    grokService.getCircuitState(), chatId);
+            return completed(BotReply.plain(Messages.TELEGRAM_AI_DEGRADED));
+        }
+
+        StreamingReply streamingReply = openStreamingReply(chatId);
+        CompletableFuture<String> call;
         try {
-            // Intentar obtener respuesta de Grok AI
-            String grokResponse = grokService.getResponse(chatId, messageText);
-            
-            // Si Grok AI responde correctamente, retornar
-            if (grokResponse != null && !grokResponse.isEmpty()) {
-                log.info("Respuesta de Grok AI generada - chatId={}, responseLength={}", 
-                        chatId, grokResponse.length());
-                return grokResponse;
-            }
+            call = streamingReply != null
+                    ? grokService.streamResponseAsync(chatId, messageText, streamingReply::append)
+                    : grokService.getResponseAsync(chatId, messageText);
         } catch (Exception e) {
-            log.error("Error al obtener respuesta de Grok AI - chatId={}, error={}", 
-                    chatId, e.getMessage());
+            call = CompletableFuture.failedFuture(e);
         }
-        
-        // Fallback: usar respuesta eco
-        log.warn("Grok AI no disponible, usando respuesta eco - chatId={}", chatId);
-        return Messages.TELEGRAM_ECHO_PREFIX + messageText;
+
+        return call.handle((grokResponse, error) -> {
+            Throwable cause = unwrap(error);
+            if (cause instanceof CancellationException cancelled) {
+                throw cancelled;
+            }
+            if (cause != null) {
+                log.error("Error al obtener respuesta de Grok AI - chatId={}, error={}",
+                        chatId, cause.getMessage());
+            } else if (grokResponse != null && !grokResponse.isEmpty()) {
+                // Si Grok AI responde correctamente, retornar
+                log.info("Respuesta de Grok AI generada - chatId={}, responseLength={}",
+                        chatId, grokResponse.length());
+                return new BotReply(grokResponse, null, streamingReply);
+            }
+
+            // Fallback: respuesta local si el circuito se abrió durante la llamada, si no eco
+            if (!grokService.isAvailable()) {
+                return new BotReply(Messages.TELEGRAM_AI_DEGRADED, null, streamingReply);
+            }
+            log.warn("Grok AI no disponible, usando respuesta eco - chatId={}", chatId);
+            return new BotReply(Messages.TELEGRAM_ECHO_PREFIX + messageText, null, streamingReply);
+        });
     }
 
     /**
-     * Guarda el mensaje en la base de datos.
+     * Registra el mensaje; se persiste en segundo plano por el journal
+     * para que la respuesta no espere a la base de datos.
      */
     private void saveMessageToDatabase(Long chatId, User user, String messageText, String response) {
         try {
@@ -347,8 +599,8 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
                     .botResponse(response)
                     .build();
 
-            telegramService.saveMessage(dto);
-            log.debug("Mensaje guardado en BD - chatId={}, userName={}", chatId, user.getUserName());
+            telegramJournalService.recordMessage(dto);
+            log.debug("Mensaje encolado para BD - chatId={}, userName={}", chatId, user.getUserName());
         } catch (Exception e) {
             log.error("Error al guardar mensaje en BD - chatId={}, exception={}, message={}", 
                     chatId, e.getClass().getSimpleName(), e.getMessage(), e);
@@ -358,9 +610,9 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
     /**
      * Maneja la búsqueda de negocios usando RAG (Retrieval Augmented Generation) con citación de fuentes.
      */
-    private String handleRagBusinessSearch(String searchTerm) {
+    private SearchReply handleRagBusinessSearch(String searchTerm, Speculation speculation) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return "❌ Por favor especifica qué negocio o categoría buscas.\n\nEjemplo: panadería o Ferretería La Unión";
+            return SearchReply.plain("❌ Por favor especifica qué negocio o categoría buscas.\n\nEjemplo: panadería o Ferretería La Unión");
         }
         
         log.info("Búsqueda RAG de negocios - searchTerm={}", searchTerm);
@@ -372,10 +624,16 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
         Integer defaultRadiusMeters = 3000;
         
         try {
-            return ragSearchService.searchAndFormatForTelegram(searchTerm, defaultLatitude, defaultLongitude, defaultRadiusMeters);
+            ResultPage<Business> prefetched = speculation.businesses(searchTerm).orElse(null);
+            SearchResult result = ragSearchService.search(searchTerm, defaultLatitude, defaultLongitude,
+                    defaultRadiusMeters, prefetched);
+            // Solo los resultados internos se paginan: los externos ya vienen acotados por Google Places
+            InlineKeyboardMarkup keyboard = moreButton(Kind.BUSINESSES, searchTerm,
+                    new ResultPage<>(result.getInternalResults(), result.getInternalNextAfterId()), 1);
+            return new SearchReply(ragSearchService.formatForTelegram(result), keyboard);
         } catch (Exception e) {
             log.error("Error al buscar negocios con RAG - searchTerm={}, error={}", searchTerm, e.getMessage());
-            return "❌ Error al buscar negocios. Por favor intenta nuevamente.";
+            return SearchReply.plain("❌ Error al buscar negocios. Por favor intenta nuevamente.");
         }
     }
 
@@ -470,27 +728,37 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
     /**
      * Maneja la búsqueda de productos.
      */
-    private String handleProductSearch(String searchTerm) {
+    private SearchReply handleProductSearch(String searchTerm, Speculation speculation) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return "❌ Por favor especifica qué producto buscas.\n\nEjemplo: vasos de plástico o café";
+            return SearchReply.plain("❌ Por favor especifica qué producto buscas.\n\nEjemplo: vasos de plástico o café");
         }
         
         log.info("Búsqueda de productos - searchTerm={}", searchTerm);
         
         try {
-            List<Product> products = productService.searchProducts(searchTerm);
-            return formatProductListForTelegram(products, searchTerm);
+            ResultPage<Product> page = speculation.products(searchTerm)
+                    .orElseGet(() -> productService.searchProductsPage(searchTerm, 0));
+            InlineKeyboardMarkup keyboard = moreButton(Kind.PRODUCTS, searchTerm, page, 1);
+            return new SearchReply(formatProductListForTelegram(page, searchTerm, 1, keyboard != null), keyboard);
         } catch (Exception e) {
             log.error("Error al buscar productos - searchTerm={}, error={}", searchTerm, e.getMessage());
-            return "❌ Error al buscar productos. Por favor intenta nuevamente.";
+            return SearchReply.plain("❌ Error al buscar productos. Por favor intenta nuevamente.");
         }
     }
 
     /**
-     * Formatea una lista de productos para mostrar en Telegram.
+     * Formatea una página de productos para mostrar en Telegram.
+     *
+     * @param firstNumber Número del primer producto de la página (1 en la primera)
+     * @param hasMoreButton true si el mensaje lleva el botón "Ver más"
      */
-    private String formatProductListForTelegram(List<Product> products, String searchTerm) {
+    private String formatProductListForTelegram(ResultPage<Product> page, String searchTerm, int firstNumber,
+                                                boolean hasMoreButton) {
+        List<Product> products = page.items();
         if (products.isEmpty()) {
+            if (firstNumber > 1) {
+                return String.format("ℹ️ No hay más productos con \"%s\".", searchTerm);
+            }
             return String.format("❌ No encontré productos con \"%s\".\n\n" +
                     "💡 Intenta con:\n" +
                     "• Otro término de búsqueda\n" +
@@ -498,19 +766,18 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
         }
 
         StringBuilder response = new StringBuilder();
-        response.append(String.format("🔍 Encontré %d producto%s con \"%s\":\n\n",
-                products.size(),
-                products.size() == 1 ? "" : "s",
-                searchTerm));
+        if (firstNumber == 1 && !page.hasMore()) {
+            response.append(String.format("🔍 Encontré %d producto%s con \"%s\":\n\n",
+                    products.size(),
+                    products.size() == 1 ? "" : "s",
+                    searchTerm));
+        } else {
+            response.append(String.format("🔍 Productos con \"%s\" (%d-%d):\n\n",
+                    searchTerm, firstNumber, firstNumber + products.size() - 1));
+        }
 
-        int count = 0;
+        int count = firstNumber - 1;
         for (Product product : products) {
-            if (count >= 10) { // Limitar a 10 resultados
-                response.append(String.format("\n... y %d más. Refina tu búsqueda para ver otros resultados.",
-                        products.size() - 10));
-                break;
-            }
-
             count++;
             response.append(String.format("%d. %s %s\n", count, getProductEmoji(product.getCategory()), product.getName()));
             
@@ -547,6 +814,9 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
             response.append("\n");
         }
 
+        if (page.hasMore() && !hasMoreButton) {
+            response.append("... y más. Refina tu búsqueda para ver otros resultados.\n\n");
+        }
         response.append("💡 Tip: Contacta directamente al negocio para más información.");
 
         return response.toString();
@@ -574,18 +844,13 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
 
     /**
      * Envía un mensaje de texto al usuario.
+     * El envío es asíncrono y respeta los límites de Telegram (ver TelegramOutboundSender).
+     *
+     * @param keyboard Teclado inline ("Ver más"), o null
      */
-    private void sendTextMessage(Long chatId, String text) {
-        SendMessage message = new SendMessage();
-        message.setChatId(chatId.toString());
-        message.setText(text);
-
-        try {
-            execute(message);
-            log.info("Respuesta enviada - chatId={}, responseLength={}", chatId, text.length());
-        } catch (TelegramApiException e) {
-            log.error("Error al enviar mensaje - chatId={}, exception={}, message={}", 
-                    chatId, e.getClass().getSimpleName(), e.getMessage(), e);
+    private void sendTextMessage(Long chatId, String text, InlineKeyboardMarkup keyboard) {
+        if (!outboundSender.enqueue(chatId, text, keyboard)) {
+            log.error("No se pudo encolar la respuesta - chatId={}, responseLength={}", chatId, text.length());
         }
     }
 
@@ -629,4 +894,33 @@ public class AlexiaTelegramBot extends TelegramLongPollingBot {
             return false;
         }
     }
+
+    /**
+     * Registra el webhook de Telegram para recibir actualizaciones por HTTP en lugar de long polling.
+     *
+     * @param webhookUrl URL pública del endpoint de webhook
+     * @param secretToken Token que Telegram enviará en el header X-Telegram-Bot-Api-Secret-Token
+     * @return true si se registró correctamente, false si hubo error
+     */
+    public boolean registerWebhook(String webhookUrl, String secretToken) {
+        try {
+            log.info("Registrando webhook de Telegram - url={}", webhookUrl);
+            SetWebhook setWebhook = SetWebhook.builder()
+                    .url(webhookUrl)
+                    .secretToken(secretToken)
+                    .build();
+            Boolean result = execute(setWebhook);
+
+            if (Boolean.TRUE.equals(result)) {
+                log.info("✓ Webhook registrado correctamente");
+                return true;
+            }
+            log.warn("⚠ Telegram no confirmó el registro del webhook");
+            return false;
+        } catch (TelegramApiException e) {
+            log.error("Error al registrar webhook - exception={}, message={}",
+                    e.getClass().getSimpleName(), e.getMessage());
+            return false;
+        }
+    }
 }
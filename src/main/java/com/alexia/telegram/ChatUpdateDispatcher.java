@@ -0,0 +1,298 @@
+package com.alexia.telegram;
+
+import com.alexia.config.ExecutorProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Despachador de actualizaciones de Telegram.
+ * Mantiene el orden de los mensajes dentro de cada chat y procesa chats distintos
+ * en paralelo sobre un pool acotado, para que un chat lento no bloquee al resto.
+ * Con alexia.execution.mode=virtual cada chat se procesa en un hilo virtual y el
+ * tamaño del pool deja de ser un límite.
+ *
+ * Una tarea puede ser asíncrona (dispatchAsync): mientras espera, p. ej. a Grok, el chat no pasa a
+ * su siguiente tarea pero el hilo queda libre para otros chats.
+ */
+@Component
+@Slf4j
+public class ChatUpdateDispatcher {
+
+    /**
+     * Máximo de tareas que un chat procesa seguidas antes de ceder el hilo a otros chats.
+     */
+    private static final int MAX_TASKS_PER_TURN = 8;
+
+    private final Map<Long, ChatLane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final ExecutorService executor;
+    private final int maxPendingTasks;
+
+    private final Timer waitTimer;
+    private final Timer processingTimer;
+    private final Counter rejectedCounter;
+
+    public ChatUpdateDispatcher(@Value("${telegram.dispatcher.threads:8}") int threads,
+                                @Value("${telegram.dispatcher.max-pending:10000}") int maxPendingTasks,
+                                ExecutorProvider executorProvider,
+                                MeterRegistry meterRegistry) {
+        this.maxPendingTasks = maxPendingTasks;
+        this.executor = executorProvider.newBlockingExecutor("telegram-chat-", threads);
+
+        Gauge.builder("alexia.dispatcher.queue.depth", pendingTasks, AtomicInteger::get)
+                .description("Actualizaciones en cola pendientes de procesar")
+                .register(meterRegistry);
+        Gauge.builder("alexia.dispatcher.active.chats", lanes, Map::size)
+                .description("Chats con actualizaciones en cola o en proceso")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("alexia.dispatcher.wait")
+                .description("Tiempo de espera en cola antes de procesar una actualización")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.processingTimer = Timer.builder("alexia.dispatcher.processing")
+                .description("Tiempo de procesamiento de una actualización")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("alexia.dispatcher.rejected")
+                .description("Actualizaciones descartadas por cola llena")
+                .register(meterRegistry);
+
+        log.info("ChatUpdateDispatcher inicializado - threads={}, virtualThreads={}, maxPending={}",
+                threads, executorProvider.isVirtualThreads(), maxPendingTasks);
+    }
+
+    /**
+     * Encola una tarea para un chat. Las tareas del mismo chat se ejecutan en orden
+     * de llegada; las de chats distintos pueden ejecutarse en paralelo.
+     *
+     * @param chatId ID del chat (clave de ordenamiento)
+     * @param task Tarea a ejecutar
+     * @return true si la tarea fue aceptada, false si se descartó por saturación
+     */
+    public boolean dispatch(Long chatId, Runnable task) {
+        return dispatchAsync(chatId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Encola una tarea asíncrona para un chat. La siguiente tarea del chat empieza cuando se
+     * completa el future que devuelve (o null si terminó en el acto), sin ocupar un hilo mientras tanto.
+     *
+     * @param chatId ID del chat (clave de ordenamiento)
+     * @param task Tarea a ejecutar
+     * @return true si la tarea fue aceptada, false si se descartó por saturación
+     */
+    public boolean dispatchAsync(Long chatId, Supplier<? extends CompletableFuture<?>> task) {
+        if (pendingTasks.incrementAndGet() > maxPendingTasks) {
+            pendingTasks.decrementAndGet();
+            rejectedCounter.increment();
+            log.warn("Cola del despachador llena, descartando actualización - chatId={}, maxPending={}",
+                    chatId, maxPendingTasks);
+            return false;
+        }
+
+        QueuedTask queued = new QueuedTask(task, System.nanoTime());
+        ChatLane[] toSchedule = new ChatLane[1];
+
+        lanes.compute(chatId, (id, lane) -> {
+            if (lane == null) {
+                lane = new ChatLane(id);
+            }
+            lane.tasks.add(queued);
+            if (!lane.scheduled) {
+                lane.scheduled = true;
+                toSchedule[0] = lane;
+            }
+            return lane;
+        });
+
+        if (toSchedule[0] != null) {
+            schedule(toSchedule[0]);
+        }
+        return true;
+    }
+
+    /**
+     * Executor para continuar una tarea asíncrona (p. ej. tras la respuesta de Grok) fuera de los
+     * hilos de OkHttp, en el mismo pool que las tareas.
+     */
+    public Executor continuationExecutor() {
+        return executor;
+    }
+
+    /**
+     * Número de actualizaciones en cola o en proceso.
+     */
+    public int getQueueDepth() {
+        return pendingTasks.get();
+    }
+
+    /**
+     * Número de chats con trabajo pendiente.
+     */
+    public int getActiveChats() {
+        return lanes.size();
+    }
+
+    /**
+     * Tiempo medio de espera en cola, en milisegundos.
+     */
+    public double getMeanWaitMillis() {
+        return waitTimer.mean(TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("🛑 Deteniendo ChatUpdateDispatcher - pendientes={}", pendingTasks.get());
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void schedule(ChatLane lane) {
+        try {
+            executor.execute(lane);
+        } catch (RejectedExecutionException e) {
+            log.error("El executor rechazó el chat - chatId={}, error={}", lane.chatId, e.getMessage());
+            discard(lane);
+        }
+    }
+
+    /**
+     * Descarta las tareas de un chat cuyo executor ya no acepta trabajo (apagado).
+     */
+    private void discard(ChatLane lane) {
+        lanes.compute(lane.chatId, (id, current) -> {
+            pendingTasks.addAndGet(-lane.tasks.size());
+            lane.tasks.clear();
+            lane.scheduled = false;
+            return null;
+        });
+    }
+
+    /**
+     * Toma la siguiente tarea del chat o lo libera si no queda trabajo.
+     * Se ejecuta dentro de compute para que un dispatch concurrente no quede huérfano.
+     */
+    private QueuedTask pollOrRelease(ChatLane lane) {
+        QueuedTask[] next = new QueuedTask[1];
+        lanes.compute(lane.chatId, (id, current) -> {
+            next[0] = lane.tasks.poll();
+            if (next[0] == null) {
+                lane.scheduled = false;
+                return null;
+            }
+            return current;
+        });
+        return next[0];
+    }
+
+    /**
+     * @return Future de la tarea si sigue en curso, o null si ya terminó
+     */
+    private CompletableFuture<?> runTask(Long chatId, QueuedTask queued) {
+        long startNanos = System.nanoTime();
+        waitTimer.record(startNanos - queued.enqueuedAtNanos, TimeUnit.NANOSECONDS);
+        CompletableFuture<?> pending = null;
+        try {
+            CompletableFuture<?> result = queued.task.get();
+            if (result != null && !result.isDone()) {
+                pending = result.whenComplete((value, error) -> finishTask(chatId, startNanos, error));
+                return pending;
+            }
+            if (result != null && result.isCompletedExceptionally()) {
+                result.whenComplete((value, error) -> logFailure(chatId, error));
+            }
+        } catch (Exception e) {
+            logFailure(chatId, e);
+        } finally {
+            if (pending == null) {
+                processingTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                pendingTasks.decrementAndGet();
+            }
+        }
+        return null;
+    }
+
+    private void finishTask(Long chatId, long startNanos, Throwable error) {
+        processingTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        pendingTasks.decrementAndGet();
+        if (error != null) {
+            logFailure(chatId, error);
+        }
+    }
+
+    private static void logFailure(Long chatId, Throwable error) {
+        log.error("Error procesando actualización - chatId={}, exception={}, message={}",
+                chatId, error.getClass().getSimpleName(), error.getMessage(), error);
+    }
+
+    private record QueuedTask(Supplier<? extends CompletableFuture<?>> task, long enqueuedAtNanos) {
+    }
+
+    /**
+     * Cola serial de un chat. Los campos se modifican solo dentro de lanes.compute.
+     */
+    private final class ChatLane implements Runnable {
+
+        private final Long chatId;
+        private final ArrayDeque<QueuedTask> tasks = new ArrayDeque<>();
+        private boolean scheduled;
+
+        private ChatLane(Long chatId) {
+            this.chatId = chatId;
+        }
+
+        @Override
+        public void run() {
+            boolean released = false;
+            try {
+                for (int processed = 0; processed < MAX_TASKS_PER_TURN; processed++) {
+                    QueuedTask next = pollOrRelease(this);
+                    if (next == null) {
+                        released = true;
+                        return;
+                    }
+                    CompletableFuture<?> pending = runTask(chatId, next);
+                    if (pending != null) {
+                        // El chat sigue programado pero suelta el hilo hasta que termine la tarea
+                        released = true;
+                        pending.whenComplete((value, error) -> schedule(this));
+                        return;
+                    }
+                }
+            } finally {
+                // Quedan tareas (o una tarea lanzó un Error): volver a la cola del executor para
+                // repartir el pool entre chats sin dejar el chat marcado como programado
+                if (!released) {
+                    schedule(this);
+                }
+            }
+        }
+    }
+}
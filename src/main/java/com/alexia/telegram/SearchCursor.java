@@ -0,0 +1,81 @@
+package com.alexia.telegram;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Cursor de la página siguiente de una búsqueda, guardado en el callback_data del botón "Ver más".
+ *
+ * Formato compacto: {@code m|<tipo>|<afterId>|<número siguiente>|<término>}, con los números en
+ * base 36. La Bot API limita callback_data a 64 bytes; si el término no entra, no hay botón
+ * (truncarlo cambiaría los resultados de la página siguiente).
+ *
+ * @param kind Qué se buscó
+ * @param afterId Último ID mostrado: la página siguiente empieza después de él
+ * @param nextNumber Número con el que se lista el primer resultado de la página siguiente
+ * @param query Término buscado
+ */
+record SearchCursor(Kind kind, long afterId, int nextNumber, String query) {
+
+    static final int MAX_CALLBACK_DATA_BYTES = 64;
+    private static final String PREFIX = "m";
+    private static final char SEPARATOR = '|';
+
+    enum Kind {
+        PRODUCTS('p'),
+        BUSINESSES('b');
+
+        private final char code;
+
+        Kind(char code) {
+            this.code = code;
+        }
+
+        static Optional<Kind> of(String code) {
+            for (Kind kind : values()) {
+                if (code.length() == 1 && code.charAt(0) == kind.code) {
+                    return Optional.of(kind);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return callback_data del botón, o vacío si no entra en 64 bytes
+     */
+    Optional<String> toCallbackData() {
+        String data = PREFIX + SEPARATOR + kind.code
+                + SEPARATOR + Long.toString(afterId, Character.MAX_RADIX)
+                + SEPARATOR + Integer.toString(nextNumber, Character.MAX_RADIX)
+                + SEPARATOR + query;
+        return data.getBytes(StandardCharsets.UTF_8).length <= MAX_CALLBACK_DATA_BYTES
+                ? Optional.of(data)
+                : Optional.empty();
+    }
+
+    /**
+     * @param data callback_data recibido
+     * @return Cursor, o vacío si el callback no es un "Ver más" válido
+     */
+    static Optional<SearchCursor> parse(String data) {
+        if (data == null) {
+            return Optional.empty();
+        }
+        // El término va al final y puede contener el separador
+        String[] parts = data.split("\\|", 5);
+        if (parts.length != 5 || !PREFIX.equals(parts[0]) || parts[4].isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            long afterId = Long.parseLong(parts[2], Character.MAX_RADIX);
+            int nextNumber = Integer.parseInt(parts[3], Character.MAX_RADIX);
+            if (afterId < 0 || nextNumber < 1) {
+                return Optional.empty();
+            }
+            return Kind.of(parts[1]).map(kind -> new SearchCursor(kind, afterId, nextNumber, parts[4]));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.alexia.telegram;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Respuestas de Grok entregadas progresivamente en Telegram.
+ *
+ * Con los primeros caracteres se envía un mensaje inicial; después, a medida que llegan
+ * fragmentos, se edita ese mensaje (editMessageText) como mucho una vez por intervalo.
+ * Las ediciones pasan por TelegramOutboundSender, que las fusiona si el chat va atrasado.
+ * La edición final reserva su lugar en la cola del chat al terminar, detrás del mensaje inicial,
+ * y toma su message_id cuando Telegram lo confirma, sin bloquear al hilo que procesa la actualización.
+ * Publica el tiempo hasta el primer mensaje visible (alexia.reply.streaming.first.chunk).
+ */
+@Component
+@Slf4j
+public class StreamingReplyFactory {
+
+    private final TelegramOutboundSender outboundSender;
+    private final boolean enabled;
+    private final int minInitialChars;
+    private final long editIntervalNanos;
+    private final Timer firstChunkTimer;
+
+    public StreamingReplyFactory(TelegramOutboundSender outboundSender,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${telegram.streaming.enabled:true}") boolean enabled,
+                                 @Value("${telegram.streaming.min-initial-chars:12}") int minInitialChars,
+                                 @Value("${telegram.streaming.edit-interval-ms:1000}") long editIntervalMillis) {
+        this.outboundSender = outboundSender;
+        this.enabled = enabled;
+        this.minInitialChars = minInitialChars;
+        this.editIntervalNanos = TimeUnit.MILLISECONDS.toNanos(editIntervalMillis);
+        this.firstChunkTimer = Timer.builder("alexia.reply.streaming.first.chunk")
+                .description("Tiempo hasta encolar el primer fragmento visible de la respuesta")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        log.info("StreamingReplyFactory inicializado - enabled={}, editIntervalMs={}", enabled, editIntervalMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Abre una respuesta en streaming para un chat.
+     *
+     * @param chatId ID del chat destino
+     * @return Respuesta vacía a la que se van agregando fragmentos
+     */
+    public StreamingReply open(Long chatId) {
+        return new StreamingReply(chatId);
+    }
+
+    /**
+     * Una respuesta en curso. No es thread-safe: los fragmentos llegan en orden desde el hilo
+     * que lee el stream, y finish() se llama cuando el stream ya terminó.
+     */
+    public final class StreamingReply {
+
+        private final Long chatId;
+        private final long openedAtNanos = System.nanoTime();
+        private final StringBuilder text = new StringBuilder();
+        private CompletableFuture<Integer> messageId;
+        private String lastSentText;
+        private long lastSentNanos;
+
+        private StreamingReply(Long chatId) {
+            this.chatId = chatId;
+        }
+
+        /**
+         * Agrega un fragmento y, si toca, envía el mensaje inicial o una edición.
+         *
+         * @param token Fragmento de texto recibido
+         */
+        public void append(String token) {
+            text.append(token);
+            long now = System.nanoTime();
+
+            if (messageId == null) {
+                if (text.toString().trim().length() >= minInitialChars) {
+                    lastSentText = preview();
+                    lastSentNanos = now;
+                    messageId = outboundSender.enqueueForMessageId(chatId, lastSentText);
+                    firstChunkTimer.record(now - openedAtNanos, TimeUnit.NANOSECONDS);
+                }
+                return;
+            }
+
+            // Solo se edita cuando Telegram ya confirmó el mensaje inicial
+            if (now - lastSentNanos < editIntervalNanos || !messageId.isDone() || messageId.isCompletedExceptionally()) {
+                return;
+            }
+            String current = preview();
+            if (!current.equals(lastSentText)) {
+                outboundSender.enqueueEdit(chatId, messageId.join(), current);
+                lastSentText = current;
+                lastSentNanos = now;
+            }
+        }
+
+        /**
+         * Deja el mensaje con el texto final. Si supera 4096 caracteres, el primer fragmento
+         * queda en el mensaje editado y el resto se envía como mensajes nuevos.
+         *
+         * La edición final y los fragmentos extra reservan ya su lugar en la cola del chat, detrás
+         * del mensaje inicial aunque siga pendiente, así que nada de lo que se encole después se
+         * adelanta. Si el mensaje inicial finalmente se descarta, el primer fragmento se envía como
+         * mensaje nuevo en su lugar. Así el usuario nunca recibe la respuesta dos veces.
+         *
+         * @param finalText Respuesta completa
+         * @return true si la entrega queda a cargo del streaming; false si no llegó a encolarse
+         *         nada y hay que enviarla de forma normal
+         */
+        public boolean finish(String finalText) {
+            if (messageId == null || finalText == null || finalText.isEmpty()) {
+                return false;
+            }
+
+            List<String> chunks = TelegramMessageSplitter.split(finalText, TelegramMessageSplitter.MAX_MESSAGE_LENGTH);
+            if (!outboundSender.enqueueEditWhenDelivered(chatId, messageId, chunks.get(0),
+                    chunks.get(0).equals(lastSentText))) {
+                log.warn("No se pudo encolar la edición final en streaming - chatId={}", chatId);
+            }
+            for (int i = 1; i < chunks.size(); i++) {
+                outboundSender.enqueue(chatId, chunks.get(i));
+            }
+            log.debug("Respuesta en streaming completada - chatId={}, chunks={}, length={}",
+                    chatId, chunks.size(), finalText.length());
+            return true;
+        }
+
+        private String preview() {
+            return text.length() <= TelegramMessageSplitter.MAX_MESSAGE_LENGTH
+                    ? text.toString()
+                    : TelegramMessageSplitter.split(text.toString(), TelegramMessageSplitter.MAX_MESSAGE_LENGTH).get(0);
+        }
+    }
+}
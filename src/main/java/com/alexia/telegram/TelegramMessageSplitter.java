@@ -0,0 +1,85 @@
+package com.alexia.telegram;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Divide textos largos en fragmentos que respetan el límite de 4096 caracteres de Telegram.
+ * Corta preferentemente en párrafos, luego en saltos de línea y luego en espacios,
+ * sin partir nunca un par sustituto (emojis).
+ */
+public final class TelegramMessageSplitter {
+
+    /**
+     * Longitud máxima de un mensaje de texto en la Bot API.
+     */
+    public static final int MAX_MESSAGE_LENGTH = 4096;
+
+    private TelegramMessageSplitter() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidades y no debe ser instanciada");
+    }
+
+    /**
+     * Divide un texto en fragmentos de como máximo maxLength caracteres, en orden.
+     *
+     * @param text Texto a dividir
+     * @param maxLength Longitud máxima de cada fragmento
+     * @return Lista de fragmentos (un solo elemento si el texto ya cabe)
+     */
+    public static List<String> split(String text, int maxLength) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        if (text.length() <= maxLength) {
+            return List.of(text);
+        }
+
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        while (text.length() - start > maxLength) {
+            int end = findCut(text, start, start + maxLength);
+            String chunk = text.substring(start, end).stripTrailing();
+            if (!chunk.isEmpty()) {
+                chunks.add(chunk);
+            }
+            start = skipLeadingBreaks(text, end);
+        }
+        if (start < text.length()) {
+            chunks.add(text.substring(start));
+        }
+        return chunks;
+    }
+
+    /**
+     * Busca el mejor punto de corte en (start, limit].
+     */
+    private static int findCut(String text, int start, int limit) {
+        // No cortar demasiado pronto: al menos la mitad del fragmento
+        int minCut = start + (limit - start) / 2;
+
+        int cut = text.lastIndexOf("\n\n", limit - 2);
+        if (cut >= minCut) {
+            return cut;
+        }
+        cut = text.lastIndexOf('\n', limit - 1);
+        if (cut >= minCut) {
+            return cut;
+        }
+        cut = text.lastIndexOf(' ', limit - 1);
+        if (cut >= minCut) {
+            return cut;
+        }
+        // Corte duro, retrocediendo si cae en medio de un par sustituto
+        if (Character.isHighSurrogate(text.charAt(limit - 1)) && limit - 1 > start) {
+            return limit - 1;
+        }
+        return limit;
+    }
+
+    private static int skipLeadingBreaks(String text, int index) {
+        while (index < text.length() && (text.charAt(index) == '\n' || text.charAt(index) == ' ')) {
+            index++;
+        }
+        return index;
+    }
+}
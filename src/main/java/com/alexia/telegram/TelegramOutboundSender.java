@@ -0,0 +1,579 @@
+package com.alexia.telegram;
+
+import com.alexia.config.ExecutorProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.ReplyKeyboard;
+import org.telegram.telegrambots.meta.bots.AbsSender;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Planificador de mensajes salientes hacia Telegram.
+ *
+ * Respeta los límites de la Bot API con un token bucket global (~30 msg/s) y uno por chat
+ * (~1 msg/s con ráfaga corta), envía con executeAsync y, ante un 429, pausa el chat y el bucket
+ * global durante el retry_after indicado y reintenta. Los textos de más de 4096 caracteres se
+ * dividen en fragmentos que se entregan en orden: cada chat tiene como máximo un envío en vuelo.
+ * Las ediciones (editMessageText) de respuestas en streaming comparten la misma cola y límites;
+ * las ediciones pendientes de un mismo mensaje se fusionan y solo se envía el texto más reciente.
+ * Una edición puede reservar su lugar en la cola antes de conocer el message_id, que se toma
+ * del envío anterior cuando le llega el turno.
+ */
+@Component
+@Slf4j
+public class TelegramOutboundSender {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final long IDLE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long IDLE_OUTBOX_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+    /** Orden de inserción = turno round-robin entre chats. Protegido por lock. */
+    private final LinkedHashMap<Long, ChatOutbox> outboxes = new LinkedHashMap<>();
+    private final AtomicInteger queuedMessages = new AtomicInteger();
+
+    private final double perChatRate;
+    private final double perChatBurst;
+    private final int maxQueued;
+    private final int maxRetries;
+    private final TokenBucket globalBucket;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter rateLimitedCounter;
+    private final Counter editsCoalescedCounter;
+    private final MeterRegistry meterRegistry;
+    private final Timer sendTimer;
+
+    private volatile AbsSender sender;
+    private volatile boolean running;
+    private Thread schedulerThread;
+
+    public TelegramOutboundSender(@Value("${telegram.outbound.global-rate:30}") double globalRate,
+                                  @Value("${telegram.outbound.per-chat-rate:1}") double perChatRate,
+                                  @Value("${telegram.outbound.per-chat-burst:3}") double perChatBurst,
+                                  @Value("${telegram.outbound.max-queued:10000}") int maxQueued,
+                                  @Value("${telegram.outbound.max-retries:3}") int maxRetries,
+                                  MeterRegistry meterRegistry) {
+        this.perChatRate = perChatRate;
+        this.perChatBurst = perChatBurst;
+        this.maxQueued = maxQueued;
+        this.maxRetries = maxRetries;
+        this.globalBucket = new TokenBucket(globalRate, globalRate, System.nanoTime());
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("alexia.outbound.queue.depth", queuedMessages, AtomicInteger::get)
+                .description("Mensajes salientes pendientes de enviar")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("alexia.outbound.sent")
+                .description("Mensajes entregados a Telegram")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("alexia.outbound.retried")
+                .description("Reintentos de envío")
+                .register(meterRegistry);
+        this.rateLimitedCounter = Counter.builder("alexia.outbound.rate.limited")
+                .description("Respuestas 429 recibidas de Telegram")
+                .register(meterRegistry);
+        this.editsCoalescedCounter = Counter.builder("alexia.outbound.edits.coalesced")
+                .description("Ediciones pendientes reemplazadas por un texto más reciente")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("alexia.outbound.send")
+                .description("Latencia de envío a la Bot API")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        log.info("TelegramOutboundSender inicializado - globalRate={}/s, perChatRate={}/s, perChatBurst={}, maxQueued={}",
+                globalRate, perChatRate, perChatBurst, maxQueued);
+    }
+
+    /**
+     * Asocia el bot que realizará los envíos e inicia el planificador.
+     *
+     * @param sender Bot (AbsSender) con el que se llama a la Bot API
+     */
+    public void bind(AbsSender sender) {
+        lock.lock();
+        try {
+            this.sender = sender;
+            if (schedulerThread == null) {
+                running = true;
+                schedulerThread = ExecutorProvider.platformThreadFactory("telegram-outbound-")
+                        .newThread(this::runScheduler);
+                schedulerThread.start();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Encola un mensaje de texto para un chat.
+     *
+     * @param chatId ID del chat destino
+     * @param text Texto a enviar (se divide si supera 4096 caracteres)
+     * @return true si se encoló, false si se descartó por cola llena
+     */
+    public boolean enqueue(Long chatId, String text) {
+        return enqueue(chatId, text, null);
+    }
+
+    /**
+     * Encola un mensaje de texto con teclado opcional.
+     * Si el texto se divide, el teclado se adjunta al último fragmento.
+     *
+     * @param chatId ID del chat destino
+     * @param text Texto a enviar
+     * @param replyMarkup Teclado a adjuntar, o null
+     * @return true si se encoló, false si se descartó por cola llena
+     */
+    public boolean enqueue(Long chatId, String text, ReplyKeyboard replyMarkup) {
+        List<String> chunks = TelegramMessageSplitter.split(text, TelegramMessageSplitter.MAX_MESSAGE_LENGTH);
+        if (chunks.isEmpty()) {
+            return false;
+        }
+        if (queuedMessages.addAndGet(chunks.size()) > maxQueued) {
+            queuedMessages.addAndGet(-chunks.size());
+            dropped("queue_full", chunks.size());
+            log.warn("Cola de salida llena, descartando respuesta - chatId={}, chunks={}", chatId, chunks.size());
+            return false;
+        }
+
+        lock.lock();
+        try {
+            ChatOutbox outbox = outboxes.computeIfAbsent(chatId,
+                    id -> new ChatOutbox(id, new TokenBucket(perChatRate, perChatBurst, System.nanoTime())));
+            for (int i = 0; i < chunks.size(); i++) {
+                ReplyKeyboard markup = i == chunks.size() - 1 ? replyMarkup : null;
+                outbox.messages.add(new OutboundMessage(chunks.get(i), markup, null, null, null, false));
+            }
+            wakeUp.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        if (chunks.size() > 1) {
+            log.debug("Respuesta dividida en fragmentos - chatId={}, chunks={}, length={}",
+                    chatId, chunks.size(), text.length());
+        }
+        return true;
+    }
+
+    /**
+     * Encola un mensaje corto (hasta 4096 caracteres) y devuelve el message_id asignado por Telegram,
+     * para poder editarlo después.
+     *
+     * @param chatId ID del chat destino
+     * @param text Texto a enviar
+     * @return message_id cuando se entregue; falla si se descarta
+     */
+    public CompletableFuture<Integer> enqueueForMessageId(Long chatId, String text) {
+        CompletableFuture<Integer> messageId = new CompletableFuture<>();
+        if (text == null || text.isEmpty() || text.length() > TelegramMessageSplitter.MAX_MESSAGE_LENGTH) {
+            messageId.completeExceptionally(new IllegalArgumentException("Texto vacío o de más de 4096 caracteres"));
+            return messageId;
+        }
+        if (!reserve(chatId)) {
+            messageId.completeExceptionally(new IllegalStateException("Cola de salida llena"));
+            return messageId;
+        }
+        add(chatId, new OutboundMessage(text, null, null, messageId, null, false));
+        return messageId;
+    }
+
+    /**
+     * Reserva ya el lugar en la cola del chat para editar un mensaje cuyo message_id todavía no se
+     * conoce (el de {@link #enqueueForMessageId(Long, String)}, encolado antes en el mismo chat).
+     * Lo que se encole después para el chat sale detrás de esta edición. Cuando le llega el turno,
+     * el envío anterior ya terminó: si se entregó, se edita el mensaje (o no se envía nada si
+     * alreadyShown); si se descartó, el texto se envía como mensaje nuevo.
+     *
+     * @param chatId ID del chat
+     * @param messageId message_id pendiente del mensaje a editar
+     * @param text Texto final (hasta 4096 caracteres)
+     * @param alreadyShown true si el mensaje ya muestra ese texto y solo hace falta para el caso de descarte
+     * @return true si se encoló, false si se descartó por cola llena
+     */
+    public boolean enqueueEditWhenDelivered(Long chatId, CompletableFuture<Integer> messageId, String text,
+                                            boolean alreadyShown) {
+        if (!reserve(chatId)) {
+            return false;
+        }
+        add(chatId, new OutboundMessage(text, null, null, null, messageId, alreadyShown));
+        return true;
+    }
+
+    /**
+     * Encola la edición de un mensaje ya enviado. Si ya hay una edición pendiente del mismo
+     * mensaje, se reemplaza su texto en lugar de encolar otra.
+     *
+     * @param chatId ID del chat
+     * @param messageId message_id a editar
+     * @param text Texto nuevo (hasta 4096 caracteres)
+     * @return true si se encoló o fusionó, false si se descartó por cola llena
+     */
+    public boolean enqueueEdit(Long chatId, Integer messageId, String text) {
+        lock.lock();
+        try {
+            ChatOutbox outbox = outboxes.get(chatId);
+            if (outbox != null) {
+                boolean first = true;
+                for (OutboundMessage pending : outbox.messages) {
+                    // El primero puede estar en vuelo: su texto ya no se puede cambiar
+                    boolean mutable = !(first && outbox.inFlight);
+                    first = false;
+                    if (mutable && messageId.equals(pending.editMessageId)) {
+                        pending.text = text;
+                        editsCoalescedCounter.increment();
+                        return true;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!reserve(chatId)) {
+            return false;
+        }
+        add(chatId, new OutboundMessage(text, null, messageId, null, null, false));
+        return true;
+    }
+
+    /**
+     * Número de mensajes pendientes de envío.
+     */
+    public int getQueueDepth() {
+        return queuedMessages.get();
+    }
+
+    private boolean reserve(Long chatId) {
+        if (queuedMessages.incrementAndGet() > maxQueued) {
+            queuedMessages.decrementAndGet();
+            dropped("queue_full", 1);
+            log.warn("Cola de salida llena, descartando mensaje - chatId={}", chatId);
+            return false;
+        }
+        return true;
+    }
+
+    private void add(Long chatId, OutboundMessage message) {
+        lock.lock();
+        try {
+            outboxes.computeIfAbsent(chatId,
+                    id -> new ChatOutbox(id, new TokenBucket(perChatRate, perChatBurst, System.nanoTime())))
+                    .messages.add(message);
+            wakeUp.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("🛑 Deteniendo TelegramOutboundSender - pendientes={}", queuedMessages.get());
+        lock.lock();
+        try {
+            running = false;
+            wakeUp.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (schedulerThread != null) {
+            try {
+                schedulerThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Bucle del planificador: recorre los chats en round-robin y envía el siguiente mensaje
+     * de cada chat cuyo bucket (y el global) tengan token. Si nadie puede enviar, duerme
+     * hasta el próximo token o hasta que llegue un mensaje nuevo.
+     */
+    private void runScheduler() {
+        lock.lock();
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                long waitNanos = IDLE_WAIT_NANOS;
+                List<ChatOutbox> served = new ArrayList<>();
+
+                Iterator<ChatOutbox> iterator = outboxes.values().iterator();
+                while (iterator.hasNext()) {
+                    ChatOutbox outbox = iterator.next();
+                    if (outbox.inFlight) {
+                        continue;
+                    }
+                    resolvePendingEdit(outbox);
+                    if (outbox.messages.isEmpty()) {
+                        if (now - outbox.lastActivityNanos > IDLE_OUTBOX_NANOS) {
+                            iterator.remove();
+                        }
+                        continue;
+                    }
+
+                    long globalWait = globalBucket.nanosUntilAvailable(now);
+                    if (globalWait > 0) {
+                        waitNanos = Math.min(waitNanos, globalWait);
+                        break;
+                    }
+                    long chatWait = outbox.bucket.nanosUntilAvailable(now);
+                    if (chatWait > 0) {
+                        waitNanos = Math.min(waitNanos, chatWait);
+                        continue;
+                    }
+
+                    globalBucket.consume();
+                    outbox.bucket.consume();
+                    iterator.remove();
+                    served.add(outbox);
+                }
+
+                // Los chats atendidos pasan al final de la ronda
+                for (ChatOutbox outbox : served) {
+                    outboxes.put(outbox.chatId, outbox);
+                    send(outbox);
+                }
+
+                if (served.isEmpty()) {
+                    try {
+                        wakeUp.awaitNanos(waitNanos);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Resuelve el message_id de una edición reservada que llegó al frente de la cola.
+     * Se llama con el lock tomado y sin envío en vuelo, así que el envío anterior ya terminó.
+     */
+    private void resolvePendingEdit(ChatOutbox outbox) {
+        OutboundMessage head;
+        while ((head = outbox.messages.peek()) != null && head.editTarget != null) {
+            CompletableFuture<Integer> target = head.editTarget;
+            head.editTarget = null;
+            if (!target.isDone() || target.isCompletedExceptionally()) {
+                // El mensaje a editar se descartó: el texto sale como mensaje nuevo, en su lugar
+                log.warn("Mensaje a editar no entregado, se envía como mensaje nuevo - chatId={}", outbox.chatId);
+                return;
+            }
+            if (!head.skipIfDelivered) {
+                head.editMessageId = target.join();
+                return;
+            }
+            complete(outbox);
+        }
+    }
+
+    /**
+     * Envía el primer mensaje del chat. Se llama con el lock tomado.
+     */
+    private void send(ChatOutbox outbox) {
+        OutboundMessage message = outbox.messages.peek();
+        AbsSender currentSender = sender;
+        if (message == null || currentSender == null) {
+            return;
+        }
+
+        outbox.inFlight = true;
+        long startNanos = System.nanoTime();
+        try {
+            executeAsync(currentSender, outbox.chatId, message)
+                    .whenComplete((result, error) -> onSendComplete(outbox, message, startNanos, result, error));
+        } catch (TelegramApiException e) {
+            onSendComplete(outbox, message, startNanos, null, e);
+        }
+    }
+
+    private static CompletableFuture<?> executeAsync(AbsSender sender, Long chatId, OutboundMessage message)
+            throws TelegramApiException {
+        if (message.editMessageId != null) {
+            EditMessageText edit = new EditMessageText();
+            edit.setChatId(chatId.toString());
+            edit.setMessageId(message.editMessageId);
+            edit.setText(message.text);
+            return sender.executeAsync(edit);
+        }
+
+        SendMessage sendMessage = new SendMessage();
+        sendMessage.setChatId(chatId.toString());
+        sendMessage.setText(message.text);
+        if (message.replyMarkup != null) {
+            sendMessage.setReplyMarkup(message.replyMarkup);
+        }
+        return sender.executeAsync(sendMessage);
+    }
+
+    private void onSendComplete(ChatOutbox outbox, OutboundMessage message, long startNanos,
+                                Object result, Throwable error) {
+        long now = System.nanoTime();
+        sendTimer.record(now - startNanos, TimeUnit.NANOSECONDS);
+
+        lock.lock();
+        try {
+            outbox.inFlight = false;
+            outbox.lastActivityNanos = now;
+
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause == null) {
+                complete(outbox);
+                sentCounter.increment();
+                if (message.delivered != null && result instanceof Message sent) {
+                    message.delivered.complete(sent.getMessageId());
+                }
+                log.info("Respuesta enviada - chatId={}, responseLength={}, queuedMs={}", outbox.chatId,
+                        message.text.length(), TimeUnit.NANOSECONDS.toMillis(now - message.enqueuedAtNanos));
+            } else if (cause instanceof TelegramApiRequestException requestException
+                    && isRateLimited(requestException)) {
+                rateLimitedCounter.increment();
+                int retryAfter = retryAfterSeconds(requestException);
+                // El límite puede ser del bot entero: pausar también el bucket global
+                long resumeAt = now + TimeUnit.SECONDS.toNanos(retryAfter);
+                outbox.bucket.pauseUntil(resumeAt);
+                globalBucket.pauseUntil(resumeAt);
+                retryOrDrop(outbox, message, "rate_limited");
+                log.warn("Telegram respondió 429, pausando todos los envíos - chatId={}, retryAfter={}s, attempt={}",
+                        outbox.chatId, retryAfter, message.attempts);
+            } else if (cause instanceof TelegramApiRequestException requestException) {
+                // 400/403: el mensaje o el chat no son válidos, reintentar no sirve
+                complete(outbox);
+                dropped("rejected", 1);
+                failDelivery(message, requestException);
+                log.error("Telegram rechazó el mensaje - chatId={}, errorCode={}, message={}",
+                        outbox.chatId, requestException.getErrorCode(), requestException.getApiResponse());
+            } else {
+                // Error de red: reintentar con espera creciente
+                outbox.bucket.pauseUntil(now + TimeUnit.SECONDS.toNanos(message.attempts + 1L));
+                retryOrDrop(outbox, message, "network");
+                log.warn("Error al enviar mensaje - chatId={}, attempt={}, exception={}, message={}",
+                        outbox.chatId, message.attempts, cause.getClass().getSimpleName(), cause.getMessage());
+            }
+            wakeUp.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void retryOrDrop(ChatOutbox outbox, OutboundMessage message, String reason) {
+        message.attempts++;
+        if (message.attempts > maxRetries) {
+            complete(outbox);
+            dropped(reason, 1);
+            failDelivery(message, new IllegalStateException("Mensaje descartado: " + reason));
+            log.error("Mensaje descartado tras {} intentos - chatId={}, reason={}",
+                    message.attempts, outbox.chatId, reason);
+        } else {
+            retriedCounter.increment();
+        }
+    }
+
+    /**
+     * Retira el primer mensaje del chat (entregado o descartado).
+     */
+    private void complete(ChatOutbox outbox) {
+        if (outbox.messages.poll() != null) {
+            queuedMessages.decrementAndGet();
+        }
+    }
+
+    private static void failDelivery(OutboundMessage message, Throwable cause) {
+        if (message.delivered != null) {
+            message.delivered.completeExceptionally(cause);
+        }
+    }
+
+    private void dropped(String reason, int count) {
+        Counter.builder("alexia.outbound.dropped")
+                .description("Mensajes salientes descartados")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private static boolean isRateLimited(TelegramApiRequestException e) {
+        return e.getErrorCode() != null && e.getErrorCode() == TOO_MANY_REQUESTS;
+    }
+
+    private static int retryAfterSeconds(TelegramApiRequestException e) {
+        if (e.getParameters() != null && e.getParameters().getRetryAfter() != null) {
+            return Math.max(1, e.getParameters().getRetryAfter());
+        }
+        return 1;
+    }
+
+    /**
+     * Mensaje pendiente. Con editMessageId es una edición; delivered recibe el message_id del envío.
+     * Con editTarget es una edición reservada cuyo message_id se resuelve al llegar al frente.
+     */
+    private static final class OutboundMessage {
+        /** Mutable solo para fusionar ediciones; protegido por el lock del sender. */
+        private String text;
+        private final ReplyKeyboard replyMarkup;
+        /** Se asigna al resolver editTarget; protegido por el lock del sender. */
+        private Integer editMessageId;
+        private final CompletableFuture<Integer> delivered;
+        private CompletableFuture<Integer> editTarget;
+        private final boolean skipIfDelivered;
+        private final long enqueuedAtNanos = System.nanoTime();
+        private int attempts;
+
+        private OutboundMessage(String text, ReplyKeyboard replyMarkup, Integer editMessageId,
+                                CompletableFuture<Integer> delivered, CompletableFuture<Integer> editTarget,
+                                boolean skipIfDelivered) {
+            this.text = text;
+            this.replyMarkup = replyMarkup;
+            this.editMessageId = editMessageId;
+            this.delivered = delivered;
+            this.editTarget = editTarget;
+            this.skipIfDelivered = skipIfDelivered;
+        }
+    }
+
+    /**
+     * Cola de salida de un chat. Protegida por el lock del sender.
+     */
+    private static final class ChatOutbox {
+        private final Long chatId;
+        private final TokenBucket bucket;
+        private final ArrayDeque<OutboundMessage> messages = new ArrayDeque<>();
+        private boolean inFlight;
+        private long lastActivityNanos = System.nanoTime();
+
+        private ChatOutbox(Long chatId, TokenBucket bucket) {
+            this.chatId = chatId;
+            this.bucket = bucket;
+        }
+    }
+}
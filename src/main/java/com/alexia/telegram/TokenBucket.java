@@ -0,0 +1,68 @@
+package com.alexia.telegram;
+
+/**
+ * Token bucket para limitar la tasa de envío hacia la Bot API.
+ * No es thread-safe: el llamador debe proteger el acceso (TelegramOutboundSender lo usa bajo su lock).
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    /**
+     * @param ratePerSecond Tokens repuestos por segundo
+     * @param burst Máximo de tokens acumulables
+     * @param nowNanos Instante actual (System.nanoTime)
+     */
+    TokenBucket(double ratePerSecond, double burst, long nowNanos) {
+        this.capacity = Math.max(1.0, burst);
+        this.tokensPerNano = ratePerSecond / 1_000_000_000.0;
+        this.tokens = this.capacity;
+        this.lastRefillNanos = nowNanos;
+        this.pausedUntilNanos = nowNanos;
+    }
+
+    /**
+     * Nanosegundos hasta que haya un token disponible (0 si ya lo hay).
+     */
+    long nanosUntilAvailable(long nowNanos) {
+        if (nowNanos - pausedUntilNanos < 0) {
+            return pausedUntilNanos - nowNanos;
+        }
+        refill(nowNanos);
+        if (tokens >= 1.0) {
+            return 0L;
+        }
+        return (long) Math.ceil((1.0 - tokens) / tokensPerNano);
+    }
+
+    /**
+     * Consume un token. Debe llamarse solo si nanosUntilAvailable devolvió 0.
+     */
+    void consume() {
+        tokens -= 1.0;
+    }
+
+    /**
+     * Bloquea el bucket hasta el instante indicado (p. ej. por un retry_after de Telegram).
+     */
+    void pauseUntil(long untilNanos) {
+        if (untilNanos - pausedUntilNanos > 0) {
+            pausedUntilNanos = untilNanos;
+        }
+        // Se rellena desde el fin de la pausa vigente, aunque la nueva sea más corta
+        tokens = 0.0;
+        lastRefillNanos = pausedUntilNanos;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
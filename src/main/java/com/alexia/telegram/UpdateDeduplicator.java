@@ -0,0 +1,315 @@
+package com.alexia.telegram;
+
+import com.alexia.config.ExecutorProvider;
+import com.alexia.entity.TelegramUpdateOffset;
+import com.alexia.repository.TelegramProcessedUpdateRepository;
+import com.alexia.repository.TelegramUpdateOffsetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Descarta actualizaciones de Telegram ya procesadas (reenvíos tras un reinicio o un
+ * getUpdates sin confirmar).
+ *
+ * Mantiene una ventana deslizante de bits sobre update_id: cada id ocupa el bit
+ * (id mod tamaño) de un long[] fijo, así que la comprobación no reserva memoria.
+ * Periódicamente se guarda en telegram_update_offsets la marca de agua baja: el mayor
+ * update_id tal que todos los aceptados hasta él terminaron. Como los chats se procesan
+ * en paralelo, un update posterior puede terminar antes que uno anterior; guardar el mayor
+ * terminado haría que, tras un reinicio, se descartara el anterior aún en proceso.
+ * Los ids en proceso se marcan en un segundo long[] sobre la misma ventana, y al terminar
+ * uno la marca avanza por los bits contiguos ya libres, palabra a palabra. Un update que
+ * sigue en proceso cuando la ventana lo deja atrás se da por terminado para la marca.
+ * Al arrancar se marca como visto todo lo que hay hasta la marca guardada.
+ *
+ * En modo webhook puede haber varias instancias, cada una con solo parte de los update_id, así
+ * que una marca de agua por bot no sirve: ahí no se usa telegram_update_offsets, sino que cada
+ * update nuevo para la ventana local se reclama en telegram_processed_updates con
+ * INSERT ... ON CONFLICT DO NOTHING, y solo la instancia que lo inserta lo procesa. Los reclamos
+ * más antiguos que telegram.dedup.retention-hours se borran periódicamente.
+ */
+@Component
+@Slf4j
+public class UpdateDeduplicator {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private static final long CLAIM_CLEANUP_INTERVAL_MINUTES = 60;
+
+    private final TelegramUpdateOffsetRepository offsetRepository;
+    private final TelegramProcessedUpdateRepository processedUpdateRepository;
+    private final String botUsername;
+    /** Modo webhook: los update_id se reclaman en la BD, compartida entre instancias. */
+    private final boolean sharedClaims;
+    private final Duration claimRetention;
+    private final long persistIntervalMillis;
+    private final long[] bits;
+    /** update_id aceptados cuyo procesamiento no terminó, con la misma indexación que bits. */
+    private final long[] inFlightBits;
+    private final int windowSize;
+    private final int windowMask;
+    private final Counter duplicateCounter;
+    private final ScheduledExecutorService persister;
+
+    /** Mayor update_id aceptado. Protegido por bits. */
+    private long highest = NONE;
+    /** Mayor update_id tal que todos los aceptados hasta él terminaron. Protegido por bits. */
+    private long watermark = NONE;
+    private volatile long persistedWatermark = NONE;
+
+    public UpdateDeduplicator(TelegramUpdateOffsetRepository offsetRepository,
+                              TelegramProcessedUpdateRepository processedUpdateRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${telegram.bot.username}") String botUsername,
+                              @Value("${telegram.bot.mode:polling}") String botMode,
+                              @Value("${telegram.dedup.window:4096}") int window,
+                              @Value("${telegram.dedup.persist-interval-ms:5000}") long persistIntervalMillis,
+                              @Value("${telegram.dedup.retention-hours:24}") long retentionHours) {
+        this.offsetRepository = offsetRepository;
+        this.processedUpdateRepository = processedUpdateRepository;
+        this.botUsername = botUsername;
+        this.sharedClaims = "webhook".equalsIgnoreCase(botMode);
+        this.claimRetention = Duration.ofHours(retentionHours);
+        this.persistIntervalMillis = persistIntervalMillis;
+        // Potencia de 2 y múltiplo de 64 para indexar con máscara
+        this.windowSize = Math.max(64, Integer.highestOneBit(Math.max(1, window - 1)) << 1);
+        this.windowMask = windowSize - 1;
+        this.bits = new long[windowSize / Long.SIZE];
+        this.inFlightBits = new long[windowSize / Long.SIZE];
+        this.duplicateCounter = Counter.builder("alexia.updates.duplicate")
+                .description("Actualizaciones de Telegram descartadas por repetidas")
+                .register(meterRegistry);
+        this.persister = Executors.newSingleThreadScheduledExecutor(
+                ExecutorProvider.platformThreadFactory("telegram-offset-"));
+    }
+
+    @PostConstruct
+    void init() {
+        if (sharedClaims) {
+            persister.scheduleWithFixedDelay(this::deleteExpiredClaimsSafely, CLAIM_CLEANUP_INTERVAL_MINUTES,
+                    CLAIM_CLEANUP_INTERVAL_MINUTES, TimeUnit.MINUTES);
+            log.info("UpdateDeduplicator inicializado con reclamos en la BD (webhook) - window={}, retentionHours={}",
+                    windowSize, claimRetention.toHours());
+            return;
+        }
+        try {
+            offsetRepository.findById(botUsername).ifPresent(offset -> {
+                seed(offset.getLastUpdateId());
+                persistedWatermark = offset.getLastUpdateId();
+                log.info("Ventana de deduplicación inicializada desde la BD - lastUpdateId={}", offset.getLastUpdateId());
+            });
+        } catch (Exception e) {
+            log.warn("No se pudo leer el último update_id, la ventana empieza vacía - error={}", e.getMessage());
+        }
+        persister.scheduleWithFixedDelay(this::persistSafely, persistIntervalMillis, persistIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        log.info("UpdateDeduplicator inicializado - window={}, persistIntervalMs={}", windowSize, persistIntervalMillis);
+    }
+
+    /**
+     * Marca un update_id como visto.
+     *
+     * @param updateId update_id de Telegram
+     * @return true si es nuevo y debe procesarse, false si es un duplicado
+     */
+    public boolean markIfNew(int updateId) {
+        boolean isNew;
+        synchronized (bits) {
+            isNew = markLocked(updateId);
+            if (isNew) {
+                startLocked(updateId);
+            }
+        }
+        if (isNew && sharedClaims && !claim(updateId)) {
+            markCompleted(updateId);
+            isNew = false;
+        }
+        if (!isNew) {
+            duplicateCounter.increment();
+        }
+        return isNew;
+    }
+
+    /**
+     * Registra que el procesamiento de una actualización terminó (o que se descartó).
+     * Debe llamarse para todo update_id aceptado por {@link #markIfNew(int)}: uno sin
+     * completar detiene la marca de agua que se persiste.
+     */
+    public void markCompleted(int updateId) {
+        synchronized (bits) {
+            // Un id ya por debajo de la marca salió de la ventana: su posición es de otro id
+            if (updateId <= watermark || highest - updateId >= windowSize) {
+                return;
+            }
+            clearBit(inFlightBits, updateId);
+            advanceWatermarkLocked();
+        }
+    }
+
+    /**
+     * Mayor update_id tal que todos los aceptados hasta él ya terminaron.
+     */
+    long completedWatermark() {
+        synchronized (bits) {
+            return watermark;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persister.shutdown();
+        if (!sharedClaims) {
+            persistSafely();
+        }
+    }
+
+    /**
+     * Reclama el update_id en la BD. Si la BD falla se procesa igual: es preferible un posible
+     * duplicado a perder el mensaje.
+     *
+     * @return true si esta instancia lo reclamó
+     */
+    private boolean claim(int updateId) {
+        try {
+            return processedUpdateRepository.claim(botUsername, updateId, LocalDateTime.now()) > 0;
+        } catch (Exception e) {
+            log.warn("No se pudo reclamar el update_id en la BD, se procesa igual - updateId={}, error={}",
+                    updateId, e.getMessage());
+            return true;
+        }
+    }
+
+    private void deleteExpiredClaimsSafely() {
+        try {
+            int deleted = processedUpdateRepository.deleteReceivedBefore(LocalDateTime.now().minus(claimRetention));
+            log.debug("Reclamos de update_id vencidos eliminados - deleted={}", deleted);
+        } catch (Exception e) {
+            log.warn("No se pudieron eliminar los reclamos de update_id vencidos - error={}", e.getMessage());
+        }
+    }
+
+    private boolean markLocked(long updateId) {
+        if (highest == NONE) {
+            highest = updateId;
+            watermark = updateId - 1;
+            setBit(bits, updateId);
+            return true;
+        }
+
+        long delta = updateId - highest;
+        if (delta > 0) {
+            // La ventana avanza: liberar las posiciones de los ids que salen de ella
+            if (delta >= windowSize) {
+                Arrays.fill(bits, 0L);
+                Arrays.fill(inFlightBits, 0L);
+            } else {
+                for (long id = highest + 1; id < updateId; id++) {
+                    clearBit(bits, id);
+                    clearBit(inFlightBits, id);
+                }
+            }
+            highest = updateId;
+            setBit(bits, updateId);
+            // Lo que quedó fuera de la ventana ya no detiene la marca
+            watermark = Math.max(watermark, updateId - windowSize);
+            return true;
+        }
+
+        if (-delta >= windowSize) {
+            // Más antiguo que la ventana: ya fue procesado o se considera perdido
+            return false;
+        }
+        if (isBitSet(bits, updateId)) {
+            return false;
+        }
+        setBit(bits, updateId);
+        return true;
+    }
+
+    /**
+     * Marca como en proceso un id recién aceptado; si llegó tarde, por debajo de la marca, la retrocede.
+     */
+    private void startLocked(long updateId) {
+        setBit(inFlightBits, updateId);
+        if (updateId <= watermark) {
+            watermark = updateId - 1;
+        } else {
+            advanceWatermarkLocked();
+        }
+    }
+
+    /**
+     * Avanza la marca sobre los ids contiguos que no están en proceso, de a una palabra por vez.
+     * Los ids que nunca llegaron (huecos en update_id) no la detienen.
+     */
+    private void advanceWatermarkLocked() {
+        while (watermark < highest) {
+            int index = (int) ((watermark + 1) & windowMask);
+            int offset = index & (Long.SIZE - 1);
+            long pending = inFlightBits[index >>> 6] >>> offset;
+            if (pending != 0) {
+                watermark = Math.min(highest, watermark + Long.numberOfTrailingZeros(pending));
+                return;
+            }
+            watermark = Math.min(highest, watermark + Long.SIZE - offset);
+        }
+    }
+
+    /**
+     * Considera procesados todos los ids de la ventana hasta lastUpdateId.
+     */
+    private void seed(long lastUpdateId) {
+        synchronized (bits) {
+            if (highest == NONE || lastUpdateId > highest) {
+                highest = lastUpdateId;
+                Arrays.fill(bits, -1L);
+                Arrays.fill(inFlightBits, 0L);
+            }
+            watermark = Math.max(watermark, lastUpdateId);
+        }
+    }
+
+    private void setBit(long[] words, long updateId) {
+        int index = (int) (updateId & windowMask);
+        words[index >>> 6] |= 1L << index;
+    }
+
+    private void clearBit(long[] words, long updateId) {
+        int index = (int) (updateId & windowMask);
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    private boolean isBitSet(long[] words, long updateId) {
+        int index = (int) (updateId & windowMask);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private void persistSafely() {
+        long watermark = completedWatermark();
+        if (watermark == NONE || watermark <= persistedWatermark) {
+            return;
+        }
+        try {
+            offsetRepository.save(TelegramUpdateOffset.builder()
+                    .botUsername(botUsername)
+                    .lastUpdateId(watermark)
+                    .build());
+            persistedWatermark = watermark;
+            log.debug("Último update_id persistido - lastUpdateId={}", watermark);
+        } catch (Exception e) {
+            log.warn("No se pudo persistir el último update_id - lastUpdateId={}, error={}", watermark, e.getMessage());
+        }
+    }
+}
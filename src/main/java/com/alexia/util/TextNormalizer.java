@@ -0,0 +1,174 @@
+package com.alexia.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Normalización de texto para búsquedas, clasificación y claves de caché.
+ *
+ * Pasa a minúsculas, quita tildes (á→a, ñ→n, ü→u), reemplaza la puntuación por espacios y
+ * colapsa los espacios repetidos: "¿Dónde hay  PANADERÍAS?" → "donde hay panaderias".
+ * El plegado de tildes usa una tabla precalculada para Latin-1 y Latin Extended-A,
+ * sin expresiones regulares ni Normalizer por llamada.
+ *
+ * searchKey agrega un plegado ligero de plurales y terminaciones en español, para las claves de
+ * búsqueda que se guardan en Business y Product y para las consultas contra ellas.
+ */
+public final class TextNormalizer {
+
+    private static final char[] FOLD = buildFoldTable();
+
+    /** Consonantes tras las que el plural agrega "es" (flor → flores, pan → panes). */
+    private static final String ES_PLURAL_CONSONANTS = "lrndj";
+
+    /** Palabras más cortas no se modifican (mes, gas, pan). */
+    private static final int MIN_STEM_LENGTH = 4;
+
+    private TextNormalizer() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidades y no debe ser instanciada");
+    }
+
+    /**
+     * Normaliza un texto.
+     *
+     * @param text Texto original (puede ser null)
+     * @return Texto normalizado, vacío si el original es null o no tiene letras ni dígitos
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                normalized.append(c);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Clave de búsqueda: normaliza el texto y reduce cada palabra a una forma común para singular y
+     * plural ("Panaderías" → "panaderia", "flores" → "flor", "luces"/"luz" → "luz",
+     * "dulce"/"dulces" → "dulz"). No es un lematizador: solo necesita que el valor guardado y
+     * la consulta se plieguen igual. Una sola pasada sobre un StringBuilder.
+     *
+     * @param text Texto original (puede ser null)
+     * @return Clave, vacía si el original es null o no tiene letras ni dígitos
+     */
+    public static String searchKey(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(text.length());
+        int wordStart = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && key.length() > 0) {
+                    stemLastWord(key, wordStart);
+                    key.append(' ');
+                    wordStart = key.length();
+                }
+                pendingSpace = false;
+                key.append(c);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        stemLastWord(key, wordStart);
+        return key.toString();
+    }
+
+    /**
+     * Normaliza un texto y lo divide en palabras.
+     *
+     * @param text Texto original
+     * @return Palabras normalizadas, en orden
+     */
+    public static List<String> tokenize(String text) {
+        String normalized = normalize(text);
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i == normalized.length() || normalized.charAt(i) == ' ') {
+                if (i > start) {
+                    tokens.add(normalized.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Pliega un carácter: minúscula y sin tilde.
+     */
+    public static char fold(char c) {
+        return c < FOLD.length ? FOLD[c] : Character.toLowerCase(c);
+    }
+
+    /**
+     * Pliega la palabra que empieza en start y llega al final del builder (ya normalizada).
+     */
+    private static void stemLastWord(StringBuilder key, int start) {
+        int end = key.length();
+        if (end - start < MIN_STEM_LENGTH) {
+            return;
+        }
+        char last = key.charAt(end - 1);
+        char previous = key.charAt(end - 2);
+        if (last == 's') {
+            if (previous == 'e' && end - start > MIN_STEM_LENGTH) {
+                char beforeEs = key.charAt(end - 3);
+                if (beforeEs == 'c') {
+                    // luces → luz, lapices → lapiz
+                    key.setLength(end - 3);
+                    key.append('z');
+                    return;
+                }
+                if (ES_PLURAL_CONSONANTS.indexOf(beforeEs) >= 0) {
+                    // flores → flor; calles → call, igual que calle
+                    key.setLength(end - 2);
+                    return;
+                }
+            }
+            if (isVowel(previous)) {
+                // vasos → vaso, panaderias → panaderia
+                key.setLength(end - 1);
+            }
+        } else if (last == 'e') {
+            // Singulares de los plurales anteriores: dulce → dulz, calle → call
+            if (previous == 'c') {
+                key.setLength(end - 2);
+                key.append('z');
+            } else if (ES_PLURAL_CONSONANTS.indexOf(previous) >= 0) {
+                key.setLength(end - 1);
+            }
+        }
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+
+    private static char[] buildFoldTable() {
+        // Latin-1 Supplement + Latin Extended-A cubren el español y los nombres habituales
+        char[] table = new char[0x180];
+        for (char c = 0; c < table.length; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            table[c] = Character.toLowerCase(decomposed.charAt(0));
+        }
+        return table;
+    }
+}
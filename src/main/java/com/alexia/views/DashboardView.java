@@ -2,8 +2,9 @@ package com.alexia.views;
 
 import com.alexia.constants.Messages;
 import com.alexia.constants.UIConstants;
-import com.alexia.repository.TelegramMessageRepository;
+import com.alexia.service.ActivityCounterService;
 import com.alexia.service.BotManagerService;
+import com.alexia.service.GrokService;
 import com.alexia.usecase.TestConnectionUseCase;
 import com.alexia.views.components.MetricCard;
 import com.alexia.views.components.SystemStatusPanel;
@@ -20,14 +21,17 @@ public class DashboardView extends VerticalLayout {
 
     private final TestConnectionUseCase testConnectionUseCase;
     private final BotManagerService botManagerService;
-    private final TelegramMessageRepository telegramMessageRepository;
+    private final ActivityCounterService activityCounterService;
+    private final GrokService grokService;
 
     public DashboardView(TestConnectionUseCase testConnectionUseCase,
                         BotManagerService botManagerService,
-                        TelegramMessageRepository telegramMessageRepository) {
+                        ActivityCounterService activityCounterService,
+                        GrokService grokService) {
         this.testConnectionUseCase = testConnectionUseCase;
         this.botManagerService = botManagerService;
-        this.telegramMessageRepository = telegramMessageRepository;
+        this.activityCounterService = activityCounterService;
+        this.grokService = grokService;
         
         setSizeFull();
         setPadding(true);
@@ -42,8 +46,10 @@ public class DashboardView extends VerticalLayout {
         
         add(title, subtitle);
 
-        // Obtener métricas reales
-        long totalMessages = telegramMessageRepository.count();
+        // Obtener métricas reales (contadores en memoria, sin count() sobre las tablas)
+        long totalMessages = activityCounterService.getTotalMessages();
+        long totalLeads = activityCounterService.getTotalLeads();
+        long activeBusinesses = activityCounterService.getActiveBusinesses();
 
         // Métricas principales - Primera fila
         HorizontalLayout metricsRow1 = new HorizontalLayout();
@@ -52,8 +58,8 @@ public class DashboardView extends VerticalLayout {
         
         metricsRow1.add(
             new MetricCard("Mensajes Telegram", String.valueOf(totalMessages), VaadinIcon.CHAT, UIConstants.COLOR_PRIMARY_BLUE),
-            new MetricCard("Leads Generados", "0", VaadinIcon.USERS, UIConstants.COLOR_SUCCESS_GREEN),
-            new MetricCard("Negocios Activos", "0", VaadinIcon.SHOP, UIConstants.COLOR_WARNING_ORANGE),
+            new MetricCard("Leads Generados", String.valueOf(totalLeads), VaadinIcon.USERS, UIConstants.COLOR_SUCCESS_GREEN),
+            new MetricCard("Negocios Activos", String.valueOf(activeBusinesses), VaadinIcon.SHOP, UIConstants.COLOR_WARNING_ORANGE),
             new MetricCard("Conversiones", "0", VaadinIcon.TRENDING_UP, UIConstants.COLOR_PURPLE)
         );
         
@@ -74,7 +80,7 @@ public class DashboardView extends VerticalLayout {
         add(metricsRow2);
 
         // Panel de estado del sistema
-        SystemStatusPanel systemStatus = new SystemStatusPanel(testConnectionUseCase, botManagerService);
+        SystemStatusPanel systemStatus = new SystemStatusPanel(testConnectionUseCase, botManagerService, grokService);
         add(systemStatus);
 
         // Actividad reciente
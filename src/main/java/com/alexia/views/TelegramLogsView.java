@@ -2,6 +2,7 @@ package com.alexia.views;
 
 import com.alexia.entity.TelegramMessage;
 import com.alexia.repository.TelegramMessageRepository;
+import com.alexia.service.ActivityCounterService;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -38,12 +39,15 @@ public class TelegramLogsView extends VerticalLayout {
     private static final Logger logger = LoggerFactory.getLogger(TelegramLogsView.class);
 
     private final TelegramMessageRepository telegramMessageRepository;
+    private final ActivityCounterService activityCounterService;
     private final Grid<TelegramMessage> grid;
     private final Span totalMessagesLabel;
     private DatePicker dateFilter;
 
-    public TelegramLogsView(TelegramMessageRepository telegramMessageRepository) {
+    public TelegramLogsView(TelegramMessageRepository telegramMessageRepository,
+                            ActivityCounterService activityCounterService) {
         this.telegramMessageRepository = telegramMessageRepository;
+        this.activityCounterService = activityCounterService;
 
         // Configuración del layout
         setSizeFull();
@@ -221,7 +225,7 @@ public class TelegramLogsView extends VerticalLayout {
     }
 
     private void updateStats() {
-        long total = telegramMessageRepository.count();
+        long total = activityCounterService.getTotalMessages();
         totalMessagesLabel.setText("Total de mensajes: " + total);
     }
 
@@ -279,6 +283,7 @@ public class TelegramLogsView extends VerticalLayout {
         try {
             logger.info("Eliminando {} mensajes de la base de datos", messages.size());
             telegramMessageRepository.deleteAll(messages);
+            activityCounterService.addMessages(-messages.size());
 
             showSuccess(messages.size() + " mensaje(s) eliminado(s) correctamente");
 
@@ -1,8 +1,8 @@
 package com.alexia.views;
 
-import com.alexia.repository.BotCommandRepository;
-import com.alexia.repository.TelegramMessageRepository;
+import com.alexia.service.ActivityCounterService;
 import com.alexia.service.BotManagerService;
+import com.alexia.service.IntentCache;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.html.Div;
@@ -29,8 +29,8 @@ import com.vaadin.flow.router.RouterLink;
 public class TelegramView extends VerticalLayout {
 
     private final BotManagerService botManagerService;
-    private final TelegramMessageRepository messageRepository;
-    private final BotCommandRepository commandRepository;
+    private final ActivityCounterService activityCounterService;
+    private final IntentCache intentCache;
     
     private final Span botStatusBadge;
     private final Button toggleBotButton;
@@ -41,11 +41,11 @@ public class TelegramView extends VerticalLayout {
     private final Span totalCommandsSpan;
 
     public TelegramView(BotManagerService botManagerService,
-                       TelegramMessageRepository messageRepository,
-                       BotCommandRepository commandRepository) {
+                       ActivityCounterService activityCounterService,
+                       IntentCache intentCache) {
         this.botManagerService = botManagerService;
-        this.messageRepository = messageRepository;
-        this.commandRepository = commandRepository;
+        this.activityCounterService = activityCounterService;
+        this.intentCache = intentCache;
         
         // Inicializar componentes del bot
         botStatusBadge = new Span();
@@ -106,7 +106,10 @@ public class TelegramView extends VerticalLayout {
     private Div createBotControlSection() {
         H3 sectionTitle = new H3(VaadinIcon.POWER_OFF.create(), new Span(" Control del Bot"));
         
-        HorizontalLayout buttonLayout = new HorizontalLayout(toggleBotButton, restartBotButton);
+        Button clearIntentCacheButton = new Button("Vaciar Caché de Intenciones", new Icon(VaadinIcon.TRASH));
+        clearIntentCacheButton.addClickListener(e -> clearIntentCache());
+
+        HorizontalLayout buttonLayout = new HorizontalLayout(toggleBotButton, restartBotButton, clearIntentCacheButton);
         buttonLayout.setSpacing(true);
         
         VerticalLayout content = new VerticalLayout(
@@ -187,6 +190,14 @@ public class TelegramView extends VerticalLayout {
         return box;
     }
 
+    /**
+     * Vacía la caché de intenciones (p. ej. tras cambiar el prompt o el modelo de Grok).
+     */
+    private void clearIntentCache() {
+        int removed = intentCache.invalidateAll();
+        showNotification("Caché de intenciones vaciada (" + removed + " entradas)", NotificationVariant.LUMO_SUCCESS);
+    }
+
     /**
      * Alterna el estado del bot (iniciar/detener).
      */
@@ -259,8 +270,8 @@ public class TelegramView extends VerticalLayout {
      * Actualiza las estadísticas.
      */
     private void updateStats() {
-        long totalMessages = messageRepository.count();
-        long totalCommands = commandRepository.count();
+        long totalMessages = activityCounterService.getTotalMessages();
+        long totalCommands = activityCounterService.getTotalCommands();
         
         totalMessagesSpan.setText(String.valueOf(totalMessages));
         totalCommandsSpan.setText(String.valueOf(totalCommands));
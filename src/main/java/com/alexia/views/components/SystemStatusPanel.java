@@ -3,6 +3,8 @@ package com.alexia.views.components;
 import com.alexia.constants.Messages;
 import com.alexia.dto.ConnectionResultDTO;
 import com.alexia.service.BotManagerService;
+import com.alexia.service.GrokCircuitBreaker;
+import com.alexia.service.GrokService;
 import com.alexia.usecase.TestConnectionUseCase;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -26,6 +28,7 @@ public class SystemStatusPanel extends VerticalLayout {
     
     private final TestConnectionUseCase testConnectionUseCase;
     private final BotManagerService botManagerService;
+    private final GrokService grokService;
     private final StatusBadge supabaseBadge;
     private final StatusBadge telegramBadge;
     private final StatusBadge whatsappBadge;
@@ -38,11 +41,14 @@ public class SystemStatusPanel extends VerticalLayout {
      * 
      * @param testConnectionUseCase Caso de uso para probar la conexión
      * @param botManagerService Servicio para gestionar el estado del bot
+     * @param grokService Servicio de Grok AI (estado del circuit breaker)
      */
     public SystemStatusPanel(TestConnectionUseCase testConnectionUseCase, 
-                            BotManagerService botManagerService) {
+                            BotManagerService botManagerService,
+                            GrokService grokService) {
         this.testConnectionUseCase = testConnectionUseCase;
         this.botManagerService = botManagerService;
+        this.grokService = grokService;
         
         setSpacing(true);
         setPadding(true);
@@ -62,11 +68,12 @@ public class SystemStatusPanel extends VerticalLayout {
         
         // Consultar estado real de los servicios
         boolean isTelegramRunning = botManagerService.isBotRunning();
+        GrokCircuitBreaker.State aiState = grokService.getCircuitState();
         
         supabaseBadge = new StatusBadge("Supabase", true);
         telegramBadge = new StatusBadge("Telegram", isTelegramRunning);
         whatsappBadge = new StatusBadge("WhatsApp", false);
-        aiBadge = new StatusBadge("OpenAI/Grok", false);
+        aiBadge = new StatusBadge(aiBadgeLabel(aiState), aiState != GrokCircuitBreaker.State.OPEN);
         googlePlacesBadge = new StatusBadge("Google Places", false);
         
         statusRow.add(supabaseBadge, telegramBadge, whatsappBadge, aiBadge, googlePlacesBadge);
@@ -87,6 +94,17 @@ public class SystemStatusPanel extends VerticalLayout {
         add(title, statusRow, testButton, resultMessage);
     }
     
+    /**
+     * Texto del badge de IA según el estado del circuit breaker de Groq.
+     */
+    private static String aiBadgeLabel(GrokCircuitBreaker.State state) {
+        return switch (state) {
+            case CLOSED -> "OpenAI/Grok";
+            case HALF_OPEN -> "OpenAI/Grok (recuperándose)";
+            case OPEN -> "OpenAI/Grok (circuito abierto)";
+        };
+    }
+    
     /**
      * Ejecuta la prueba de conexión a Supabase.
      */
@@ -0,0 +1,81 @@
+package com.alexia.controller;
+
+import com.alexia.telegram.AlexiaTelegramBot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests para TelegramWebhookController.
+ */
+@ExtendWith(MockitoExtension.class)
+class TelegramWebhookControllerTest {
+
+    private static final String PATH = "/telegram/webhook";
+    private static final String BODY = "{\"update_id\": 42}";
+
+    @Mock
+    private AlexiaTelegramBot bot;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        TelegramWebhookController controller =
+                new TelegramWebhookController(bot, "s3cret", "https://alexia.example/telegram/webhook", PATH);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addPlaceholderValue("telegram.webhook.path", PATH)
+                .build();
+    }
+
+    @Test
+    void shouldRejectMissingOrWrongSecret() throws Exception {
+        // When / Then
+        mockMvc.perform(post(PATH).contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post(PATH).contentType(MediaType.APPLICATION_JSON).content(BODY)
+                        .header(TelegramWebhookController.SECRET_TOKEN_HEADER, ""))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post(PATH).contentType(MediaType.APPLICATION_JSON).content(BODY)
+                        .header(TelegramWebhookController.SECRET_TOKEN_HEADER, "otro"))
+                .andExpect(status().isUnauthorized());
+
+        verify(bot, never()).onUpdateReceived(any());
+    }
+
+    @Test
+    void shouldDispatchUpdateWithValidSecret() throws Exception {
+        // When
+        mockMvc.perform(post(PATH).contentType(MediaType.APPLICATION_JSON).content(BODY)
+                        .header(TelegramWebhookController.SECRET_TOKEN_HEADER, "s3cret"))
+                .andExpect(status().isOk());
+
+        // Then
+        ArgumentCaptor<Update> captor = ArgumentCaptor.forClass(Update.class);
+        verify(bot).onUpdateReceived(captor.capture());
+        assertThat(captor.getValue().getUpdateId()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldFailFastWithoutSecretOrUrl() {
+        assertThatThrownBy(() -> new TelegramWebhookController(bot, " ", "https://alexia.example/hook", PATH))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new TelegramWebhookController(bot, "s3cret", "", PATH))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -2,12 +2,15 @@ package com.alexia.service;
 
 import com.alexia.entity.Business;
 import com.alexia.repository.BusinessRepository;
+import com.alexia.validation.BusinessValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -28,6 +31,15 @@ class BusinessServiceTest {
     @Mock
     private BusinessRepository repository;
 
+    @Mock
+    private BusinessValidator businessValidator;
+
+    @Mock
+    private ActivityCounterService activityCounterService;
+
+    @Mock
+    private CatalogSearchIndex catalogSearchIndex;
+
     @InjectMocks
     private BusinessService service;
 
@@ -92,7 +104,7 @@ class BusinessServiceTest {
     void shouldFindBusinessesByCategory() {
         // Given
         List<Business> businesses = Arrays.asList(business1);
-        when(repository.findByCategoryIgnoreCase("Plásticos")).thenReturn(businesses);
+        when(repository.findByCategoryKey("plastico", "Plásticos")).thenReturn(businesses);
 
         // When
         List<Business> result = service.searchByCategory("Plásticos");
@@ -101,7 +113,24 @@ class BusinessServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getCategory()).isEqualTo("Plásticos");
-        verify(repository, times(1)).findByCategoryIgnoreCase("Plásticos");
+        verify(repository, times(1)).findByCategoryKey("plastico", "Plásticos");
+    }
+
+    @Test
+    void shouldFallBackToSubstringWhenCategoryKeyDoesNotMatch() {
+        // Given - "Panadería y Pastelería" no coincide por clave exacta ni por prefijo
+        Business bakery = new Business();
+        bakery.setName("Dulce Horno");
+        bakery.setCategory("Panadería y Pastelería");
+        when(repository.findByCategoryKey("pasteleria", "pasteleria")).thenReturn(List.of());
+        when(repository.findByCategoryKeyPrefix("pasteleria")).thenReturn(List.of());
+        when(repository.findByCategoryContaining("pasteleria", "pasteleria")).thenReturn(List.of(bakery));
+
+        // When
+        List<Business> result = service.searchByCategory("pasteleria");
+
+        // Then
+        assertThat(result).containsExactly(bakery);
     }
 
     // TODO: Re-enable when location field is restored
@@ -233,4 +262,27 @@ class BusinessServiceTest {
         assertThat(result).contains("Plásticos", "Distribución", "Alimentos");
         verify(repository, times(1)).findDistinctCategories();
     }
+
+    @Test
+    void shouldCountNewActiveBusinessOnlyAfterCommit() {
+        // Given: un negocio nuevo dentro de una transacción
+        Business business = new Business();
+        business.setName("Panadería Nueva");
+        business.setIsActive(true);
+        when(repository.save(business)).thenReturn(business);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            service.saveBusiness(business);
+
+            // Then: sin consultar el estado previo y sin tocar el contador antes del commit
+            verify(repository, never()).findById(any());
+            verify(activityCounterService, never()).addActiveBusinesses(anyLong());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(activityCounterService).addActiveBusinesses(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }
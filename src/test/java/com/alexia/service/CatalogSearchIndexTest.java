@@ -0,0 +1,93 @@
+package com.alexia.service;
+
+import com.alexia.entity.Product;
+import com.alexia.repository.BusinessRepository;
+import com.alexia.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests para CatalogSearchIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogSearchIndexTest {
+
+    private static final int MAX_RESULTS = 5;
+
+    @Mock
+    private BusinessRepository businessRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private CatalogSearchIndex index;
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void shouldPageByIdThroughMoreMatchesThanMaxResults() throws Exception {
+        // Given: 20 vasos cargados en orden inverso de ID, más que max-results
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 20; id >= 1; id--) {
+            rows.add(new Object[]{id, "Vaso " + id, "Desechables", null});
+        }
+        when(businessRepository.findSearchFieldsAfter(eq(0L), any())).thenReturn(List.of());
+        when(productRepository.findSearchFieldsAfter(anyLong(), any())).thenReturn(rows, List.of());
+        index = new CatalogSearchIndex(businessRepository, productRepository, new SimpleMeterRegistry(),
+                true, 3, 12, MAX_RESULTS, 5000);
+        index.init();
+        awaitReady();
+
+        // When: se vuelve a guardar un producto (pasa al final del orden de indexación)
+        index.onProductSaved(product(7L));
+
+        // Then: páginas de 4 sin saltos ni repeticiones
+        List<Long> seen = new ArrayList<>();
+        long afterId = 0;
+        List<Long> page;
+        do {
+            page = index.searchProductsAfter("vaso", afterId, 4).orElseThrow();
+            seen.addAll(page);
+            afterId = page.isEmpty() ? afterId : page.get(page.size() - 1);
+        } while (page.size() == 4);
+        assertThat(seen).hasSize(20).isSorted().doesNotHaveDuplicates();
+        assertThat(index.searchProducts("vaso").orElseThrow()).hasSize(MAX_RESULTS);
+    }
+
+    private void awaitReady() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            Optional<List<Long>> probe = index.searchProducts("vaso");
+            if (probe.isPresent()) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("El índice no terminó de cargar");
+    }
+
+    private Product product(Long id) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Vaso " + id);
+        product.setCategory("Desechables");
+        product.setIsActive(true);
+        return product;
+    }
+}
@@ -0,0 +1,70 @@
+package com.alexia.service;
+
+import com.alexia.dto.GrokMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para ConversationStore.
+ */
+class ConversationStoreTest {
+
+    @Test
+    void shouldKeepOnlyLastMessagesInOrder() {
+        // Given
+        ConversationStore store = new ConversationStore(3, 60, 1_000_000, 60, new SimpleMeterRegistry());
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            store.append(1L, message("m" + i));
+        }
+
+        // Then
+        List<GrokMessage> history = store.history(1L).messages();
+        assertThat(history).extracting(GrokMessage::getContent).containsExactly("m3", "m4", "m5");
+        assertThat(store.getResidentBytes()).isEqualTo(3 * ConversationStore.estimateBytes(message("m1")));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedChatWhenOverBudget() {
+        // Given: presupuesto para dos mensajes
+        long budget = 2 * ConversationStore.estimateBytes(message("xx"));
+        ConversationStore store = new ConversationStore(10, 60, budget, 60, new SimpleMeterRegistry());
+        store.append(1L, message("xx"));
+        store.append(2L, message("xx"));
+        store.history(1L);
+
+        // When
+        store.append(3L, message("xx"));
+
+        // Then: el chat 2 es el menos reciente
+        assertThat(store.size(2L)).isZero();
+        assertThat(store.size(1L)).isEqualTo(1);
+        assertThat(store.size(3L)).isEqualTo(1);
+        assertThat(store.getResidentBytes()).isLessThanOrEqualTo(budget);
+    }
+
+    @Test
+    void shouldEvictIdleChats() {
+        // Given: TTL de 0 minutos
+        ConversationStore store = new ConversationStore(10, 0, 1_000_000, 60, new SimpleMeterRegistry());
+        store.append(1L, message("hola"));
+        store.append(2L, message("hola"));
+
+        // When
+        int evicted = store.evictIdle();
+
+        // Then
+        assertThat(evicted).isEqualTo(2);
+        assertThat(store.getResidentChats()).isZero();
+        assertThat(store.getResidentBytes()).isZero();
+    }
+
+    private static GrokMessage message(String content) {
+        return GrokMessage.builder().role("user").content(content).build();
+    }
+}
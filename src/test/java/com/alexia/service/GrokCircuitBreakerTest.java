@@ -0,0 +1,97 @@
+package com.alexia.service;
+
+import com.alexia.service.GrokCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para GrokCircuitBreaker.
+ */
+class GrokCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong now = new AtomicLong();
+    private GrokCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        // Ventana de 10, mínimo 4 llamadas, 50% de fallos, lenta >= 1s, abierto 30s, 2 pruebas
+        breaker = new GrokCircuitBreaker(10, 4, 0.5, 1000, 0.8, 30_000, 2, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateExceedsThreshold() {
+        // Given
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onFailure(FAST, 0);
+
+        // When
+        breaker.onFailure(FAST, 0);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void shouldProbeAfterOpenIntervalAndCloseWhenProbesSucceed() {
+        // Given
+        openBreaker(0);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // When: medio abierto, solo dos llamadas de prueba
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shouldReopenWhenProbeFailsAndHonourRetryAfter() {
+        // Given
+        openBreaker(0);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        // When: la prueba recibe un 429 con Retry-After de 120s
+        breaker.onFailure(FAST, 120_000);
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertThat(breaker.tryAcquire()).isFalse();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shouldOpenWhenMostCallsAreSlow() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(TimeUnit.SECONDS.toNanos(2));
+        }
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    private void openBreaker(long retryAfterMillis) {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(FAST, retryAfterMillis);
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+}
@@ -0,0 +1,67 @@
+package com.alexia.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para GrokModelRouter.
+ */
+class GrokModelRouterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(3);
+
+    private final AtomicLong now = new AtomicLong();
+    private GrokModelRouter router;
+
+    @BeforeEach
+    void setUp() {
+        // Intención: SLO 1s con alternativa; ventana de 10, mínimo 10 muestras, failover de 60s
+        router = new GrokModelRouter("small", "backup", 1000, "large", "", 8000, "small", "", 15000,
+                10, 10, 60_000, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    void shouldUseConfiguredModelPerRoute() {
+        assertThat(router.modelFor(GrokModelRouter.INTENT)).isEqualTo("small");
+        assertThat(router.modelFor(GrokModelRouter.CONVERSATION)).isEqualTo("large");
+        assertThat(router.modelFor(GrokModelRouter.SUMMARY)).isEqualTo("small");
+    }
+
+    @Test
+    void shouldFailOverWhenP95BreachesSloAndReturnAfterCooldown() {
+        // Given: 9 llamadas rápidas
+        for (int i = 0; i < 9; i++) {
+            router.recordLatency(GrokModelRouter.INTENT, "small", FAST, true);
+        }
+        assertThat(router.modelFor(GrokModelRouter.INTENT)).isEqualTo("small");
+
+        // When: la décima es lenta y el p95 supera el SLO
+        router.recordLatency(GrokModelRouter.INTENT, "small", SLOW, true);
+
+        // Then
+        assertThat(router.modelFor(GrokModelRouter.INTENT)).isEqualTo("backup");
+        assertThat(router.isFailedOver(GrokModelRouter.INTENT)).isTrue();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertThat(router.modelFor(GrokModelRouter.INTENT)).isEqualTo("small");
+    }
+
+    @Test
+    void shouldNotFailOverWithoutFallbackModel() {
+        // When: conversación sin alternativa, todas las llamadas fallan
+        for (int i = 0; i < 10; i++) {
+            router.recordLatency(GrokModelRouter.CONVERSATION, "large", FAST, false);
+        }
+
+        // Then
+        assertThat(router.modelFor(GrokModelRouter.CONVERSATION)).isEqualTo("large");
+        assertThat(router.getPrimaryP95Millis(GrokModelRouter.CONVERSATION)).isGreaterThanOrEqualTo(8000);
+    }
+}
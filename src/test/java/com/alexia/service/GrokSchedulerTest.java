@@ -0,0 +1,93 @@
+package com.alexia.service;
+
+import com.alexia.service.GrokScheduler.Permit;
+import com.alexia.service.GrokScheduler.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para GrokScheduler.
+ */
+class GrokSchedulerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAR = TimeUnit.HOURS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+    private GrokScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // Límite inicial 1 (mínimo 1, máximo 4), cola de 10, reducción × 0.5, lenta >= 1s
+        scheduler = new GrokScheduler(1, 1, 4, 10, 0.5, 1000, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    void shouldGrantHigherPriorityFirst() {
+        // Given: el único permiso está ocupado
+        Permit running = scheduler.acquire(Priority.NORMAL, 1L, FAR).join();
+        CompletableFuture<Permit> summary = scheduler.acquire(Priority.LOW, null, FAR);
+        CompletableFuture<Permit> chat = scheduler.acquire(Priority.NORMAL, 2L, FAR);
+        CompletableFuture<Permit> intent = scheduler.acquire(Priority.HIGH, 3L, FAR);
+
+        // When
+        running.release();
+
+        // Then
+        assertThat(intent).isCompleted();
+        assertThat(chat).isNotDone();
+        assertThat(summary).isNotDone();
+    }
+
+    @Test
+    void shouldTakeTurnsAcrossChatsWithinPriority() {
+        // Given: el chat 1 encola dos mensajes antes que el chat 2
+        Permit running = scheduler.acquire(Priority.NORMAL, 9L, FAR).join();
+        CompletableFuture<Permit> first = scheduler.acquire(Priority.NORMAL, 1L, FAR);
+        CompletableFuture<Permit> second = scheduler.acquire(Priority.NORMAL, 1L, FAR);
+        CompletableFuture<Permit> other = scheduler.acquire(Priority.NORMAL, 2L, FAR);
+
+        // When
+        running.release();
+        first.join().release();
+
+        // Then: le toca al chat 2 antes que al segundo mensaje del chat 1
+        assertThat(other).isCompleted();
+        assertThat(second).isNotDone();
+    }
+
+    @Test
+    void shouldRejectWhenDeadlineCannotBeMet() {
+        // Given: latencia observada de 2s y el permiso ocupado
+        scheduler.acquire(Priority.NORMAL, 1L, FAR).join().onSuccess(TimeUnit.SECONDS.toNanos(2));
+        scheduler.acquire(Priority.NORMAL, 1L, FAR).join();
+
+        // When: plazo de 1s
+        CompletableFuture<Permit> late = scheduler.acquire(Priority.HIGH, 2L, TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        assertThat(late).isCompletedExceptionally();
+        assertThat(scheduler.getQueued()).isZero();
+    }
+
+    @Test
+    void shouldIncreaseLimitOnSuccessAndDecreaseOnCongestion() {
+        // Given
+        scheduler.acquire(Priority.NORMAL, 1L, FAR).join().onSuccess(FAST);
+        assertThat(scheduler.getLimit()).isEqualTo(2.0);
+
+        // When
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        scheduler.acquire(Priority.NORMAL, 1L, FAR).join().onFailure();
+
+        // Then
+        assertThat(scheduler.getLimit()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,83 @@
+package com.alexia.service;
+
+import com.alexia.dto.GrokMessage;
+import com.alexia.dto.GrokRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para GrokWireCodec.
+ */
+class GrokWireCodecTest {
+
+    private static final String PROMPT = "Eres un asistente útil. Respondes en español con \"comillas\".";
+
+    private final GrokWireCodec codec = new GrokWireCodec(List.of(PROMPT));
+
+    @Test
+    void shouldWriteSameJsonAsObjectMapper() throws Exception {
+        // Given
+        GrokRequest request = GrokRequest.builder()
+                .model("llama-3.1-8b-instant")
+                .messages(List.of(
+                        GrokMessage.builder().role("system").content(PROMPT).build(),
+                        GrokMessage.builder().role("user").content("¿Dónde hay café?\n").build()))
+                .temperature(0.1)
+                .maxTokens(150)
+                .responseFormat(Map.of("type", "json_object"))
+                .build();
+
+        // When
+        Buffer buffer = new Buffer();
+        codec.writeRequest(request, buffer);
+
+        // Then: mismo contenido que la serialización de Jackson (sin los campos nulos)
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode written = mapper.readTree(buffer.readUtf8());
+        assertThat(written).isEqualTo(mapper.valueToTree(request));
+    }
+
+    @Test
+    void shouldReadOnlyContentAndUsageFromCompletion() throws Exception {
+        // Given
+        String body = "{\"id\":\"x\",\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"Hola \\u00e1\"},"
+                + "\"logprobs\":null,\"finish_reason\":\"stop\"},{\"message\":{\"content\":\"otra\"}}],"
+                + "\"usage\":{\"queue_time\":0.01,\"prompt_tokens\":12,\"completion_tokens\":3,\"total_tokens\":15},"
+                + "\"x_groq\":{\"id\":\"req\"}}";
+
+        // When
+        GrokWireCodec.Completion completion = codec.readCompletion(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(completion.content()).isEqualTo("Hola á");
+        assertThat(completion.promptTokens()).isEqualTo(12);
+        assertThat(completion.completionTokens()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReadDeltaAndGroqUsageFromStreamChunk() throws Exception {
+        // When
+        GrokWireCodec.Completion token = codec.readChunk(
+                "{\"choices\":[{\"index\":0,\"delta\":{\"content\":\"Ho\"}}],\"usage\":null}");
+        GrokWireCodec.Completion last = codec.readChunk(
+                "{\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"stop\"}],"
+                        + "\"x_groq\":{\"usage\":{\"prompt_tokens\":20,\"completion_tokens\":7}}}");
+
+        // Then
+        assertThat(token.content()).isEqualTo("Ho");
+        assertThat(token.promptTokens()).isNull();
+        assertThat(last.content()).isNull();
+        assertThat(last.promptTokens()).isEqualTo(20);
+        assertThat(last.completionTokens()).isEqualTo(7);
+    }
+}
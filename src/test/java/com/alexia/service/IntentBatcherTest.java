@@ -0,0 +1,103 @@
+package com.alexia.service;
+
+import com.alexia.dto.GrokIntent;
+import com.alexia.dto.GrokIntent.IntentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests para IntentBatcher.
+ */
+@ExtendWith(MockitoExtension.class)
+class IntentBatcherTest {
+
+    @Mock
+    private GrokService grokService;
+
+    @Test
+    void shouldClassifyFullBatchWithSingleCall() {
+        // Given: lote de 2 con una ventana larga, solo sale por tamaño
+        IntentBatcher batcher = new IntentBatcher(grokService, new SimpleMeterRegistry(), true, 2, 60_000);
+        when(grokService.detectIntentBatchAsync(1L, List.of("cafe", "hola"))).thenReturn(CompletableFuture.completedFuture(
+                List.of(intent(IntentType.PRODUCT_SEARCH), intent(IntentType.GENERAL_QUERY))));
+
+        // When
+        CompletableFuture<GrokIntent> first = batcher.classify(1L, "cafe");
+        CompletableFuture<GrokIntent> second = batcher.classify(2L, "hola");
+
+        // Then
+        assertThat(first.join().getIntent()).isEqualTo(IntentType.PRODUCT_SEARCH);
+        assertThat(second.join().getIntent()).isEqualTo(IntentType.GENERAL_QUERY);
+        verify(grokService, never()).detectIntentAsync(any(), any());
+    }
+
+    @Test
+    void shouldFallBackToSingleCallForMissingEntry() {
+        // Given: el modelo omitió el segundo mensaje
+        IntentBatcher batcher = new IntentBatcher(grokService, new SimpleMeterRegistry(), true, 2, 60_000);
+        when(grokService.detectIntentBatchAsync(1L, List.of("cafe", "registrarme"))).thenReturn(
+                CompletableFuture.completedFuture(Arrays.asList(intent(IntentType.PRODUCT_SEARCH), null)));
+        when(grokService.detectIntentAsync(2L, "registrarme"))
+                .thenReturn(CompletableFuture.completedFuture(intent(IntentType.LEAD_CAPTURE)));
+
+        // When
+        batcher.classify(1L, "cafe");
+        CompletableFuture<GrokIntent> second = batcher.classify(2L, "registrarme");
+
+        // Then
+        assertThat(second.join().getIntent()).isEqualTo(IntentType.LEAD_CAPTURE);
+    }
+
+    @Test
+    void shouldFallBackToGeneralQueryWhenCallsFail() {
+        // Given: el lote se cancela y la llamada individual de reserva también falla
+        IntentBatcher batcher = new IntentBatcher(grokService, new SimpleMeterRegistry(), true, 2, 60_000);
+        CompletableFuture<List<GrokIntent>> cancelled = new CompletableFuture<>();
+        cancelled.cancel(true);
+        when(grokService.detectIntentBatchAsync(1L, List.of("cafe", "hola"))).thenReturn(cancelled);
+        when(grokService.detectIntentAsync(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("sin red")));
+
+        // When
+        CompletableFuture<GrokIntent> first = batcher.classify(1L, "cafe");
+        CompletableFuture<GrokIntent> second = batcher.classify(2L, "hola");
+
+        // Then
+        assertThat(first.join().getIntent()).isEqualTo(IntentType.GENERAL_QUERY);
+        assertThat(second.join().getIntent()).isEqualTo(IntentType.GENERAL_QUERY);
+    }
+
+    @Test
+    void shouldCompleteBatchWhenDispatchThrows() {
+        // Given
+        IntentBatcher batcher = new IntentBatcher(grokService, new SimpleMeterRegistry(), true, 2, 60_000);
+        when(grokService.detectIntentBatchAsync(any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        // When
+        CompletableFuture<GrokIntent> first = batcher.classify(1L, "cafe");
+        CompletableFuture<GrokIntent> second = batcher.classify(2L, "hola");
+
+        // Then
+        assertThat(first.join().getIntent()).isEqualTo(IntentType.GENERAL_QUERY);
+        assertThat(second.join().getIntent()).isEqualTo(IntentType.GENERAL_QUERY);
+    }
+
+    private static GrokIntent intent(IntentType type) {
+        GrokIntent intent = new GrokIntent();
+        intent.setIntent(type);
+        return intent;
+    }
+}
@@ -0,0 +1,83 @@
+package com.alexia.service;
+
+import com.alexia.dto.GrokIntent;
+import com.alexia.dto.GrokIntent.IntentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para IntentCache.
+ */
+class IntentCacheTest {
+
+    private IntentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IntentCache(2, 60, 0.75, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldShareEntryBetweenEquivalentPhrasings() {
+        // Given
+        cache.put("Panaderías cerca", intent(IntentType.BUSINESS_SEARCH, "panaderias", 0.95));
+
+        // When / Then
+        assertThat(cache.get("  panaderias   CERCA!")).get()
+                .extracting(GrokIntent::getIntent).isEqualTo(IntentType.BUSINESS_SEARCH);
+    }
+
+    @Test
+    void shouldNotCacheLeadCaptureOrLowConfidence() {
+        // When
+        cache.put("quiero registrarme", intent(IntentType.LEAD_CAPTURE, null, 0.95));
+        cache.put("algo raro", intent(IntentType.GENERAL_QUERY, null, 0.3));
+
+        // Then
+        assertThat(cache.get("quiero registrarme")).isEmpty();
+        assertThat(cache.get("algo raro")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentEntryUnlessItIsMoreFrequent() {
+        // Given - "pan" se pidió una vez y es la menos reciente; "cafe" se pide muchas veces
+        cache.put("pan", intent(IntentType.PRODUCT_SEARCH, "pan", 0.9));
+        cache.put("cafe", intent(IntentType.PRODUCT_SEARCH, "cafe", 0.9));
+        cache.get("pan");
+        for (int i = 0; i < 5; i++) {
+            cache.get("cafe");
+        }
+
+        // When - llega un texto nuevo con la misma frecuencia que "pan"
+        cache.get("tornillos");
+        cache.put("tornillos", intent(IntentType.PRODUCT_SEARCH, "tornillos", 0.9));
+
+        // Then - desplaza a "pan"
+        assertThat(cache.get("pan")).isEmpty();
+        assertThat(cache.get("tornillos")).isPresent();
+
+        // When - ahora la menos reciente es "cafe", más frecuente que el candidato
+        cache.get("clavos");
+        cache.put("clavos", intent(IntentType.PRODUCT_SEARCH, "clavos", 0.9));
+
+        // Then - el candidato no se admite
+        assertThat(cache.get("clavos")).isEmpty();
+        assertThat(cache.get("cafe")).isPresent();
+
+        // When - vaciado manual
+        assertThat(cache.invalidateAll()).isEqualTo(2);
+        assertThat(cache.get("cafe")).isEmpty();
+    }
+
+    private GrokIntent intent(IntentType type, String searchTerm, double confidence) {
+        GrokIntent intent = new GrokIntent();
+        intent.setIntent(type);
+        intent.setSearchTerm(searchTerm);
+        intent.setConfidence(confidence);
+        return intent;
+    }
+}
@@ -0,0 +1,67 @@
+package com.alexia.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para InvertedIndex.
+ */
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex(3, 12);
+
+    @Test
+    void shouldMatchAllWordsByPrefixIgnoringAccents() {
+        // Given
+        index.put(1L, "Panadería La Espiga Panaderías", "Pan de masa madre");
+        index.put(2L, "Café del Centro Cafeterías", "Café de especialidad y pan dulce");
+        index.put(3L, "Vasos de plástico Desechables", null);
+
+        // When / Then
+        assertThat(index.search("panaderia", 10)).containsExactly(1L);
+        assertThat(index.search("PAN", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("cafe pan", 10)).containsExactly(2L);
+        assertThat(index.search("plástico", 10)).containsExactly(3L);
+        assertThat(index.search("madre", 10)).containsExactly(1L);
+        // la descripción solo se indexa por palabra completa
+        assertThat(index.search("especial", 10)).isEmpty();
+        assertThat(index.search("ferreteria", 10)).isEmpty();
+        assertThat(index.search("  ¿? ", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceAndRemoveDocuments() {
+        // Given
+        index.put(1L, "Ferretería Central", null);
+        index.put(2L, "Ferretería Norte", null);
+
+        // When
+        index.put(1L, "Librería Central", null);
+        index.remove(2L);
+
+        // Then
+        assertThat(index.search("ferreteria", 10)).isEmpty();
+        assertThat(index.search("libreria central", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepResultsAfterCompactionAndHonorLimit() {
+        // Given: suficientes borrados para compactar
+        for (long id = 0; id < 5000; id++) {
+            index.put(id, "producto " + (id % 2 == 0 ? "par" : "impar"), null);
+        }
+        for (long id = 0; id < 3000; id++) {
+            index.remove(id);
+        }
+
+        // When
+        long[] pares = index.search("producto par", 5000);
+
+        // Then
+        assertThat(index.size()).isEqualTo(2000);
+        assertThat(pares).hasSize(1000).startsWith(3000L, 3002L);
+        assertThat(index.search("producto", 5)).containsExactly(3000L, 3001L, 3002L, 3003L, 3004L);
+    }
+}
@@ -0,0 +1,79 @@
+package com.alexia.service;
+
+import com.alexia.dto.GrokIntent;
+import com.alexia.dto.GrokIntent.IntentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para LocalIntentClassifier.
+ * Verifica que los mensajes obvios se clasifican sin Grok y que los dudosos se delegan.
+ */
+class LocalIntentClassifierTest {
+
+    private LocalIntentClassifier classifier;
+
+    @BeforeEach
+    void setUp() {
+        classifier = new LocalIntentClassifier(0.85, 40, 5000);
+    }
+
+    @Test
+    void shouldClassifyObviousMessagesLocally() {
+        assertIntent("Hola, ¿cómo estás?", IntentType.GENERAL_QUERY, null);
+        assertIntent("busco tornillos", IntentType.PRODUCT_SEARCH, "tornillos");
+        assertIntent("¿Dónde hay una panadería?", IntentType.BUSINESS_SEARCH, "panaderia");
+        assertIntent("Busca ferreterías cerca", IntentType.BUSINESS_SEARCH, "ferreterias");
+        assertIntent("¿Quién vende vasos más barato?", IntentType.COMPARE_PRICES, "vasos");
+    }
+
+    @Test
+    void shouldDeferLeadCaptureAndOpenQuestionsToGrok() {
+        assertThat(classifier.classify("quiero registrarme como cliente")).isEmpty();
+        assertThat(classifier.classify("necesito ayuda con mi pedido")).isEmpty();
+        assertThat(classifier.classify("cuéntame algo sobre Bogotá")).isEmpty();
+    }
+
+    @Test
+    void shouldExtractCandidateSearchTermKeepingAccents() {
+        assertThat(classifier.candidateSearchTerm("¿Dónde venden CAFÉ molido?")).contains("café molido");
+        assertThat(classifier.candidateSearchTerm("hola, busco algo")).contains("algo");
+        assertThat(classifier.candidateSearchTerm("¿dónde hay?")).isEmpty();
+    }
+
+    @Test
+    void shouldStopGrowingVocabularyOnceFull() {
+        // Given
+        int seededVocabulary = classifier.getVocabularySize();
+        LocalIntentClassifier bounded = new LocalIntentClassifier(0.85, 40, seededVocabulary + 3);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            bounded.learn("busco repuesto" + i + " modelo" + i, IntentType.PRODUCT_SEARCH);
+        }
+
+        // Then
+        assertThat(bounded.getVocabularySize()).isEqualTo(seededVocabulary + 3);
+        assertIntent("busco tornillos", IntentType.PRODUCT_SEARCH, "tornillos");
+    }
+
+    @Test
+    void shouldTreatValeAsPriceWord() {
+        assertIntent("¿Cuánto vale el cemento?", IntentType.COMPARE_PRICES, "cemento");
+    }
+
+    private void assertIntent(String message, IntentType expectedType, String expectedTerm) {
+        // When
+        Optional<GrokIntent> intent = classifier.classify(message);
+
+        // Then
+        assertThat(intent).as(message).isPresent();
+        assertThat(intent.get().getIntent()).as(message).isEqualTo(expectedType);
+        assertThat(intent.get().getSearchTerm()).as(message).isEqualTo(expectedTerm);
+        assertThat(intent.get().getConfidence()).as(message).isGreaterThan(0.75);
+    }
+}
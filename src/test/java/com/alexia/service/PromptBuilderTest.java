@@ -0,0 +1,150 @@
+package com.alexia.service;
+
+import com.alexia.config.ExecutorProvider;
+import com.alexia.dto.GrokMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para PromptBuilder.
+ */
+class PromptBuilderTest {
+
+    private ConversationStore store;
+    private PromptBuilder promptBuilder;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store = new ConversationStore(20, 60, 1_000_000, 60, registry);
+        // 100 tokens: sistema (7) + 3 turnos de 100 caracteres (29 tokens cada uno)
+        promptBuilder = new PromptBuilder(store, new ExecutorProvider("platform"), registry, 100, 4.0, 4, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        promptBuilder.shutdown();
+    }
+
+    @Test
+    void shouldPackMostRecentTurnsWithinBudgetAndSummarizeTheRest() throws Exception {
+        // Given
+        for (int i = 0; i < 8; i++) {
+            store.append(1L, message(i % 2 == 0 ? "user" : "assistant", i + "x".repeat(99)));
+        }
+        CompletableFuture<String> transcript = new CompletableFuture<>();
+
+        // When
+        List<GrokMessage> prompt = promptBuilder.build(1L, "Eres útil.", text -> {
+            transcript.complete(text);
+            return "El usuario busca pan.";
+        });
+
+        // Then: sistema + los 3 turnos más recientes que caben
+        assertThat(prompt.get(0).getRole()).isEqualTo("system");
+        assertThat(prompt).hasSize(4);
+        assertThat(prompt.get(1).getContent()).startsWith("5");
+        assertThat(prompt.get(3).getContent()).startsWith("7");
+        assertThat(transcript.get(5, TimeUnit.SECONDS)).contains("Usuario: 0").doesNotContain("Asistente: 7");
+
+        // Y la siguiente llamada incluye el resumen
+        waitForSummary();
+        assertThat(promptBuilder.build(1L, "Eres útil.", text -> null))
+                .extracting(GrokMessage::getContent)
+                .anyMatch(content -> content.contains("El usuario busca pan."));
+    }
+
+    @Test
+    void shouldAlwaysIncludeLatestMessageEvenIfOverBudget() {
+        // Given
+        store.append(2L, message("user", "y".repeat(1000)));
+
+        // When
+        List<GrokMessage> prompt = promptBuilder.build(2L, "Eres útil.", text -> null);
+
+        // Then
+        assertThat(prompt).hasSize(2);
+    }
+
+    @Test
+    void shouldAppendPendingMessageWithoutStoringIt() {
+        // Given
+        store.append(3L, message("user", "hola"));
+        store.append(3L, message("assistant", "¿En qué te ayudo?"));
+
+        // When
+        List<GrokMessage> prompt = promptBuilder.build(3L, "Eres útil.", message("user", "busco pan"), text -> null);
+
+        // Then
+        assertThat(prompt).extracting(GrokMessage::getContent)
+                .containsExactly("Eres útil.", "hola", "¿En qué te ayudo?", "busco pan");
+        assertThat(store.history(3L).messages()).hasSize(2);
+    }
+
+    @Test
+    void shouldSummarizeTurnsBeforeRingDropsThemEvenIfTheyFit() throws Exception {
+        // Given: buffer de 10 mensajes y presupuesto holgado; con 8 guardados los 2 más antiguos
+        // están a 2 mensajes (summaryMinTurns) de descartarse
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store = new ConversationStore(10, 60, 1_000_000, 60, registry);
+        PromptBuilder roomy = new PromptBuilder(store, new ExecutorProvider("platform"), registry, 10_000, 4.0, 2, 1);
+        for (int i = 0; i < 8; i++) {
+            store.append(1L, message(i % 2 == 0 ? "user" : "assistant", "turno " + i));
+        }
+        CompletableFuture<String> transcript = new CompletableFuture<>();
+
+        try {
+            // When
+            List<GrokMessage> prompt = roomy.build(1L, "Eres útil.", text -> {
+                transcript.complete(text);
+                return "El usuario saludó.";
+            });
+
+            // Then: todos caben, pero los 2 más antiguos se resumen
+            assertThat(prompt).hasSize(9);
+            assertThat(transcript.get(5, TimeUnit.SECONDS))
+                    .contains("Usuario: turno 0", "Asistente: turno 1").doesNotContain("turno 2");
+
+            // Y la siguiente llamada usa el resumen en lugar de esos turnos
+            waitForSummary();
+            assertThat(roomy.build(1L, "Eres útil.", text -> null))
+                    .extracting(GrokMessage::getContent)
+                    .doesNotContain("turno 0", "turno 1")
+                    .contains("turno 2", "turno 7")
+                    .anyMatch(content -> content.contains("El usuario saludó."));
+        } finally {
+            roomy.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRecordPromptTokensPerChat() {
+        // Given
+        store.append(4L, message("user", "hola"));
+
+        // When
+        promptBuilder.recordUsage(4L, 321, 12);
+
+        // Then
+        assertThat(store.getPromptTokens(4L)).isEqualTo(321);
+        assertThat(store.getPromptTokens(5L)).isZero();
+    }
+
+    private void waitForSummary() throws InterruptedException {
+        for (int i = 0; i < 50 && store.history(1L).summary() == null; i++) {
+            Thread.sleep(100);
+        }
+    }
+
+    private static GrokMessage message(String role, String content) {
+        return GrokMessage.builder().role(role).content(content).build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.alexia.service;
+
+import com.alexia.config.ExecutorProvider;
+import com.alexia.dto.ResultPage;
+import com.alexia.service.SpeculativeRetrievalService.Speculation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests para SpeculativeRetrievalService.
+ */
+@ExtendWith(MockitoExtension.class)
+class SpeculativeRetrievalServiceTest {
+
+    @Mock
+    private LocalIntentClassifier localIntentClassifier;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private SearchService searchService;
+
+    private SpeculativeRetrievalService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldInterruptRunningSearchesOnCancel() throws Exception {
+        // Given: las dos búsquedas quedan bloqueadas hasta que se las interrumpa
+        service = new SpeculativeRetrievalService(localIntentClassifier, productService, searchService,
+                new ExecutorProvider("platform"), new SimpleMeterRegistry(), true, 2, 2000);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        when(localIntentClassifier.candidateSearchTerm("busco pan")).thenReturn(Optional.of("pan"));
+        when(productService.searchProductsPage("pan", 0))
+                .thenAnswer(invocation -> blockUntilInterrupted(started, interrupted));
+        when(searchService.searchInternalPage("pan", 0))
+                .thenAnswer(invocation -> blockUntilInterrupted(started, interrupted));
+        Speculation speculation = service.start("busco pan");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: la intención no era una búsqueda
+        speculation.cancel();
+
+        // Then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static ResultPage<?> blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+        started.countDown();
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return null;
+    }
+}
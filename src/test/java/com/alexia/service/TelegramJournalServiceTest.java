@@ -0,0 +1,100 @@
+package com.alexia.service;
+
+import com.alexia.dto.JournalEntry;
+import com.alexia.dto.TelegramMessageDTO;
+import com.alexia.repository.JournalBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests para TelegramJournalService.
+ * Verifica el respaldo en archivo cuando la base de datos falla y su reproducción al recuperarse.
+ */
+@ExtendWith(MockitoExtension.class)
+class TelegramJournalServiceTest {
+
+    @Mock
+    private JournalBatchRepository batchRepository;
+
+    @Mock
+    private ActivityCounterService activityCounterService;
+
+    @TempDir
+    Path tempDir;
+
+    private ObjectMapper objectMapper;
+    private Path spillFile;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        spillFile = tempDir.resolve("journal.log");
+    }
+
+    @Test
+    void shouldSpillToFileWhenDatabaseFailsAndReplayOnRecovery() throws Exception {
+        // Given - base de datos caída
+        doThrow(new DataAccessResourceFailureException("db down")).when(batchRepository).insertBatch(anyList());
+        TelegramJournalService failing = createService();
+
+        // When
+        failing.recordMessage(message(1L, "hola"));
+        failing.recordMessage(message(2L, "busco tornillos"));
+        failing.shutdown();
+
+        // Then - los registros quedan en el archivo de respaldo
+        assertThat(Files.readAllLines(spillFile)).hasSize(2);
+
+        // Given - base de datos recuperada (el servicio reutiliza la lista del lote: se copian los IDs al escribir)
+        reset(batchRepository);
+        List<List<Long>> written = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<JournalEntry> batch = invocation.getArgument(0);
+            written.add(batch.stream().map(JournalEntry::getChatId).toList());
+            return null;
+        }).when(batchRepository).insertBatch(anyList());
+        TelegramJournalService recovered = createService();
+
+        // When
+        recovered.recordMessage(message(3L, "panaderías cerca"));
+        recovered.shutdown();
+
+        // Then - primero se reproduce el respaldo y luego lo nuevo, en orden
+        assertThat(written).containsExactly(List.of(1L, 2L), List.of(3L));
+        assertThat(Files.exists(spillFile)).isFalse();
+    }
+
+    private TelegramJournalService createService() {
+        return new TelegramJournalService(batchRepository, activityCounterService, objectMapper, new SimpleMeterRegistry(),
+                100, 3_600_000L, 1000, 0L, spillFile.toString());
+    }
+
+    private TelegramMessageDTO message(Long chatId, String text) {
+        return TelegramMessageDTO.builder()
+                .chatId(chatId)
+                .userName("testuser")
+                .firstName("Test")
+                .messageText(text)
+                .botResponse("ok")
+                .build();
+    }
+}
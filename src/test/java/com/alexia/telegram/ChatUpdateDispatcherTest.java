@@ -0,0 +1,62 @@
+package com.alexia.telegram;
+
+import com.alexia.config.ExecutorProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para ChatUpdateDispatcher.
+ */
+class ChatUpdateDispatcherTest {
+
+    private final ChatUpdateDispatcher dispatcher =
+            new ChatUpdateDispatcher(1, 100, new ExecutorProvider("platform"), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void shouldKeepProcessingChatAfterTaskThrowsError() throws InterruptedException {
+        // Given
+        CountDownLatch processed = new CountDownLatch(1);
+
+        // When: la primera tarea lanza un Error, no una Exception
+        dispatcher.dispatch(1L, () -> {
+            throw new AssertionError("fallo inesperado");
+        });
+        dispatcher.dispatch(1L, processed::countDown);
+
+        // Then
+        assertThat(processed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldHoldChatButReleaseThreadWhileAsyncTaskIsPending() throws InterruptedException {
+        // Given: un solo hilo y una tarea del chat 1 que espera (p. ej. a Grok)
+        CompletableFuture<Void> grokReply = new CompletableFuture<>();
+        CountDownLatch otherChat = new CountDownLatch(1);
+        CountDownLatch nextInChat = new CountDownLatch(1);
+        dispatcher.dispatchAsync(1L, () -> grokReply);
+        dispatcher.dispatch(1L, nextInChat::countDown);
+
+        // When
+        dispatcher.dispatch(2L, otherChat::countDown);
+
+        // Then: el otro chat usa el hilo; el chat 1 sigue en orden hasta que llega la respuesta
+        assertThat(otherChat.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(nextInChat.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+
+        grokReply.complete(null);
+        assertThat(nextInChat.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
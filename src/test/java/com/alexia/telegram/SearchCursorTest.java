@@ -0,0 +1,46 @@
+package com.alexia.telegram;
+
+import com.alexia.telegram.SearchCursor.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para SearchCursor.
+ */
+class SearchCursorTest {
+
+    @Test
+    void shouldRoundTripThroughCallbackData() {
+        // Given
+        SearchCursor cursor = new SearchCursor(Kind.PRODUCTS, 1_234_567L, 11, "vasos | platos de cartón");
+
+        // When
+        String data = cursor.toCallbackData().orElseThrow();
+
+        // Then
+        assertThat(data.getBytes(StandardCharsets.UTF_8)).hasSizeLessThanOrEqualTo(SearchCursor.MAX_CALLBACK_DATA_BYTES);
+        assertThat(SearchCursor.parse(data)).contains(cursor);
+    }
+
+    @Test
+    void shouldNotEncodeQueriesThatDoNotFitIn64Bytes() {
+        // Given: 30 caracteres con tilde = 60 bytes en UTF-8
+        SearchCursor cursor = new SearchCursor(Kind.BUSINESSES, 42L, 6, "á".repeat(30));
+
+        // When / Then
+        assertThat(cursor.toCallbackData()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectForeignOrMalformedCallbackData() {
+        assertThat(SearchCursor.parse(null)).isEmpty();
+        assertThat(SearchCursor.parse("lead|accept")).isEmpty();
+        assertThat(SearchCursor.parse("m|x|1|2|vasos")).isEmpty();
+        assertThat(SearchCursor.parse("m|p|zz!|2|vasos")).isEmpty();
+        assertThat(SearchCursor.parse("m|p|1|0|vasos")).isEmpty();
+        assertThat(SearchCursor.parse("m|p|1|2| ")).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package com.alexia.telegram;
+
+import com.alexia.telegram.StreamingReplyFactory.StreamingReply;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests para StreamingReplyFactory.
+ * Verifica que la edición final reserva su lugar en la cola detrás del mensaje inicial.
+ */
+@ExtendWith(MockitoExtension.class)
+class StreamingReplyFactoryTest {
+
+    private static final Long CHAT_ID = 7L;
+
+    @Mock
+    private TelegramOutboundSender outboundSender;
+
+    private final CompletableFuture<Integer> initialMessage = new CompletableFuture<>();
+    private StreamingReply reply;
+
+    @BeforeEach
+    void setUp() {
+        when(outboundSender.enqueueForMessageId(CHAT_ID, "Hola, te cuento")).thenReturn(initialMessage);
+        StreamingReplyFactory factory = new StreamingReplyFactory(outboundSender, new SimpleMeterRegistry(),
+                true, 12, 1000);
+        reply = factory.open(CHAT_ID);
+        reply.append("Hola, te cuento");
+    }
+
+    @Test
+    void shouldReserveFinalEditBehindPendingInitialMessage() {
+        // Given
+        String finalText = "Hola, te cuento que hay tres ferreterías cerca.";
+        when(outboundSender.enqueueEditWhenDelivered(CHAT_ID, initialMessage, finalText, false)).thenReturn(true);
+
+        // When: la respuesta termina antes de que Telegram confirme el mensaje inicial
+        boolean streamed = reply.finish(finalText);
+
+        // Then: la edición ya tiene su lugar en la cola, sin esperar la confirmación
+        assertThat(streamed).isTrue();
+        verify(outboundSender).enqueueEditWhenDelivered(CHAT_ID, initialMessage, finalText, false);
+        verify(outboundSender, never()).enqueueEdit(any(), anyInt(), anyString());
+        verify(outboundSender, never()).enqueue(any(), anyString());
+    }
+
+    @Test
+    void shouldQueueOverflowChunksRightAfterFinalEdit() {
+        // Given: respuesta de más de 4096 caracteres
+        String finalText = "Hola, te cuento " + "a".repeat(TelegramMessageSplitter.MAX_MESSAGE_LENGTH);
+        List<String> chunks = TelegramMessageSplitter.split(finalText, TelegramMessageSplitter.MAX_MESSAGE_LENGTH);
+        when(outboundSender.enqueueEditWhenDelivered(eq(CHAT_ID), eq(initialMessage), anyString(), eq(false)))
+                .thenReturn(true);
+
+        // When
+        reply.finish(finalText);
+
+        // Then
+        InOrder inOrder = inOrder(outboundSender);
+        inOrder.verify(outboundSender).enqueueEditWhenDelivered(CHAT_ID, initialMessage, chunks.get(0), false);
+        inOrder.verify(outboundSender).enqueue(CHAT_ID, chunks.get(1));
+    }
+}
@@ -0,0 +1,51 @@
+package com.alexia.telegram;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para TelegramMessageSplitter.
+ */
+class TelegramMessageSplitterTest {
+
+    @Test
+    void shouldNotSplitShortText() {
+        // When
+        List<String> chunks = TelegramMessageSplitter.split("hola", 4096);
+
+        // Then
+        assertThat(chunks).containsExactly("hola");
+    }
+
+    @Test
+    void shouldSplitOnLineBreaksKeepingOrder() {
+        // Given - 3 líneas de 40 caracteres
+        String line = "x".repeat(40);
+        String text = line + "1\n" + line + "2\n" + line + "3";
+
+        // When
+        List<String> chunks = TelegramMessageSplitter.split(text, 90);
+
+        // Then
+        assertThat(chunks).containsExactly(line + "1\n" + line + "2", line + "3");
+        assertThat(chunks).allMatch(chunk -> chunk.length() <= 90);
+    }
+
+    @Test
+    void shouldNotBreakSurrogatePairsOnHardCut() {
+        // Given - texto sin espacios con emojis (2 chars cada uno)
+        String text = "a" + "😀".repeat(10);
+
+        // When
+        List<String> chunks = TelegramMessageSplitter.split(text, 4);
+
+        // Then - ningún fragmento termina o empieza en medio de un emoji
+        assertThat(String.join("", chunks)).isEqualTo(text);
+        assertThat(chunks).allMatch(chunk -> chunk.length() <= 4
+                && !Character.isHighSurrogate(chunk.charAt(chunk.length() - 1))
+                && !Character.isLowSurrogate(chunk.charAt(0)));
+    }
+}
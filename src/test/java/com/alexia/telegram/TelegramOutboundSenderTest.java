@@ -0,0 +1,215 @@
+package com.alexia.telegram;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.methods.updatingmessages.EditMessageText;
+import org.telegram.telegrambots.meta.api.objects.ApiResponse;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.bots.AbsSender;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests para TelegramOutboundSender.
+ */
+@ExtendWith(MockitoExtension.class)
+class TelegramOutboundSenderTest {
+
+    private static final Long CHAT_ID = 7L;
+
+    @Mock
+    private AbsSender absSender;
+
+    private TelegramOutboundSender sender;
+    /** Llamadas a la Bot API en el orden en que salieron, y el instante (System.nanoTime) de cada una. */
+    private final List<BotApiMethod<?>> calls = new CopyOnWriteArrayList<>();
+    private final List<Long> callNanos = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdown();
+    }
+
+    @Test
+    void shouldSendReservedEditInItsPlaceOnceInitialMessageIsConfirmed() throws Exception {
+        // Given: el mensaje inicial queda pendiente en Telegram
+        sender = new TelegramOutboundSender(1000, 1000, 1000, 100, 3, new SimpleMeterRegistry());
+        CompletableFuture<Message> initialSend = new CompletableFuture<>();
+        record(initialSend);
+        sender.bind(absSender);
+
+        // When: la edición final y el resto de la respuesta se encolan antes de la confirmación
+        CompletableFuture<Integer> messageId = sender.enqueueForMessageId(CHAT_ID, "Hola");
+        sender.enqueueEditWhenDelivered(CHAT_ID, messageId, "Hola, todo listo", false);
+        sender.enqueue(CHAT_ID, "Segunda parte");
+        awaitCalls(1);
+        initialSend.complete(message(99));
+        awaitCalls(3);
+
+        // Then: la edición sale antes que lo encolado después, con el message_id confirmado
+        assertThat(calls.get(1)).isInstanceOfSatisfying(EditMessageText.class, edit -> {
+            assertThat(edit.getMessageId()).isEqualTo(99);
+            assertThat(edit.getText()).isEqualTo("Hola, todo listo");
+        });
+        assertThat(calls.get(2)).isInstanceOfSatisfying(SendMessage.class,
+                send -> assertThat(send.getText()).isEqualTo("Segunda parte"));
+    }
+
+    @Test
+    void shouldSendReservedEditAsNewMessageWhenInitialMessageIsDropped() throws Exception {
+        // Given: Telegram rechaza el mensaje inicial
+        sender = new TelegramOutboundSender(1000, 1000, 1000, 100, 3, new SimpleMeterRegistry());
+        record(CompletableFuture.failedFuture(new TelegramApiRequestException("Bad Request")));
+        sender.bind(absSender);
+
+        // When
+        CompletableFuture<Integer> messageId = sender.enqueueForMessageId(CHAT_ID, "Hola");
+        sender.enqueueEditWhenDelivered(CHAT_ID, messageId, "Hola, todo listo", true);
+        awaitCalls(2);
+
+        // Then: la respuesta sale como mensaje nuevo aunque el texto ya se hubiera mostrado
+        assertThat(messageId).isCompletedExceptionally();
+        assertThat(calls.get(1)).isInstanceOfSatisfying(SendMessage.class,
+                send -> assertThat(send.getText()).isEqualTo("Hola, todo listo"));
+    }
+
+    @Test
+    void shouldPaceEachChatAtItsRateWithoutDelayingOthers() throws Exception {
+        // Given: 5 msg/s por chat sin ráfaga, global holgado
+        sender = new TelegramOutboundSender(1000, 5, 1, 100, 3, new SimpleMeterRegistry());
+        record(CompletableFuture.completedFuture(message(1)));
+        sender.bind(absSender);
+
+        // When: tres mensajes para un chat y uno para otro
+        sender.enqueue(CHAT_ID, "uno");
+        sender.enqueue(CHAT_ID, "dos");
+        sender.enqueue(CHAT_ID, "tres");
+        sender.enqueue(8L, "otro chat");
+        awaitCalls(4);
+
+        // Then: el otro chat no espera detrás del primero
+        assertThat(textAt(1)).isEqualTo("otro chat");
+        // Y los mensajes del mismo chat salen cada ~200 ms
+        assertThat(callNanos.get(2) - callNanos.get(0)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(150));
+        assertThat(callNanos.get(3) - callNanos.get(2)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    void shouldPaceAllChatsAtGlobalRate() throws Exception {
+        // Given: 4 msg/s en total (ráfaga de 4), cada chat sin límite propio
+        sender = new TelegramOutboundSender(4, 1000, 1000, 100, 3, new SimpleMeterRegistry());
+        record(CompletableFuture.completedFuture(message(1)));
+        sender.bind(absSender);
+
+        // When: seis chats con un mensaje cada uno
+        for (long chat = 1; chat <= 6; chat++) {
+            sender.enqueue(chat, "hola " + chat);
+        }
+        awaitCalls(6);
+
+        // Then: la ráfaga cubre cuatro; el quinto espera ~250 ms
+        assertThat(callNanos.get(4) - callNanos.get(0)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    void shouldPauseEveryChatAfterRateLimitWithRetryAfter() throws Exception {
+        // Given: Telegram responde 429 con retry_after=1 al primer envío
+        sender = new TelegramOutboundSender(1000, 1000, 1000, 100, 3, new SimpleMeterRegistry());
+        record(CompletableFuture.failedFuture(rateLimited(1)));
+        sender.bind(absSender);
+
+        // When: llega el 429 del chat 7 y después un mensaje de otro chat
+        sender.enqueue(CHAT_ID, "hola");
+        awaitCalls(1);
+        sender.enqueue(8L, "otro chat");
+        awaitCalls(3);
+
+        // Then: el otro chat también esperó el retry_after, y el mensaje limitado se reintentó
+        assertThat(callNanos.get(1) - callNanos.get(0)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(900));
+        assertThat(calls).extracting(call -> ((SendMessage) call).getText())
+                .containsExactlyInAnyOrder("hola", "hola", "otro chat");
+    }
+
+    @Test
+    void shouldCoalescePendingEditsOfSameMessage() throws Exception {
+        // Given: el primer envío del chat queda en vuelo
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sender = new TelegramOutboundSender(1000, 1000, 1000, 100, 3, registry);
+        CompletableFuture<Message> inFlight = new CompletableFuture<>();
+        record(inFlight);
+        sender.bind(absSender);
+        sender.enqueue(CHAT_ID, "Hola");
+        awaitCalls(1);
+
+        // When: tres ediciones del mismo mensaje mientras espera
+        sender.enqueueEdit(CHAT_ID, 5, "Hola, te");
+        sender.enqueueEdit(CHAT_ID, 5, "Hola, te cuento");
+        sender.enqueueEdit(CHAT_ID, 5, "Hola, te cuento todo");
+        inFlight.complete(message(4));
+        awaitCalls(2);
+        Thread.sleep(100);
+
+        // Then: una sola edición, con el texto más reciente
+        assertThat(calls).hasSize(2);
+        assertThat(calls.get(1)).isInstanceOfSatisfying(EditMessageText.class,
+                edit -> assertThat(edit.getText()).isEqualTo("Hola, te cuento todo"));
+        assertThat(registry.get("alexia.outbound.edits.coalesced").counter().count()).isEqualTo(2.0);
+        assertThat(sender.getQueueDepth()).isZero();
+    }
+
+    /**
+     * Registra cada llamada; el primer envío devuelve firstSend y el resto se confirma al instante.
+     */
+    private void record(CompletableFuture<Message> firstSend) throws Exception {
+        when(absSender.executeAsync(any(BotApiMethod.class))).thenAnswer(invocation -> {
+            BotApiMethod<?> method = invocation.getArgument(0);
+            callNanos.add(System.nanoTime());
+            calls.add(method);
+            if (calls.size() == 1) {
+                return firstSend;
+            }
+            return CompletableFuture.completedFuture(
+                    method instanceof SendMessage ? message(100 + calls.size()) : Boolean.TRUE);
+        });
+    }
+
+    private String textAt(int index) {
+        return ((SendMessage) calls.get(index)).getText();
+    }
+
+    private static TelegramApiRequestException rateLimited(int retryAfterSeconds) throws Exception {
+        String json = "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests\","
+                + "\"parameters\":{\"retry_after\":" + retryAfterSeconds + "}}";
+        ApiResponse<Message> response = new ObjectMapper().readValue(json, new TypeReference<ApiResponse<Message>>() { });
+        return new TelegramApiRequestException("Too Many Requests", response);
+    }
+
+    private void awaitCalls(int expected) throws InterruptedException {
+        for (int i = 0; i < 150 && calls.size() < expected; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(calls).hasSizeGreaterThanOrEqualTo(expected);
+    }
+
+    private static Message message(int messageId) {
+        Message message = new Message();
+        message.setMessageId(messageId);
+        return message;
+    }
+}
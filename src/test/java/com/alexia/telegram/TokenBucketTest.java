@@ -0,0 +1,75 @@
+package com.alexia.telegram;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para TokenBucket.
+ */
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldAllowBurstThenPaceAtRate() {
+        // Given: 2 tokens por segundo, ráfaga de 3
+        TokenBucket bucket = new TokenBucket(2, 3, 0);
+
+        // When: se gasta la ráfaga
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.nanosUntilAvailable(0)).isZero();
+            bucket.consume();
+        }
+
+        // Then: el siguiente token llega a los 500 ms
+        assertThat(bucket.nanosUntilAvailable(0)).isEqualTo(SECOND / 2);
+        assertThat(bucket.nanosUntilAvailable(SECOND / 2)).isZero();
+    }
+
+    @Test
+    void shouldNotAccumulateBeyondBurst() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 3, 0);
+
+        // When: pasa mucho tiempo sin envíos
+        long later = 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.nanosUntilAvailable(later)).isZero();
+            bucket.consume();
+        }
+
+        // Then: solo hubo 3 tokens acumulados
+        assertThat(bucket.nanosUntilAvailable(later)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void shouldBlockUntilPauseEndsAndRestartEmpty() {
+        // Given: bucket lleno que recibe un retry_after de 2 s
+        TokenBucket bucket = new TokenBucket(2, 3, 0);
+        bucket.pauseUntil(2 * SECOND);
+
+        // When / Then: bloqueado durante la pausa
+        assertThat(bucket.nanosUntilAvailable(SECOND)).isEqualTo(SECOND);
+
+        // Y al terminar la pausa empieza vacío, sin ráfaga
+        assertThat(bucket.nanosUntilAvailable(2 * SECOND)).isEqualTo(SECOND / 2);
+        assertThat(bucket.nanosUntilAvailable(2 * SECOND + SECOND / 2)).isZero();
+    }
+
+    @Test
+    void shouldKeepLongerPause() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 3, 0);
+        bucket.pauseUntil(5 * SECOND);
+
+        // When: llega un retry_after más corto
+        bucket.pauseUntil(2 * SECOND);
+
+        // Then: la pausa más larga se mantiene, y tras ella no hay ráfaga acumulada
+        assertThat(bucket.nanosUntilAvailable(3 * SECOND)).isEqualTo(2 * SECOND);
+        assertThat(bucket.nanosUntilAvailable(5 * SECOND)).isEqualTo(SECOND / 2);
+    }
+}
@@ -0,0 +1,158 @@
+package com.alexia.telegram;
+
+import com.alexia.entity.TelegramUpdateOffset;
+import com.alexia.repository.TelegramProcessedUpdateRepository;
+import com.alexia.repository.TelegramUpdateOffsetRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests para UpdateDeduplicator.
+ */
+@ExtendWith(MockitoExtension.class)
+class UpdateDeduplicatorTest {
+
+    @Mock
+    private TelegramUpdateOffsetRepository offsetRepository;
+
+    @Mock
+    private TelegramProcessedUpdateRepository processedUpdateRepository;
+
+    private UpdateDeduplicator deduplicator;
+
+    @AfterEach
+    void tearDown() {
+        deduplicator.shutdown();
+    }
+
+    @Test
+    void shouldRejectDuplicatesInsideWindow() {
+        // Given
+        deduplicator = create(Optional.empty());
+
+        // When / Then
+        assertThat(deduplicator.markIfNew(100)).isTrue();
+        assertThat(deduplicator.markIfNew(102)).isTrue();
+        assertThat(deduplicator.markIfNew(101)).isTrue();
+        assertThat(deduplicator.markIfNew(100)).isFalse();
+        assertThat(deduplicator.markIfNew(102)).isFalse();
+        // La ventana (64) avanza y reutiliza posiciones sin falsos duplicados
+        assertThat(deduplicator.markIfNew(164)).isTrue();
+        assertThat(deduplicator.markIfNew(163)).isTrue();
+        // Fuera de la ventana se considera ya procesado
+        assertThat(deduplicator.markIfNew(90)).isFalse();
+    }
+
+    @Test
+    void shouldResumeFromPersistedOffsetAndPersistCompletedWatermark() {
+        // Given - el último update procesado antes del reinicio fue 500
+        deduplicator = create(Optional.of(TelegramUpdateOffset.builder()
+                .botUsername("alexia_bot").lastUpdateId(500L).build()));
+
+        // When / Then - Telegram reenvía lo no confirmado
+        assertThat(deduplicator.markIfNew(499)).isFalse();
+        assertThat(deduplicator.markIfNew(500)).isFalse();
+        assertThat(deduplicator.markIfNew(501)).isTrue();
+
+        // When - termina el procesamiento y se apaga
+        deduplicator.markCompleted(501);
+        deduplicator.shutdown();
+
+        // Then
+        ArgumentCaptor<TelegramUpdateOffset> captor = ArgumentCaptor.forClass(TelegramUpdateOffset.class);
+        verify(offsetRepository).save(captor.capture());
+        assertThat(captor.getValue().getLastUpdateId()).isEqualTo(501L);
+    }
+
+    @Test
+    void shouldPersistOnlyContiguousCompletedWatermark() {
+        // Given - dos chats en paralelo: 102 termina antes que 101
+        deduplicator = create(Optional.empty());
+        deduplicator.markIfNew(101);
+        deduplicator.markIfNew(102);
+        deduplicator.markCompleted(102);
+
+        // When / Then - 101 sigue en proceso: no se puede dar por visto
+        assertThat(deduplicator.completedWatermark()).isEqualTo(100L);
+
+        // When - termina 101
+        deduplicator.markCompleted(101);
+        deduplicator.shutdown();
+
+        // Then
+        ArgumentCaptor<TelegramUpdateOffset> captor = ArgumentCaptor.forClass(TelegramUpdateOffset.class);
+        verify(offsetRepository).save(captor.capture());
+        assertThat(captor.getValue().getLastUpdateId()).isEqualTo(102L);
+    }
+
+    @Test
+    void shouldAdvanceWatermarkOverGapsAndPastUpdatesLeftBehindByWindow() {
+        // Given - huecos en update_id (101-104 nunca llegan)
+        deduplicator = create(Optional.empty());
+        deduplicator.markIfNew(100);
+        deduplicator.markIfNew(105);
+        deduplicator.markCompleted(105);
+        assertThat(deduplicator.completedWatermark()).isEqualTo(99L);
+
+        // When / Then - los huecos no detienen la marca
+        deduplicator.markCompleted(100);
+        assertThat(deduplicator.completedWatermark()).isEqualTo(105L);
+
+        // Given - 106 queda en proceso mientras la ventana (64) lo deja atrás
+        deduplicator.markIfNew(106);
+        deduplicator.markIfNew(200);
+        assertThat(deduplicator.completedWatermark()).isEqualTo(199L);
+
+        // When - termina 200; el 106 tardío ya no toca la posición de otro id
+        deduplicator.markCompleted(200);
+        deduplicator.markCompleted(106);
+
+        // Then
+        assertThat(deduplicator.completedWatermark()).isEqualTo(200L);
+    }
+
+    @Test
+    void shouldClaimUpdatesInDatabaseInWebhookMode() {
+        // Given - otra instancia ya reclamó el 201
+        deduplicator = new UpdateDeduplicator(offsetRepository, processedUpdateRepository,
+                new SimpleMeterRegistry(), "alexia_bot", "webhook", 64, 3_600_000L, 24);
+        deduplicator.init();
+        when(processedUpdateRepository.claim(eq("alexia_bot"), eq(200L), any())).thenReturn(1);
+        when(processedUpdateRepository.claim(eq("alexia_bot"), eq(201L), any())).thenReturn(0);
+
+        // When / Then
+        assertThat(deduplicator.markIfNew(200)).isTrue();
+        assertThat(deduplicator.markIfNew(201)).isFalse();
+        // El duplicado local no vuelve a la BD
+        assertThat(deduplicator.markIfNew(200)).isFalse();
+        verify(processedUpdateRepository, times(1)).claim(eq("alexia_bot"), eq(200L), any());
+
+        // Y no usa la marca de agua por bot
+        deduplicator.markCompleted(200);
+        deduplicator.shutdown();
+        verifyNoInteractions(offsetRepository);
+    }
+
+    private UpdateDeduplicator create(Optional<TelegramUpdateOffset> stored) {
+        when(offsetRepository.findById("alexia_bot")).thenReturn(stored);
+        UpdateDeduplicator created = new UpdateDeduplicator(offsetRepository, processedUpdateRepository,
+                new SimpleMeterRegistry(), "alexia_bot", "polling", 64, 3_600_000L, 24);
+        created.init();
+        return created;
+    }
+}
@@ -0,0 +1,31 @@
+package com.alexia.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests para TextNormalizer.
+ */
+class TextNormalizerTest {
+
+    @Test
+    void shouldNormalizeAccentsCaseAndPunctuation() {
+        assertThat(TextNormalizer.normalize("¿Dónde hay  PANADERÍAS?")).isEqualTo("donde hay panaderias");
+        assertThat(TextNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void shouldFoldSingularAndPluralToSameSearchKey() {
+        assertThat(TextNormalizer.searchKey("Panaderías")).isEqualTo(TextNormalizer.searchKey("panadería"));
+        assertThat(TextNormalizer.searchKey("Vasos Plásticos")).isEqualTo("vaso plastico");
+        assertThat(TextNormalizer.searchKey("flores")).isEqualTo(TextNormalizer.searchKey("Flor"));
+        assertThat(TextNormalizer.searchKey("luces")).isEqualTo(TextNormalizer.searchKey("luz"));
+        assertThat(TextNormalizer.searchKey("calles")).isEqualTo(TextNormalizer.searchKey("calle"));
+        assertThat(TextNormalizer.searchKey("clases")).isEqualTo(TextNormalizer.searchKey("clase"));
+        assertThat(TextNormalizer.searchKey("Cafés")).isEqualTo("cafe");
+        // palabras cortas sin cambios
+        assertThat(TextNormalizer.searchKey("mes gas pan")).isEqualTo("mes gas pan");
+        assertThat(TextNormalizer.searchKey(" ¿? ")).isEmpty();
+    }
+}